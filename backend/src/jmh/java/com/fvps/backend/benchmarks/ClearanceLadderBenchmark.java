@@ -0,0 +1,77 @@
+package com.fvps.backend.benchmarks;
+
+import com.fvps.backend.benchmarks.support.Fixtures;
+import com.fvps.backend.benchmarks.support.Stubs;
+import com.fvps.backend.domain.dto.verification.ClearanceEvaluation;
+import com.fvps.backend.domain.entities.Training;
+import com.fvps.backend.domain.entities.User;
+import com.fvps.backend.domain.entities.UserTrainingStatus;
+import com.fvps.backend.domain.model.SecurityLevelIndex;
+import com.fvps.backend.repositories.UserRepository;
+import com.fvps.backend.repositories.UserTrainingStatusRepository;
+import com.fvps.backend.services.AuditLogService;
+import com.fvps.backend.services.PassRevocationService;
+import com.fvps.backend.services.SecurityLevelIndexService;
+import com.fvps.backend.services.impl.UserClearanceServiceImpl;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link UserClearanceServiceImpl#evaluateClearance(UUID)}, the ladder evaluated on every guard scan
+ * and progress change. The status query is answered from memory.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ClearanceLadderBenchmark {
+
+    @Param({"5", "25"})
+    private int trainingsPerLevel;
+
+    private UserClearanceServiceImpl service;
+    private UUID userId;
+
+    @Setup
+    public void setUp() {
+        User user = Fixtures.user();
+        userId = user.getId();
+        List<Training> trainings = Fixtures.trainings(trainingsPerLevel);
+        List<UserTrainingStatus> statuses = Fixtures.statuses(user, trainings);
+
+        Map<UUID, Integer> levels = new LinkedHashMap<>();
+        trainings.forEach(training -> levels.put(training.getId(), training.getSecurityLevel()));
+        SecurityLevelIndex index = new SecurityLevelIndex(1, levels);
+
+        SecurityLevelIndexService indexService = Stubs.of(SecurityLevelIndexService.class, Map.of(
+                "getIndex", args -> index,
+                "rebuild", args -> index
+        ));
+        UserTrainingStatusRepository statusRepository = Stubs.of(UserTrainingStatusRepository.class, Map.of(
+                "findByUserId", args -> statuses
+        ));
+
+        service = new UserClearanceServiceImpl(
+                Stubs.noop(UserRepository.class),
+                statusRepository,
+                indexService,
+                Stubs.noop(AuditLogService.class),
+                Stubs.noop(ApplicationEventPublisher.class),
+                Stubs.noop(PassRevocationService.class),
+                Fixtures.CLOCK
+        );
+    }
+
+    @Benchmark
+    public ClearanceEvaluation evaluateClearance() {
+        return service.evaluateClearance(userId);
+    }
+}
@@ -0,0 +1,80 @@
+package com.fvps.backend.benchmarks;
+
+import com.fvps.backend.security.JwtService;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.security.Key;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the JWT work done by {@code JwtFilter} for one authenticated request.
+ * <ul>
+ * <li>{@code legacyPerRequest} - the previous behaviour: the key is rebuilt and the token fully verified three times
+ * (subject in the filter, then subject and expiration in {@code isTokenValid}).</li>
+ * <li>{@code parseOnce} - the key and parser are reused and the token is verified once (verified-token cache disabled).</li>
+ * <li>{@code parseOnceCached} - as above, with the verified-token cache enabled (a client re-using its token).</li>
+ * <li>{@code generateToken} - issuing a token at login.</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtServiceBenchmark {
+
+    private static final String SECRET = "ZnZwcy1iZW5jaG1hcmstc2VjcmV0LWtleS0yNTYtYml0cy1sb25nLWVub3VnaA==";
+    private static final long EXPIRATION_MS = TimeUnit.HOURS.toMillis(1);
+
+    private JwtService uncachedService;
+    private JwtService cachedService;
+    private UserDetails user;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        uncachedService = new JwtService(SECRET, EXPIRATION_MS, 0, 0);
+        cachedService = new JwtService(SECRET, EXPIRATION_MS, 10_000, 300);
+        user = new User("guard@fvps.com", "n/a", List.of());
+        token = uncachedService.generateToken(user);
+    }
+
+    @Benchmark
+    public boolean legacyPerRequest() {
+        String username = legacyClaims(token).getSubject();
+        boolean sameUser = legacyClaims(token).getSubject().equals(user.getUsername());
+        boolean notExpired = !legacyClaims(token).getExpiration().before(new Date());
+        return username != null && sameUser && notExpired;
+    }
+
+    @Benchmark
+    public boolean parseOnce() {
+        Claims claims = uncachedService.parseToken(token);
+        return claims.getSubject() != null && uncachedService.isTokenValid(claims, user);
+    }
+
+    @Benchmark
+    public boolean parseOnceCached() {
+        Claims claims = cachedService.parseToken(token);
+        return claims.getSubject() != null && cachedService.isTokenValid(claims, user);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return uncachedService.generateToken(user);
+    }
+
+    private static Claims legacyClaims(String jwt) {
+        Key key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET));
+        return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(jwt).getBody();
+    }
+}
@@ -0,0 +1,91 @@
+package com.fvps.backend.benchmarks;
+
+import com.fvps.backend.benchmarks.support.Fixtures;
+import com.fvps.backend.benchmarks.support.Stubs;
+import com.fvps.backend.domain.dto.training.TrainingSummaryDto;
+import com.fvps.backend.domain.dto.training.UserTrainingDto;
+import com.fvps.backend.domain.entities.Training;
+import com.fvps.backend.domain.entities.User;
+import com.fvps.backend.domain.enums.PassQrFormat;
+import com.fvps.backend.domain.enums.ProgressStatus;
+import com.fvps.backend.services.PassTokenService;
+import com.fvps.backend.services.impl.PdfGeneratorServiceImpl;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.support.StaticMessageSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link PdfGeneratorServiceImpl#generatePassPdf} for a user without a photo, so only layout,
+ * fonts, the QR code and the training table are exercised.
+ * <p>
+ * {@code generatePassPdf} renders with the pass template already loaded, as in the running application.
+ * {@code generatePassPdfWithTemplateLoad} uses a fresh service each time, so every pass also resolves its fonts
+ * and labels, as every render did before templates were shared. Run with the GC profiler to compare allocations
+ * per pass ({@code gc.alloc.rate.norm}): {@code -Djmh.args="PassPdfBenchmark -prof gc"}.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PassPdfBenchmark {
+
+    private PdfGeneratorServiceImpl service;
+    private String uploadDir;
+    private PassTokenService passTokenService;
+    private User user;
+    private List<UserTrainingDto> trainings;
+
+    @Setup
+    public void setUp() throws Exception {
+        uploadDir = Files.createTempDirectory("fvps-bench-uploads").toString();
+        passTokenService = Stubs.of(PassTokenService.class, Map.of(
+                "getQrContent", args -> ((User) args[0]).getId().toString(),
+                "getQrFormat", args -> PassQrFormat.UUID
+        ));
+        service = newService();
+
+        user = Fixtures.user();
+        trainings = Fixtures.trainings(3).stream()
+                .filter(training -> training.getSecurityLevel() <= user.getClearanceLevel())
+                .map(PassPdfBenchmark::toDto)
+                .toList();
+    }
+
+    @Benchmark
+    public byte[] generatePassPdf() {
+        return service.generatePassPdf(user, trainings, Fixtures.now());
+    }
+
+    @Benchmark
+    public byte[] generatePassPdfWithTemplateLoad() {
+        return newService().generatePassPdf(user, trainings, Fixtures.now());
+    }
+
+    private PdfGeneratorServiceImpl newService() {
+        PdfGeneratorServiceImpl generator = new PdfGeneratorServiceImpl(new StaticMessageSource(), Locale.ENGLISH, passTokenService);
+        ReflectionTestUtils.setField(generator, "uploadDir", uploadDir);
+        return generator;
+    }
+
+    private static UserTrainingDto toDto(Training training) {
+        return UserTrainingDto.builder()
+                .training(TrainingSummaryDto.builder()
+                        .id(training.getId())
+                        .title(training.getTitle())
+                        .securityLevel(training.getSecurityLevel())
+                        .build())
+                .status(ProgressStatus.COMPLETED)
+                .completedAt(Fixtures.now().minusDays(10))
+                .validUntil(Fixtures.now().plusDays(355))
+                .build();
+    }
+}
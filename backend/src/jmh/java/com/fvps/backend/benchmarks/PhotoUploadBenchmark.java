@@ -0,0 +1,76 @@
+package com.fvps.backend.benchmarks;
+
+import com.fvps.backend.benchmarks.support.Stubs;
+import com.fvps.backend.services.AuditLogService;
+import com.fvps.backend.services.impl.FileStorageServiceImpl;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockMultipartFile;
+
+import javax.imageio.ImageIO;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Measures {@link FileStorageServiceImpl#savePhoto}: content validation of a typical profile photo, and
+ * rejection of a file that claims to be an image but is not.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PhotoUploadBenchmark {
+
+    private FileStorageServiceImpl service;
+    private Path uploadDir;
+    private MockMultipartFile photo;
+    private MockMultipartFile fakeImage;
+
+    @Setup
+    public void setUp() throws IOException {
+        uploadDir = Files.createTempDirectory("fvps-bench-photos");
+        service = new FileStorageServiceImpl(uploadDir.toString(), Stubs.noop(AuditLogService.class));
+
+        BufferedImage image = new BufferedImage(600, 800, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setPaint(new GradientPaint(0, 0, Color.DARK_GRAY, 600, 800, Color.LIGHT_GRAY));
+        graphics.fillRect(0, 0, 600, 800);
+        graphics.dispose();
+        ByteArrayOutputStream jpeg = new ByteArrayOutputStream();
+        ImageIO.write(image, "jpg", jpeg);
+
+        photo = new MockMultipartFile("photo", "portrait.jpg", "image/jpeg", jpeg.toByteArray());
+        fakeImage = new MockMultipartFile("photo", "portrait.jpg", "image/jpeg", new byte[64 * 1024]);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(uploadDir)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public String saveValidPhoto() throws IOException {
+        String filename = service.savePhoto(photo);
+        Files.delete(uploadDir.resolve(filename));
+        return filename;
+    }
+
+    @Benchmark
+    public Object rejectInvalidImage() {
+        try {
+            return service.savePhoto(fakeImage);
+        } catch (IllegalArgumentException expected) {
+            return expected;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.fvps.backend.benchmarks;
+
+import com.fvps.backend.services.impl.QrCodePdfRenderer;
+import com.google.zxing.BarcodeFormat;
+import com.google.zxing.client.j2se.MatrixToImageWriter;
+import com.google.zxing.common.BitMatrix;
+import com.google.zxing.qrcode.QRCodeWriter;
+import com.lowagie.text.Document;
+import com.lowagie.text.Image;
+import com.lowagie.text.PageSize;
+import com.lowagie.text.pdf.PdfWriter;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayOutputStream;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares two ways of putting the pass QR code into a PDF: the former PNG round trip (encode a 200x200
+ * bitmap, write it as PNG with ImageIO, let OpenPDF decode it again) and {@link QrCodePdfRenderer}, which draws
+ * the modules as vector rectangles.
+ * <p>
+ * Each invocation produces a one-page document holding only the QR code, scaled as on the pass, so the cost of
+ * embedding is included. Run with {@code -prof gc} to compare allocations as well.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class QrCodeBenchmark {
+
+    private String content;
+
+    @Setup
+    public void setUp() {
+        content = UUID.randomUUID().toString();
+    }
+
+    @Benchmark
+    public byte[] pngRoundTrip() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Document document = new Document(PageSize.A4);
+        PdfWriter.getInstance(document, out);
+        document.open();
+
+        BitMatrix bitMatrix = new QRCodeWriter().encode(content, BarcodeFormat.QR_CODE, 200, 200);
+        ByteArrayOutputStream png = new ByteArrayOutputStream();
+        MatrixToImageWriter.writeToStream(bitMatrix, "PNG", png);
+        Image qrImage = Image.getInstance(png.toByteArray());
+        qrImage.scaleToFit(100, 100);
+        document.add(qrImage);
+
+        document.close();
+        return out.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] vector() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Document document = new Document(PageSize.A4);
+        PdfWriter writer = PdfWriter.getInstance(document, out);
+        document.open();
+
+        Image qrImage = QrCodePdfRenderer.render(content, writer.getDirectContent());
+        qrImage.scaleToFit(100, 100);
+        document.add(qrImage);
+
+        document.close();
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,87 @@
+package com.fvps.backend.benchmarks.support;
+
+import com.fvps.backend.domain.entities.Training;
+import com.fvps.backend.domain.entities.User;
+import com.fvps.backend.domain.entities.UserTrainingStatus;
+import com.fvps.backend.domain.enums.ProgressStatus;
+import com.fvps.backend.domain.enums.UserRole;
+import com.fvps.backend.domain.enums.UserStatus;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Deterministic test data shared by the benchmarks.
+ */
+public final class Fixtures {
+
+    /**
+     * A fixed clock, so results do not depend on when the benchmark runs.
+     */
+    public static final Clock CLOCK = Clock.fixed(Instant.parse("2025-06-01T08:00:00Z"), ZoneOffset.UTC);
+
+    private Fixtures() {
+    }
+
+    public static LocalDateTime now() {
+        return LocalDateTime.now(CLOCK);
+    }
+
+    public static User user() {
+        return User.builder()
+                .id(UUID.nameUUIDFromBytes("benchmark-user".getBytes()))
+                .email("jan.kowalski@external.com")
+                .name("Jan")
+                .surname("Kowalski")
+                .companyName("External Logistics Ltd.")
+                .phoneNumber("+48 600 000 000")
+                .role(UserRole.GUEST)
+                .status(UserStatus.ACTIVE)
+                .clearanceLevel(3)
+                .build();
+    }
+
+    /**
+     * Creates {@code perLevel} trainings for each of the four security levels.
+     */
+    public static List<Training> trainings(int perLevel) {
+        List<Training> trainings = new ArrayList<>();
+        for (int level = 1; level <= 4; level++) {
+            for (int i = 0; i < perLevel; i++) {
+                trainings.add(Training.builder()
+                        .id(UUID.nameUUIDFromBytes(("training-" + level + "-" + i).getBytes()))
+                        .title("Safety Training L" + level + " #" + i)
+                        .validityPeriodDays(365)
+                        .securityLevel(level)
+                        .build());
+            }
+        }
+        return trainings;
+    }
+
+    /**
+     * Creates a status per training: levels 1-3 completed and valid, level 4 partly in progress.
+     */
+    public static List<UserTrainingStatus> statuses(User user, List<Training> trainings) {
+        Random random = new Random(42);
+        List<UserTrainingStatus> statuses = new ArrayList<>();
+        for (Training training : trainings) {
+            boolean completed = training.getSecurityLevel() < 4 || random.nextBoolean();
+            statuses.add(UserTrainingStatus.builder()
+                    .id(UUID.randomUUID())
+                    .user(user)
+                    .training(training)
+                    .status(completed ? ProgressStatus.COMPLETED : ProgressStatus.IN_PROGRESS)
+                    .completedAt(completed ? now().minusDays(30) : null)
+                    .validUntil(completed ? now().plusDays(30 + random.nextInt(300)) : null)
+                    .build());
+        }
+        return statuses;
+    }
+}
@@ -0,0 +1,61 @@
+package com.fvps.backend.benchmarks.support;
+
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * In-memory stand-ins for repositories and collaborating services, so benchmarks measure service code
+ * without a database or a Spring context.
+ */
+public final class Stubs {
+
+    private Stubs() {
+    }
+
+    /**
+     * Creates a stub whose methods answer from the given handlers, keyed by method name.
+     * Unhandled methods return {@code null}, {@code false} or zero.
+     *
+     * @param type     the interface to implement.
+     * @param handlers method name to handler receiving the call arguments.
+     * @return the stub.
+     */
+    public static <T> T of(Class<T> type, Map<String, Function<Object[], Object>> handlers) {
+        Object stub = Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            Function<Object[], Object> handler = handlers.get(method.getName());
+            if (handler != null) {
+                return handler.apply(args);
+            }
+            return switch (method.getName()) {
+                case "toString" -> "Stub<" + type.getSimpleName() + ">";
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "equals" -> proxy == args[0];
+                default -> defaultValue(method.getReturnType());
+            };
+        });
+        return type.cast(stub);
+    }
+
+    /**
+     * Creates a stub on which every method does nothing.
+     *
+     * @param type the interface to implement.
+     * @return the stub.
+     */
+    public static <T> T noop(Class<T> type) {
+        return of(type, Map.of());
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (!type.isPrimitive() || type == void.class) return null;
+        if (type == boolean.class) return false;
+        if (type == char.class) return '\0';
+        if (type == long.class) return 0L;
+        if (type == float.class) return 0f;
+        if (type == double.class) return 0d;
+        if (type == byte.class) return (byte) 0;
+        if (type == short.class) return (short) 0;
+        return 0;
+    }
+}
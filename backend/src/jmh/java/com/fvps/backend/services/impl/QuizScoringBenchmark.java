@@ -0,0 +1,80 @@
+package com.fvps.backend.services.impl;
+
+import com.fvps.backend.domain.dto.training.QuizSubmissionDto;
+import com.fvps.backend.domain.entities.QuizQuestion;
+import com.fvps.backend.domain.entities.Training;
+import com.fvps.backend.domain.entities.TrainingModule;
+import com.fvps.backend.domain.enums.ModuleType;
+import com.fvps.backend.domain.model.CompiledAnswerKey;
+import com.fvps.backend.domain.model.TrainingSnapshot;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures quiz scoring ({@code TrainingProgressServiceImpl.getScore}) of a submitted set of answers against
+ * the compiled answer key of a cached training snapshot.
+ * <p>
+ * Lives in the service package because the scoring method is package-private.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QuizScoringBenchmark {
+
+    @Param({"10", "50", "200"})
+    private int questionCount;
+
+    private TrainingProgressServiceImpl service;
+    private TrainingSnapshot.Module quiz;
+    private QuizSubmissionDto submission;
+
+    @Setup
+    public void setUp() {
+        service = new TrainingProgressServiceImpl(null, null, null, null, null, null, null, null, null, null, null, null);
+
+        Random random = new Random(7);
+        List<QuizQuestion> questions = new ArrayList<>();
+        Map<UUID, Integer> answers = new HashMap<>();
+        for (int i = 0; i < questionCount; i++) {
+            QuizQuestion question = QuizQuestion.builder()
+                    .id(UUID.randomUUID())
+                    .questionText("Question " + i)
+                    .orderIndex(i)
+                    .options(List.of("A", "B", "C", "D"))
+                    .correctOptionIndex(random.nextInt(4))
+                    .build();
+            questions.add(question);
+            answers.put(question.getId(), random.nextInt(4));
+        }
+
+        TrainingModule module = TrainingModule.builder()
+                .id(UUID.randomUUID())
+                .type(ModuleType.QUIZ)
+                .questions(questions)
+                .build();
+        Training training = Training.builder()
+                .id(UUID.randomUUID())
+                .modules(List.of(module))
+                .build();
+        quiz = TrainingSnapshot.of(training).firstModule();
+
+        submission = new QuizSubmissionDto();
+        submission.setAnswers(answers);
+    }
+
+    @Benchmark
+    public CompiledAnswerKey.Result getScore() {
+        return service.getScore(quiz, submission);
+    }
+}
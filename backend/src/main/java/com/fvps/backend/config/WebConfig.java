@@ -1,4 +1,26 @@
 package com.fvps.backend.config;
 
-public class WebConfig {
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Spring MVC configuration.
+ * <p>
+ * Streaming responses (e.g. the audit log export and batch pass downloads) are written after the request thread has been released,
+ * as asynchronous requests. The servlet container's default async timeout (typically 30 seconds) would cut
+ * long exports short, so it is raised here.
+ * </p>
+ */
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    @Value("${app.web.async-timeout-ms:3600000}")
+    private long asyncTimeoutMillis;
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setDefaultTimeout(asyncTimeoutMillis);
+    }
 }
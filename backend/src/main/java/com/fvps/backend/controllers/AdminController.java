@@ -1,9 +1,17 @@
 package com.fvps.backend.controllers;
 
+import com.fvps.backend.domain.dto.audit.AuditLogCursorPage;
+import com.fvps.backend.domain.dto.audit.AuditLogFilter;
+import com.fvps.backend.domain.dto.job.BulkJobDto;
 import com.fvps.backend.domain.dto.training.*;
+import com.fvps.backend.domain.dto.user.PassBatchRequest;
+import com.fvps.backend.domain.dto.user.PassDocument;
 import com.fvps.backend.domain.dto.user.UserSummaryDto;
 import com.fvps.backend.domain.entities.AuditLog;
 import com.fvps.backend.domain.enums.AppMessage;
+import com.fvps.backend.domain.enums.BulkJobStatus;
+import com.fvps.backend.domain.enums.ExportFormat;
+import com.fvps.backend.domain.enums.PassBatchFormat;
 import com.fvps.backend.domain.enums.UserStatus;
 import com.fvps.backend.services.*;
 import io.swagger.v3.oas.annotations.Operation;
@@ -15,12 +23,18 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequestMapping("/api/admin")
@@ -34,6 +48,9 @@ public class AdminController {
     private final AuditLogService auditLogService;
     private final TrainingContentService trainingContentService;
     private final TrainingProgressService trainingProgressService;
+    private final BulkJobService bulkJobService;
+    private final BulkAssignmentService bulkAssignmentService;
+    private final PassBatchService passBatchService;
 
     @Operation(summary = "Create Training", description = "Creates a new training definition.")
     @PostMapping("/trainings")
@@ -163,12 +180,36 @@ public class AdminController {
 
     @Operation(summary = "Preview Pass", description = "Generates a PDF pass preview for a user (Admin override).")
     @GetMapping("/users/{userId}/pass-preview")
-    public ResponseEntity<byte[]> generatePass(@Parameter(description = "User UUID") @PathVariable UUID userId) {
-        byte[] pdfBytes = adminService.generatePassPdf(userId);
+    public ResponseEntity<byte[]> generatePass(
+            @Parameter(description = "User UUID") @PathVariable UUID userId,
+            @Parameter(hidden = true) WebRequest request
+    ) {
+        PassDocument pass = adminService.generatePassPdf(userId);
+        if (request.checkNotModified(pass.getEtag())) {
+            return null;
+        }
         return ResponseEntity.ok()
                 .header(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=pass.pdf")
+                .eTag(pass.getEtag())
                 .contentType(MediaType.APPLICATION_PDF)
-                .body(pdfBytes);
+                .body(pass.getContent());
+    }
+
+    @Operation(summary = "Batch Pass Generation", description = "Streams the passes of many users (explicit IDs or a company) as a ZIP of PDFs or one merged PDF. Users without a pass are listed at the end.")
+    @PostMapping("/passes/batch")
+    public ResponseEntity<StreamingResponseBody> generatePassBatch(
+            @RequestParam(defaultValue = "ZIP") PassBatchFormat format,
+            @Valid @RequestBody PassBatchRequest request
+    ) {
+        List<UUID> userIds = passBatchService.resolveUsers(request);
+        auditLogService.logEvent("PASS_BATCH_GENERATED", "Format: " + format + ", users: " + userIds.size());
+
+        StreamingResponseBody body = out -> passBatchService.writePasses(userIds, format, out);
+
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=passes." + format.getFileExtension())
+                .contentType(MediaType.parseMediaType(format.getMediaType()))
+                .body(body);
     }
 
     @Operation(summary = "Get User Trainings", description = "Retrieves all trainings assigned to a specific user.")
@@ -212,6 +253,13 @@ public class AdminController {
         return ResponseEntity.ok(AppMessage.TRAININGS_ASSIGNED_BULK.name());
     }
 
+    @Operation(summary = "Bulk Assign Trainings", description = "Assigns trainings (by IDs and/or security level) to a cohort of users "
+            + "(by IDs, company and/or role). Already assigned pairs are skipped.")
+    @PostMapping("/assignments/bulk")
+    public ResponseEntity<BulkAssignmentResultDto> assignTrainingsInBulk(@Valid @RequestBody BulkAssignmentRequest request) {
+        return ResponseEntity.ok(bulkAssignmentService.assignTrainings(request));
+    }
+
     @Operation(summary = "Revoke Completion", description = "Invalidates the completion of a specific training for a user (forces retake).")
     @PostMapping("/users/{userId}/trainings/{trainingId}/revoke-completion")
     public ResponseEntity<String> revokeCompletion(
@@ -222,6 +270,23 @@ public class AdminController {
         return ResponseEntity.ok(AppMessage.TRAINING_REVOKED.name());
     }
 
+    @Operation(summary = "Get Bulk Jobs", description = "Retrieves background jobs (progress resets, validity recalculations), newest first.")
+    @GetMapping("/jobs")
+    public ResponseEntity<Page<BulkJobDto>> getJobs(
+            @RequestParam(required = false) BulkJobStatus status,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        var pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
+        return ResponseEntity.ok(bulkJobService.getJobs(status, pageable));
+    }
+
+    @Operation(summary = "Get Bulk Job", description = "Retrieves the status and progress of a background job.")
+    @GetMapping("/jobs/{jobId}")
+    public ResponseEntity<BulkJobDto> getJob(@Parameter(description = "Job UUID") @PathVariable UUID jobId) {
+        return ResponseEntity.ok(bulkJobService.getJob(jobId));
+    }
+
     @Operation(summary = "Get Audit Logs", description = "Retrieves system-wide audit logs.")
     @GetMapping("/logs")
     public ResponseEntity<Page<AuditLog>> getAuditLogs(
@@ -231,4 +296,66 @@ public class AdminController {
         var pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "timestamp"));
         return ResponseEntity.ok(auditLogService.getAllLogs(pageable));
     }
-}
\ No newline at end of file
+
+    @Operation(summary = "Browse Audit Logs", description = "Retrieves audit logs newest first using cursor pagination. Supports filtering and does not compute a total count.")
+    @GetMapping("/logs/cursor")
+    public ResponseEntity<AuditLogCursorPage> browseAuditLogs(
+            @Parameter(description = "Cursor returned as 'nextCursor' by the previous page") @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size,
+            @RequestParam(required = false) UUID userId,
+            @RequestParam(required = false) String action,
+            @RequestParam(required = false) String actor,
+            @RequestParam(required = false) String ipAddress,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to
+    ) {
+        var filter = AuditLogFilter.builder()
+                .userId(userId)
+                .action(action)
+                .actor(actor)
+                .ipAddress(ipAddress)
+                .from(from)
+                .to(to)
+                .build();
+        return ResponseEntity.ok(auditLogService.getLogs(filter, cursor, Math.clamp(size, 1, 500)));
+    }
+
+    @Operation(summary = "Export Audit Logs", description = "Streams audit logs matching the filters as CSV or NDJSON (oldest first), optionally gzip-compressed.")
+    @GetMapping("/logs/export")
+    public ResponseEntity<StreamingResponseBody> exportAuditLogs(
+            @RequestParam(defaultValue = "CSV") ExportFormat format,
+            @Parameter(description = "Compress the file with gzip") @RequestParam(defaultValue = "false") boolean gzip,
+            @RequestParam(required = false) UUID userId,
+            @RequestParam(required = false) String action,
+            @RequestParam(required = false) String actor,
+            @RequestParam(required = false) String ipAddress,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to
+    ) {
+        var filter = AuditLogFilter.builder()
+                .userId(userId)
+                .action(action)
+                .actor(actor)
+                .ipAddress(ipAddress)
+                .from(from)
+                .to(to)
+                .build();
+        auditLogService.logEvent("AUDIT_LOG_EXPORTED", "Format: " + format + ", filter: " + filter);
+
+        StreamingResponseBody body = out -> {
+            if (!gzip) {
+                auditLogService.exportLogs(filter, format, out);
+                return;
+            }
+            try (GZIPOutputStream compressed = new GZIPOutputStream(out, 64 * 1024)) {
+                auditLogService.exportLogs(filter, format, compressed);
+            }
+        };
+
+        String filename = "audit-logs." + format.getFileExtension() + (gzip ? ".gz" : "");
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + filename)
+                .contentType(MediaType.parseMediaType(gzip ? "application/gzip" : format.getMediaType()))
+                .body(body);
+    }
+}
@@ -1,6 +1,7 @@
 package com.fvps.backend.controllers;
 
 import com.fvps.backend.domain.dto.auth.ChangePasswordRequest;
+import com.fvps.backend.domain.dto.user.PassDocument;
 import com.fvps.backend.domain.dto.user.UpdateUserRequest;
 import com.fvps.backend.domain.dto.user.UserPassDto;
 import com.fvps.backend.domain.dto.user.UserSummaryDto;
@@ -21,6 +22,7 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
 @RestController
@@ -77,18 +79,24 @@ public class UserController {
     @Operation(summary = "Download Pass (PDF)", description = "Generates and downloads a Visitor Pass PDF if the user meets all requirements.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "PDF file returned", content = @Content(mediaType = "application/pdf")),
+            @ApiResponse(responseCode = "304", description = "Pass unchanged since the version identified by If-None-Match"),
             @ApiResponse(responseCode = "400", description = "User not eligible (e.g., trainings incomplete)")
     })
     @GetMapping("/me/download-pass")
     public ResponseEntity<byte[]> downloadMyPass(
-            @Parameter(hidden = true) Authentication authentication
+            @Parameter(hidden = true) Authentication authentication,
+            @Parameter(hidden = true) WebRequest request
     ) {
-        byte[] pdfBytes = userService.generateMyPassPdf(authentication.getName());
+        PassDocument pass = userService.generateMyPassPdf(authentication.getName());
+        if (request.checkNotModified(pass.getEtag())) {
+            return null;
+        }
 
         return ResponseEntity.ok()
                 .header(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=My_FVPS_Pass.pdf")
+                .eTag(pass.getEtag())
                 .contentType(MediaType.APPLICATION_PDF)
-                .body(pdfBytes);
+                .body(pass.getContent());
     }
 
     @Operation(summary = "Show Pass Data", description = "Retrieves data for displaying the digital pass (QR code, status, clearance level) in the frontend.")
@@ -1,6 +1,10 @@
 package com.fvps.backend.controllers;
 
+import com.fvps.backend.domain.dto.verification.PassTokenKeyDto;
+import com.fvps.backend.domain.dto.verification.RevocationFeedDto;
 import com.fvps.backend.domain.dto.verification.VerificationResponse;
+import com.fvps.backend.services.PassRevocationService;
+import com.fvps.backend.services.PassTokenService;
 import com.fvps.backend.services.VerificationService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -12,6 +16,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -22,6 +27,8 @@ import java.util.UUID;
 public class VerificationController {
 
     private final VerificationService verificationService;
+    private final PassTokenService passTokenService;
+    private final PassRevocationService passRevocationService;
 
     @Operation(summary = "Verify User Access", description = "Checks if a user (identified by UUID from QR code) has the required security clearance level.")
     @ApiResponses(value = {
@@ -38,4 +45,22 @@ public class VerificationController {
     ) {
         return ResponseEntity.ok(verificationService.verifyUserAccess(userId, requiredLevel));
     }
-}
\ No newline at end of file
+
+    @Operation(summary = "Get Pass Token Keys", description = "Returns the public keys for verifying signed pass tokens offline: the current signing key and retired keys that older passes may still carry.")
+    @GetMapping("/keys")
+    public ResponseEntity<List<PassTokenKeyDto>> getPassTokenKeys() {
+        return ResponseEntity.ok(passTokenService.getVerificationKeys());
+    }
+
+    @Operation(summary = "Get Revocation Feed", description = "Returns users whose signed pass tokens were revoked after the given feed position. Handsets poll with the returned 'nextSince' and reject tokens issued before a user's revocation.")
+    @GetMapping("/revocations")
+    public ResponseEntity<RevocationFeedDto> getRevocations(
+            @Parameter(description = "The 'nextSince' of the previous poll; 0 for a full download", example = "0")
+            @RequestParam(defaultValue = "0") long since,
+
+            @Parameter(description = "Maximum number of entries", example = "1000")
+            @RequestParam(defaultValue = "1000") int limit
+    ) {
+        return ResponseEntity.ok(passRevocationService.getFeed(since, limit));
+    }
+}
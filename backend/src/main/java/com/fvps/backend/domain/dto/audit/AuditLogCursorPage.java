@@ -0,0 +1,27 @@
+package com.fvps.backend.domain.dto.audit;
+
+import com.fvps.backend.domain.entities.AuditLog;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuditLogCursorPage {
+
+    @Schema(description = "Audit entries, newest first")
+    private List<AuditLog> items;
+
+    @Schema(description = "Opaque cursor to pass as 'cursor' to fetch the next (older) page. Null on the last page.",
+            example = "MjAyNS0wMS0wMVQxMDowMDowMHw1NTBlODQwMC1lMjliLTQxZDQtYTcxNi00NDY2NTU0NDAwMDA")
+    private String nextCursor;
+
+    @Schema(description = "Whether more entries exist after this page", example = "true")
+    private boolean hasMore;
+}
@@ -0,0 +1,35 @@
+package com.fvps.backend.domain.dto.audit;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuditLogFilter {
+
+    @Schema(description = "Only entries concerning this user (target of the action)", example = "550e8400-e29b-41d4-a716-446655440000")
+    private UUID userId;
+
+    @Schema(description = "Exact action code", example = "USER_BLOCKED")
+    private String action;
+
+    @Schema(description = "Email of the user who performed the action", example = "admin@fvps.com")
+    private String actor;
+
+    @Schema(description = "Client IP address", example = "192.168.0.10")
+    private String ipAddress;
+
+    @Schema(description = "Inclusive lower bound of the event time", example = "2025-01-01T00:00:00")
+    private LocalDateTime from;
+
+    @Schema(description = "Exclusive upper bound of the event time", example = "2025-02-01T00:00:00")
+    private LocalDateTime to;
+}
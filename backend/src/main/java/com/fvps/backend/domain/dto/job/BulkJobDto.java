@@ -0,0 +1,56 @@
+package com.fvps.backend.domain.dto.job;
+
+import com.fvps.backend.domain.enums.BulkJobStatus;
+import com.fvps.backend.domain.enums.BulkJobType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkJobDto {
+
+    @Schema(description = "Job UUID", example = "a0eebc99-9c0b-4ef8-bb6d-6bb9bd380a11")
+    private UUID id;
+
+    @Schema(description = "Kind of change applied by the job", example = "RESET_TRAINING_PROGRESS")
+    private BulkJobType type;
+
+    @Schema(description = "Current state of the job", example = "RUNNING")
+    private BulkJobStatus status;
+
+    @Schema(description = "UUID of the training or module the job applies to")
+    private UUID targetId;
+
+    @Schema(description = "Summary of the job", example = "Reset progress for training: OHS Safety - Level 1")
+    private String description;
+
+    @Schema(description = "Admin who submitted the job", example = "admin@fvps.com")
+    private String requestedBy;
+
+    @Schema(description = "Number of progress records to scan. Null until a worker has picked the job up.", example = "12000")
+    private Long totalItems;
+
+    @Schema(description = "Number of progress records scanned so far", example = "4500")
+    private long processedItems;
+
+    @Schema(description = "Number of progress records changed so far", example = "3120")
+    private long affectedItems;
+
+    @Schema(description = "Completion percentage (0-100). Null while the total is unknown.", example = "37.5")
+    private Double progressPercent;
+
+    @Schema(description = "Last failure message, if any")
+    private String error;
+
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+}
@@ -0,0 +1,34 @@
+package com.fvps.backend.domain.dto.training;
+
+import com.fvps.backend.domain.enums.UserRole;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+public class BulkAssignmentRequest {
+
+    @Schema(description = "Explicit list of user UUIDs")
+    @Size(max = 10000, message = "At most 10000 users can be listed explicitly.")
+    private List<UUID> userIds;
+
+    @Schema(description = "Select users of this company", example = "ACME Contractors Ltd.")
+    private String companyName;
+
+    @Schema(description = "Select users with this role", example = "GUEST")
+    private UserRole role;
+
+    @Schema(description = "Explicit list of training UUIDs")
+    @Size(max = 1000, message = "At most 1000 trainings can be listed explicitly.")
+    private List<UUID> trainingIds;
+
+    @Schema(description = "Select all trainings granting this security level (1-4)", example = "2", minimum = "1", maximum = "4")
+    @Min(value = 1, message = "Security level must be at least 1")
+    @Max(value = 4, message = "Security level cannot be higher than 4")
+    private Integer securityLevel;
+}
@@ -0,0 +1,26 @@
+package com.fvps.backend.domain.dto.training;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkAssignmentResultDto {
+
+    @Schema(description = "Number of users matching the user criteria", example = "500")
+    private int matchedUsers;
+
+    @Schema(description = "Number of trainings matching the training criteria", example = "3")
+    private int matchedTrainings;
+
+    @Schema(description = "Number of new assignments created", example = "1420")
+    private int assigned;
+
+    @Schema(description = "Number of user/training pairs that were already assigned", example = "80")
+    private int alreadyAssigned;
+}
@@ -38,4 +38,8 @@ public class TrainingResponseDto {
 
     @Schema(description = "Security level granted by this training", example = "1")
     private int securityLevel;
-}
\ No newline at end of file
+
+    @Schema(description = "ID of the background job applying the progress changes triggered by this update. "
+            + "Poll /api/admin/jobs/{id} for its progress. Null if no job was started.")
+    private UUID progressJobId;
+}
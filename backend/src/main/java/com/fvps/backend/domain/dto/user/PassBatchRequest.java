@@ -0,0 +1,19 @@
+package com.fvps.backend.domain.dto.user;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+public class PassBatchRequest {
+
+    @Schema(description = "Explicit list of user UUIDs")
+    @Size(max = 10000, message = "At most 10000 users can be listed explicitly.")
+    private List<UUID> userIds;
+
+    @Schema(description = "Select the active users of this company", example = "ACME Contractors Ltd.")
+    private String companyName;
+}
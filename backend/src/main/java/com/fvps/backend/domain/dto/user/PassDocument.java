@@ -0,0 +1,27 @@
+package com.fvps.backend.domain.dto.user;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * A rendered pass PDF together with its entity tag.
+ * <p>
+ * The tag is derived from everything that is printed on the pass, so two downloads with the same tag
+ * show the same content and clients can revalidate with {@code If-None-Match}. The bytes may differ
+ * between renderings (e.g. the PDF creation date), hence the tag is weak.
+ * </p>
+ */
+@Getter
+@AllArgsConstructor
+public class PassDocument {
+
+    /**
+     * The binary PDF data.
+     */
+    private final byte[] content;
+
+    /**
+     * Weak entity tag ({@code W/"..."}), ready for use in the {@code ETag} header.
+     */
+    private final String etag;
+}
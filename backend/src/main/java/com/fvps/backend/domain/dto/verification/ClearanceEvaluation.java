@@ -0,0 +1,36 @@
+package com.fvps.backend.domain.dto.verification;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * Result of evaluating the clearance ladder for a single user.
+ * <p>
+ * Besides the achieved level, it carries the earliest {@code validUntil} among the trainings that
+ * contributed to that level. Until that instant passes (or the user's progress changes),
+ * the level is guaranteed to stay the same.
+ * </p>
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class ClearanceEvaluation {
+
+    /**
+     * The highest security level (0-4) for which all requirements are met.
+     */
+    private final int level;
+
+    /**
+     * The earliest expiry that would lower the level, or {@code null} if nothing expires.
+     */
+    private final LocalDateTime nextExpiry;
+
+    /**
+     * Fingerprint of the {@link com.fvps.backend.domain.model.SecurityLevelIndex} the ladder was run against.
+     */
+    private final long indexFingerprint;
+}
@@ -0,0 +1,50 @@
+package com.fvps.backend.domain.dto.verification;
+
+import com.fvps.backend.domain.enums.UserStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Immutable, in-memory view of everything a guard scan needs to know about a user.
+ * <p>
+ * Snapshots are built from the database on the first scan and then served from memory.
+ * A snapshot stops being usable once {@code refreshAt} passes, which is the earlier of the
+ * clearance's next expiry and the configured safety TTL.
+ * </p>
+ */
+@Getter
+@ToString
+@Builder
+@AllArgsConstructor
+public class ClearanceSnapshot {
+
+    private final UUID userId;
+
+    private final String fullName;
+
+    private final String photoUrl;
+
+    private final UserStatus status;
+
+    private final int clearanceLevel;
+
+    /**
+     * The instant at which this snapshot must be rebuilt.
+     */
+    private final LocalDateTime refreshAt;
+
+    /**
+     * Checks whether the snapshot can still be trusted at the given moment.
+     *
+     * @param now the current time.
+     * @return {@code true} if the snapshot has not reached its refresh instant yet.
+     */
+    public boolean isValidAt(LocalDateTime now) {
+        return refreshAt == null || now.isBefore(refreshAt);
+    }
+}
@@ -0,0 +1,26 @@
+package com.fvps.backend.domain.dto.verification;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PassTokenKeyDto {
+
+    @Schema(description = "Key ID carried by the tokens signed with this key.", example = "2026-01")
+    private String keyId;
+
+    @Schema(description = "Signature algorithm.", example = "Ed25519")
+    private String algorithm;
+
+    @Schema(description = "Base64 encoded public key (X.509 SubjectPublicKeyInfo).", example = "MCowBQYDK2VwAyEA...")
+    private String publicKey;
+
+    @Schema(description = "Whether new tokens are signed with this key. Retired keys remain valid for tokens already issued.", example = "true")
+    private boolean current;
+}
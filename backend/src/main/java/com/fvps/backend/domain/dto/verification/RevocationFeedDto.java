@@ -0,0 +1,42 @@
+package com.fvps.backend.domain.dto.verification;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RevocationFeedDto {
+
+    @Schema(description = "Revocations after the requested position, in feed order. May repeat entries already returned.")
+    private List<Entry> revocations;
+
+    @Schema(description = "Position to pass as 'since' in the next poll.", example = "1042")
+    private long nextSince;
+
+    @Schema(description = "Whether more revocations are available right away.", example = "false")
+    private boolean hasMore;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Entry {
+
+        @Schema(description = "Position in the feed.", example = "1041")
+        private long sequence;
+
+        @Schema(description = "The user whose tokens are revoked.", example = "550e8400-e29b-41d4-a716-446655440000")
+        private UUID userId;
+
+        @Schema(description = "Epoch second of the revocation. Tokens issued before it must be rejected.", example = "1792142400")
+        private long revokedAt;
+    }
+}
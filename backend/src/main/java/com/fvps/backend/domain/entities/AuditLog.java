@@ -15,6 +15,10 @@ import java.util.UUID;
  * security events, critical data changes, and user activities.
  * It serves as an immutable record for monitoring, debugging, and security compliance.
  * </p>
+ * <p>
+ * The indexes back the keyset-paginated audit trail: every filter column leads an index that continues
+ * with {@code (timestamp, id)}, so a filtered page is a single index range scan regardless of its depth.
+ * </p>
  */
 @Getter
 @Setter
@@ -23,9 +27,20 @@ import java.util.UUID;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "audit_logs")
+@Table(name = "audit_logs", indexes = {
+        @Index(name = "idx_audit_logs_timestamp_id", columnList = "timestamp DESC, id DESC"),
+        @Index(name = "idx_audit_logs_user_timestamp_id", columnList = "user_id, timestamp DESC, id DESC"),
+        @Index(name = "idx_audit_logs_action_timestamp_id", columnList = "action, timestamp DESC, id DESC"),
+        @Index(name = "idx_audit_logs_actor_timestamp_id", columnList = "actor, timestamp DESC, id DESC"),
+        @Index(name = "idx_audit_logs_ip_timestamp_id", columnList = "ip_address, timestamp DESC, id DESC")
+})
 public class AuditLog {
 
+    /**
+     * Maximum length of {@link #details}.
+     */
+    public static final int DETAILS_LENGTH = 255;
+
     /**
      * Unique identifier for the log entry (Primary Key).
      */
@@ -65,9 +80,10 @@ public class AuditLog {
      * Detailed description or payload associated with the event.
      * <p>
      * Could contain textual descriptions or JSON-like data (e.g., "Changed status from ACTIVE to BLOCKED").
+     * At most {@link #DETAILS_LENGTH} characters.
      * </p>
      */
-    @Column(nullable = false)
+    @Column(nullable = false, length = DETAILS_LENGTH)
     private String details;
 
     /**
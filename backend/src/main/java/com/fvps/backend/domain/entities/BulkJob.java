@@ -0,0 +1,176 @@
+package com.fvps.backend.domain.entities;
+
+import com.fvps.backend.domain.enums.BulkJobStatus;
+import com.fvps.backend.domain.enums.BulkJobType;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.proxy.HibernateProxy;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Represents a long-running mass change processed in the background by the bulk job engine.
+ * <p>
+ * The job row is both the unit of work and its progress report. Workers process the target in fixed-size
+ * chunks and advance {@link #checkpoint} in the same transaction as each chunk, so a job interrupted at any
+ * point resumes exactly after the last committed chunk.
+ * </p>
+ */
+@Getter
+@Setter
+@ToString
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "bulk_jobs", indexes = {
+        @Index(name = "idx_bulk_jobs_status_created", columnList = "status, created_at"),
+        @Index(name = "idx_bulk_jobs_created", columnList = "created_at DESC")
+})
+public class BulkJob {
+
+    /**
+     * Unique identifier for the job (Primary Key), returned to the admin for progress polling.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    /**
+     * The kind of change this job applies.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private BulkJobType type;
+
+    /**
+     * The current lifecycle state of the job.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private BulkJobStatus status;
+
+    /**
+     * The UUID of the training or module the job applies to, depending on {@link #type}.
+     */
+    @Column(name = "target_id", nullable = false)
+    private UUID targetId;
+
+    /**
+     * Human-readable summary shown in the job list and the audit log.
+     */
+    @Column(nullable = false)
+    private String description;
+
+    /**
+     * The identifier (usually email) of the admin who submitted the job.
+     */
+    @Column(name = "requested_by")
+    private String requestedBy;
+
+    /**
+     * Number of progress records to scan, counted when the job is first claimed.
+     */
+    @Column(name = "total_items")
+    private Long totalItems;
+
+    /**
+     * Number of progress records scanned so far.
+     */
+    @Builder.Default
+    @Column(name = "processed_items", nullable = false)
+    private long processedItems = 0;
+
+    /**
+     * Number of progress records actually changed so far.
+     */
+    @Builder.Default
+    @Column(name = "affected_items", nullable = false)
+    private long affectedItems = 0;
+
+    /**
+     * The id of the last progress record processed. Null until the first chunk commits.
+     */
+    @Column(name = "checkpoint")
+    private UUID checkpoint;
+
+    /**
+     * Identifier of the application instance currently processing the job.
+     */
+    @Column(name = "owner")
+    private String owner;
+
+    /**
+     * Refreshed by the owner after every chunk. A stale heartbeat lets another instance take the job over.
+     */
+    @Column(name = "heartbeat_at")
+    private LocalDateTime heartbeatAt;
+
+    /**
+     * Number of chunk failures so far.
+     */
+    @Builder.Default
+    @Column(nullable = false)
+    private int attempts = 0;
+
+    /**
+     * Message of the last chunk failure.
+     */
+    @Column(length = 2000)
+    private String error;
+
+    /**
+     * Date and time when the job was submitted.
+     */
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * Date and time when a worker first claimed the job.
+     */
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    /**
+     * Date and time when the job completed or failed.
+     */
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    /**
+     * Optimistic locking version.
+     * <p>
+     * Fences the chunk transactions: if another instance has taken the job over, the old owner's
+     * checkpoint update fails and its chunk is rolled back.
+     * </p>
+     */
+    @Version
+    private Long version;
+
+    /**
+     * Checks equality based on the entity identifier (ID).
+     * <p>
+     * Handles Hibernate proxies correctly.
+     * </p>
+     */
+    @Override
+    public final boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null) return false;
+        Class<?> oEffectiveClass = o instanceof HibernateProxy ? ((HibernateProxy) o).getHibernateLazyInitializer().getPersistentClass() : o.getClass();
+        Class<?> thisEffectiveClass = this instanceof HibernateProxy ? ((HibernateProxy) this).getHibernateLazyInitializer().getPersistentClass() : this.getClass();
+        if (thisEffectiveClass != oEffectiveClass) return false;
+        BulkJob bulkJob = (BulkJob) o;
+        return getId() != null && Objects.equals(getId(), bulkJob.getId());
+    }
+
+    /**
+     * Returns the hash code based on the effective class type.
+     */
+    @Override
+    public final int hashCode() {
+        return this instanceof HibernateProxy ? ((HibernateProxy) this).getHibernateLazyInitializer().getPersistentClass().hashCode() : getClass().hashCode();
+    }
+}
@@ -0,0 +1,88 @@
+package com.fvps.backend.domain.entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.proxy.HibernateProxy;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Represents a time-limited lease held by one application instance.
+ * <p>
+ * Two kinds of leases share this table: a membership lease per running node ({@code node:<id>}), used to count
+ * the live nodes, and one lease per work partition ({@code partition:<n>}), which grants its owner the exclusive
+ * right to run the scheduled work of that partition. Leases are written with conditional SQL only; all times come
+ * from the database clock, so clock skew between nodes does not matter.
+ * </p>
+ */
+@Getter
+@Setter
+@ToString
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "cluster_leases")
+public class ClusterLease {
+
+    /**
+     * Name of the leased resource (Primary Key), e.g. {@code partition:7}.
+     */
+    @Id
+    @Column(length = 100)
+    private String name;
+
+    /**
+     * Identifier of the node currently (or last) holding the lease.
+     */
+    @Column(nullable = false, length = 100)
+    private String owner;
+
+    /**
+     * Fencing token, incremented every time the lease changes hands.
+     * <p>
+     * Writes made on behalf of a partition check the token, so a node that lost its lease (e.g. after a long
+     * GC pause) cannot overwrite work already done by the new owner.
+     * </p>
+     */
+    @Column(name = "fencing_token", nullable = false)
+    private long fencingToken;
+
+    /**
+     * Moment the lease lapses unless renewed; afterwards any node may take it over.
+     */
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    /**
+     * Timestamp of the owner's last successful renewal.
+     */
+    @Column(name = "heartbeat_at", nullable = false)
+    private LocalDateTime heartbeatAt;
+
+    /**
+     * Checks equality based on the entity identifier (name).
+     * <p>
+     * Handles Hibernate proxies correctly.
+     * </p>
+     */
+    @Override
+    public final boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null) return false;
+        Class<?> oEffectiveClass = o instanceof HibernateProxy ? ((HibernateProxy) o).getHibernateLazyInitializer().getPersistentClass() : o.getClass();
+        Class<?> thisEffectiveClass = this instanceof HibernateProxy ? ((HibernateProxy) this).getHibernateLazyInitializer().getPersistentClass() : this.getClass();
+        if (thisEffectiveClass != oEffectiveClass) return false;
+        ClusterLease lease = (ClusterLease) o;
+        return getName() != null && Objects.equals(getName(), lease.getName());
+    }
+
+    /**
+     * Returns the hash code based on the effective class type.
+     */
+    @Override
+    public final int hashCode() {
+        return this instanceof HibernateProxy ? ((HibernateProxy) this).getHibernateLazyInitializer().getPersistentClass().hashCode() : getClass().hashCode();
+    }
+}
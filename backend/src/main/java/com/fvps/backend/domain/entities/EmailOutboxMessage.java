@@ -0,0 +1,133 @@
+package com.fvps.backend.domain.entities;
+
+import com.fvps.backend.domain.enums.EmailOutboxStatus;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.proxy.HibernateProxy;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Represents an email waiting in the transactional outbox.
+ * <p>
+ * Messages are inserted in the same transaction as the business change that triggers them, so an email is
+ * queued if and only if that change commits. A background dispatcher delivers them in batches and records the
+ * outcome on the row, which makes delivery survive restarts.
+ * </p>
+ */
+@Getter
+@Setter
+@ToString
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "email_outbox", indexes = {
+        @Index(name = "idx_email_outbox_status_next_attempt", columnList = "status, next_attempt_at"),
+        @Index(name = "idx_email_outbox_sent_at", columnList = "sent_at")
+})
+public class EmailOutboxMessage {
+
+    /**
+     * Unique identifier for the message (Primary Key).
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    /**
+     * The recipient's email address.
+     */
+    @Column(nullable = false)
+    private String recipient;
+
+    /**
+     * The subject line.
+     */
+    @Column(nullable = false)
+    private String subject;
+
+    /**
+     * The plain text body.
+     */
+    @Column(nullable = false, columnDefinition = "TEXT")
+    @ToString.Exclude
+    private String body;
+
+    /**
+     * Current delivery state.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private EmailOutboxStatus status;
+
+    /**
+     * Number of failed delivery attempts so far.
+     */
+    @Builder.Default
+    @Column(nullable = false)
+    private int attempts = 0;
+
+    /**
+     * Earliest moment of the next delivery attempt; pushed back exponentially after each failure.
+     */
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    /**
+     * Identifier of the dispatcher instance currently sending the message.
+     */
+    @Column(name = "locked_by", length = 100)
+    private String lockedBy;
+
+    /**
+     * Moment the dispatcher's claim expires; afterwards the message is claimed again.
+     */
+    @Column(name = "locked_until")
+    private LocalDateTime lockedUntil;
+
+    /**
+     * Error of the last failed attempt.
+     */
+    @Column(name = "last_error", length = 2000)
+    private String lastError;
+
+    /**
+     * Date and time when the message was queued.
+     */
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * Date and time when the mail server accepted the message.
+     */
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+
+    /**
+     * Checks equality based on the entity identifier (ID).
+     * <p>
+     * Handles Hibernate proxies correctly.
+     * </p>
+     */
+    @Override
+    public final boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null) return false;
+        Class<?> oEffectiveClass = o instanceof HibernateProxy ? ((HibernateProxy) o).getHibernateLazyInitializer().getPersistentClass() : o.getClass();
+        Class<?> thisEffectiveClass = this instanceof HibernateProxy ? ((HibernateProxy) this).getHibernateLazyInitializer().getPersistentClass() : this.getClass();
+        if (thisEffectiveClass != oEffectiveClass) return false;
+        EmailOutboxMessage message = (EmailOutboxMessage) o;
+        return getId() != null && Objects.equals(getId(), message.getId());
+    }
+
+    /**
+     * Returns the hash code based on the effective class type.
+     */
+    @Override
+    public final int hashCode() {
+        return this instanceof HibernateProxy ? ((HibernateProxy) this).getHibernateLazyInitializer().getPersistentClass().hashCode() : getClass().hashCode();
+    }
+}
@@ -0,0 +1,80 @@
+package com.fvps.backend.domain.entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.proxy.HibernateProxy;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Records that the signed pass tokens issued to a user before a given moment are no longer valid.
+ * <p>
+ * Written whenever a user's access drops (clearance downgraded, account deactivated or blocked). Guard handsets
+ * poll these rows as a delta feed ordered by {@link #sequence} and reject offline tokens issued before
+ * {@link #revokedAt}.
+ * </p>
+ */
+@Getter
+@Setter
+@ToString
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "pass_revocations", indexes = {
+        @Index(name = "idx_pass_revocations_revoked_at", columnList = "revoked_at")
+})
+public class PassRevocation {
+
+    /**
+     * Position in the feed (Primary Key). Increases with every revocation.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long sequence;
+
+    /**
+     * The user whose tokens are revoked.
+     */
+    @Column(name = "user_id", nullable = false)
+    private UUID userId;
+
+    /**
+     * Tokens issued before this moment are rejected.
+     */
+    @Column(name = "revoked_at", nullable = false)
+    private LocalDateTime revokedAt;
+
+    /**
+     * Short reason code (e.g. {@code CLEARANCE_DOWNGRADED}).
+     */
+    @Column(nullable = false, length = 50)
+    private String reason;
+
+    /**
+     * Checks equality based on the entity identifier (sequence).
+     * <p>
+     * Handles Hibernate proxies correctly.
+     * </p>
+     */
+    @Override
+    public final boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null) return false;
+        Class<?> oEffectiveClass = o instanceof HibernateProxy ? ((HibernateProxy) o).getHibernateLazyInitializer().getPersistentClass() : o.getClass();
+        Class<?> thisEffectiveClass = this instanceof HibernateProxy ? ((HibernateProxy) this).getHibernateLazyInitializer().getPersistentClass() : this.getClass();
+        if (thisEffectiveClass != oEffectiveClass) return false;
+        PassRevocation revocation = (PassRevocation) o;
+        return getSequence() != null && Objects.equals(getSequence(), revocation.getSequence());
+    }
+
+    /**
+     * Returns the hash code based on the effective class type.
+     */
+    @Override
+    public final int hashCode() {
+        return this instanceof HibernateProxy ? ((HibernateProxy) this).getHibernateLazyInitializer().getPersistentClass().hashCode() : getClass().hashCode();
+    }
+}
@@ -26,7 +26,9 @@ import java.util.UUID;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = {
+        @Index(name = "idx_users_clearance_next_expiry", columnList = "clearance_next_expiry")
+})
 public class User {
 
     /**
@@ -169,6 +171,26 @@ public class User {
     @Column(nullable = false, columnDefinition = "integer default 0")
     private int clearanceLevel = 0;
 
+    /**
+     * The earliest expiry among the trainings that make up {@link #clearanceLevel}.
+     * <p>
+     * The stored level may be trusted until this moment; after it the level must be
+     * recalculated (and possibly downgraded). Null if none of the contributing trainings expire.
+     * </p>
+     */
+    @Column(name = "clearance_next_expiry")
+    private LocalDateTime clearanceNextExpiry;
+
+    /**
+     * Fingerprint of the security level layout {@link #clearanceLevel} was calculated against.
+     * <p>
+     * Null if the level was never calculated. A mismatch with the current layout (a training was
+     * added, removed or moved to another level) means the stored level is not trusted.
+     * </p>
+     */
+    @Column(name = "clearance_index_fingerprint")
+    private Long clearanceIndexFingerprint;
+
     /**
      * Automatically sets creation and update timestamps before persisting.
      * Sets the default status to ACTIVE if not provided.
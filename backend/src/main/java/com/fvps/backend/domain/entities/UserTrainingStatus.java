@@ -24,7 +24,13 @@ import java.util.UUID;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "user_training_status")
+@Table(name = "user_training_status", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_user_training_status_user_training", columnNames = {"user_id", "training_id"})
+}, indexes = {
+        @Index(name = "idx_user_training_status_training_status", columnList = "training_id, status"),
+        @Index(name = "idx_user_training_status_training_id", columnList = "training_id, id"),
+        @Index(name = "idx_user_training_status_status_valid_until", columnList = "status, valid_until")
+})
 public class UserTrainingStatus {
 
     /**
@@ -99,6 +105,16 @@ public class UserTrainingStatus {
      */
     private boolean isPassRevoked;
 
+    /**
+     * The {@code validUntil} value whose expiry has already been processed (clearance downgraded, user notified).
+     * <p>
+     * Expiry is pending while this differs from {@code validUntil}, so a renewed completion is picked up again
+     * without resetting this field. Claimed atomically by the expiry scheduler, so only one node processes an expiry.
+     * </p>
+     */
+    @Column(name = "expiry_notified_for")
+    private LocalDateTime expiryNotifiedFor;
+
     /**
      * Sets default values before persisting a new record.
      * <p>
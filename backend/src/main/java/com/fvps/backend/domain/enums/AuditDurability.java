@@ -0,0 +1,27 @@
+package com.fvps.backend.domain.enums;
+
+/**
+ * Controls how long a caller of the audit log waits for its event to be stored.
+ * <p>
+ * Configured through the {@code app.audit.durability} property.
+ * </p>
+ */
+public enum AuditDurability {
+
+    /**
+     * The event is queued and the caller returns immediately.
+     * <p>
+     * Lowest latency. Events still in the queue when the process is killed without a clean shutdown are lost.
+     * </p>
+     */
+    FIRE_AND_FORGET,
+
+    /**
+     * The caller blocks until the batch containing its event has been written to the database.
+     * <p>
+     * The write is still shared with other concurrent events, so this costs one batch insert
+     * per flush rather than one transaction per event.
+     * </p>
+     */
+    WAIT_FOR_FLUSH
+}
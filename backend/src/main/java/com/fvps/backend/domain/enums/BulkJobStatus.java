@@ -0,0 +1,28 @@
+package com.fvps.backend.domain.enums;
+
+/**
+ * Lifecycle of a bulk job.
+ */
+public enum BulkJobStatus {
+
+    /**
+     * Submitted and waiting for a free worker.
+     */
+    QUEUED,
+
+    /**
+     * Claimed by a worker. A running job whose heartbeat has gone stale (e.g. after a restart)
+     * is claimed again and resumed from its checkpoint.
+     */
+    RUNNING,
+
+    /**
+     * All chunks have been processed.
+     */
+    COMPLETED,
+
+    /**
+     * A chunk kept failing and the job was given up. Chunks committed before the failure remain applied.
+     */
+    FAILED
+}
@@ -0,0 +1,29 @@
+package com.fvps.backend.domain.enums;
+
+/**
+ * The kinds of mass progress changes processed by the bulk job engine.
+ * <p>
+ * Every type walks the progress records of a single training in primary key order, so its checkpoint is
+ * simply the last {@code user_training_status} id it has processed.
+ * </p>
+ */
+public enum BulkJobType {
+
+    /**
+     * Sends every user who completed a training back to its first module.
+     * The job target is the training.
+     */
+    RESET_TRAINING_PROGRESS,
+
+    /**
+     * Sends every user who completed or moved past a module back to that module.
+     * The job target is the module.
+     */
+    RESET_MODULE_PROGRESS,
+
+    /**
+     * Recomputes the expiry date of every completion after the validity period of a training changed.
+     * The job target is the training.
+     */
+    RECALCULATE_VALIDITY
+}
@@ -0,0 +1,27 @@
+package com.fvps.backend.domain.enums;
+
+/**
+ * Delivery state of a message in the email outbox.
+ */
+public enum EmailOutboxStatus {
+
+    /**
+     * Waiting to be sent, possibly after a backoff delay.
+     */
+    PENDING,
+
+    /**
+     * Claimed by a dispatcher. A message whose claim has expired (e.g. after a restart) is claimed again.
+     */
+    SENDING,
+
+    /**
+     * Accepted by the mail server.
+     */
+    SENT,
+
+    /**
+     * Delivery kept failing and was given up.
+     */
+    FAILED
+}
@@ -0,0 +1,33 @@
+package com.fvps.backend.domain.enums;
+
+/**
+ * Output formats supported by the streaming audit log export.
+ */
+public enum ExportFormat {
+
+    /**
+     * Comma-separated values (RFC 4180) with a header row.
+     */
+    CSV("text/csv", "csv"),
+
+    /**
+     * Newline-delimited JSON: one JSON object per line, without an enclosing array.
+     */
+    NDJSON("application/x-ndjson", "ndjson");
+
+    private final String mediaType;
+    private final String fileExtension;
+
+    ExportFormat(String mediaType, String fileExtension) {
+        this.mediaType = mediaType;
+        this.fileExtension = fileExtension;
+    }
+
+    public String getMediaType() {
+        return mediaType;
+    }
+
+    public String getFileExtension() {
+        return fileExtension;
+    }
+}
@@ -0,0 +1,33 @@
+package com.fvps.backend.domain.enums;
+
+/**
+ * Output formats supported by the streaming batch pass generation.
+ */
+public enum PassBatchFormat {
+
+    /**
+     * A ZIP archive with one PDF file per pass.
+     */
+    ZIP("application/zip", "zip"),
+
+    /**
+     * A single PDF document with the passes as consecutive pages.
+     */
+    PDF("application/pdf", "pdf");
+
+    private final String mediaType;
+    private final String fileExtension;
+
+    PassBatchFormat(String mediaType, String fileExtension) {
+        this.mediaType = mediaType;
+        this.fileExtension = fileExtension;
+    }
+
+    public String getMediaType() {
+        return mediaType;
+    }
+
+    public String getFileExtension() {
+        return fileExtension;
+    }
+}
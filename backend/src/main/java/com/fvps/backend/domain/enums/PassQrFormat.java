@@ -0,0 +1,19 @@
+package com.fvps.backend.domain.enums;
+
+/**
+ * Content of the QR code printed on passes and shown on the digital pass.
+ */
+public enum PassQrFormat {
+
+    /**
+     * The user's UUID. Every scan is checked online against the verification endpoint.
+     */
+    UUID,
+
+    /**
+     * A compact token signed with Ed25519, carrying the user ID, clearance level and expiry. Guard handsets can
+     * verify it offline with the published keys and the revocation feed. Requires {@code app.pass.token.private-key}
+     * and {@code app.pass.token.public-key}; the application does not start without them.
+     */
+    SIGNED_TOKEN
+}
@@ -0,0 +1,28 @@
+package com.fvps.backend.domain.enums;
+
+/**
+ * Selects how the guard verification endpoint evaluates a scanned user.
+ * <p>
+ * Configured through the {@code app.verification.mode} property.
+ * </p>
+ */
+public enum VerificationMode {
+
+    /**
+     * Reads the user and the stored clearance from the database on every scan.
+     * <p>
+     * The stored level is trusted until its {@code clearanceNextExpiry} and read in a read-only
+     * transaction. Only a scan after that instant recalculates the level, in a write transaction.
+     * </p>
+     */
+    STRICT,
+
+    /**
+     * Answers from an in-memory clearance snapshot.
+     * <p>
+     * The snapshot is refreshed when the user's progress changes or when the earliest
+     * training expiry passes. No database writes happen during the scan itself.
+     * </p>
+     */
+    CACHED
+}
@@ -0,0 +1,150 @@
+package com.fvps.backend.domain.model;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Compact, immutable answer key of a quiz module.
+ * <p>
+ * Question UUIDs are stored as two parallel {@code long} arrays sorted by (most, least) significant bits, and
+ * the correct option of each question as a {@code byte}. Scoring a submission is one binary search per answer
+ * over primitive arrays: no entity, no boxed key and no hash map of the module is touched.
+ * </p>
+ */
+public final class CompiledAnswerKey {
+
+    /**
+     * Answer key of a module without questions.
+     */
+    public static final CompiledAnswerKey EMPTY = new CompiledAnswerKey(new long[0], new long[0], new byte[0]);
+
+    private final long[] mostSigBits;
+    private final long[] leastSigBits;
+    private final byte[] correctOptions;
+
+    private CompiledAnswerKey(long[] mostSigBits, long[] leastSigBits, byte[] correctOptions) {
+        this.mostSigBits = mostSigBits;
+        this.leastSigBits = leastSigBits;
+        this.correctOptions = correctOptions;
+    }
+
+    /**
+     * Compiles the answer key of a module.
+     *
+     * @param correctOptionByQuestion the correct option index of each question, keyed by question UUID.
+     * @return the compiled key.
+     * @throws IllegalStateException if an option index does not fit into a byte.
+     */
+    public static CompiledAnswerKey compile(Map<UUID, Integer> correctOptionByQuestion) {
+        if (correctOptionByQuestion.isEmpty()) return EMPTY;
+
+        List<Map.Entry<UUID, Integer>> entries = correctOptionByQuestion.entrySet().stream()
+                .sorted((a, b) -> compare(a.getKey().getMostSignificantBits(), a.getKey().getLeastSignificantBits(),
+                        b.getKey().getMostSignificantBits(), b.getKey().getLeastSignificantBits()))
+                .toList();
+
+        int size = entries.size();
+        long[] most = new long[size];
+        long[] least = new long[size];
+        byte[] correct = new byte[size];
+        for (int i = 0; i < size; i++) {
+            UUID questionId = entries.get(i).getKey();
+            int option = entries.get(i).getValue();
+            if (option < 0 || option > Byte.MAX_VALUE) {
+                throw new IllegalStateException("Correct option index out of range for question " + questionId + ": " + option);
+            }
+            most[i] = questionId.getMostSignificantBits();
+            least[i] = questionId.getLeastSignificantBits();
+            correct[i] = (byte) option;
+        }
+        return new CompiledAnswerKey(most, least, correct);
+    }
+
+    /**
+     * @return the number of questions.
+     */
+    public int size() {
+        return correctOptions.length;
+    }
+
+    /**
+     * @param index position in key order (0..{@link #size()} - 1).
+     * @return the UUID of the question at that position.
+     */
+    public UUID questionId(int index) {
+        return new UUID(mostSigBits[index], leastSigBits[index]);
+    }
+
+    /**
+     * Scores a submission. Every question must be answered exactly once.
+     *
+     * @param answers the chosen option index per question UUID.
+     * @return the number of correct answers and which questions (in key order) were answered correctly.
+     * @throws IllegalArgumentException if answers are missing or refer to unknown questions.
+     */
+    public Result score(Map<UUID, Integer> answers) {
+        if (answers == null || answers.size() != correctOptions.length) {
+            throw new IllegalArgumentException("Number of answers does not match number of questions.");
+        }
+
+        BitSet correct = new BitSet(correctOptions.length);
+        int correctCount = 0;
+        for (Map.Entry<UUID, Integer> answer : answers.entrySet()) {
+            UUID questionId = answer.getKey();
+            int index = indexOf(questionId);
+            if (index < 0) {
+                throw new IllegalArgumentException("Answer for unknown question: " + questionId);
+            }
+            Integer given = answer.getValue();
+            if (given == null) {
+                throw new IllegalArgumentException("Missing answer for Q: " + questionId);
+            }
+            if (given == correctOptions[index]) {
+                correct.set(index);
+                correctCount++;
+            }
+        }
+        return new Result(correctCount, correctOptions.length, correct);
+    }
+
+    private int indexOf(UUID questionId) {
+        if (questionId == null) return -1;
+        long most = questionId.getMostSignificantBits();
+        long least = questionId.getLeastSignificantBits();
+
+        int low = 0;
+        int high = correctOptions.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = compare(mostSigBits[mid], leastSigBits[mid], most, least);
+            if (cmp < 0) low = mid + 1;
+            else if (cmp > 0) high = mid - 1;
+            else return mid;
+        }
+        return -1;
+    }
+
+    private static int compare(long mostA, long leastA, long mostB, long leastB) {
+        int cmp = Long.compare(mostA, mostB);
+        return cmp != 0 ? cmp : Long.compare(leastA, leastB);
+    }
+
+    /**
+     * Outcome of scoring one submission.
+     *
+     * @param correctCount   the number of correctly answered questions.
+     * @param questionCount  the number of questions in the quiz.
+     * @param correctAnswers bit {@code i} is set if the question at key position {@code i} was answered correctly.
+     */
+    public record Result(int correctCount, int questionCount, BitSet correctAnswers) {
+
+        /**
+         * @return the share of correct answers (0.0 to 1.0).
+         */
+        public double score() {
+            return (double) correctCount / questionCount;
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.fvps.backend.domain.model;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Immutable, precomputed mapping from security level to the trainings it requires.
+ * <p>
+ * Every known training is assigned a stable bit position. A user's valid trainings can then be
+ * represented as a {@link BitSet}, and checking a level of the clearance ladder becomes a set
+ * containment test instead of a database query plus a scan over the user's statuses.
+ * </p>
+ * <p>
+ * Instances are never modified after construction. A change in training definitions produces
+ * a new index with a higher {@link #getVersion() version}.
+ * </p>
+ */
+public final class SecurityLevelIndex {
+
+    /**
+     * The highest security level evaluated by the clearance ladder.
+     */
+    public static final int MAX_LEVEL = 4;
+
+    /**
+     * Monotonically increasing version of this index.
+     */
+    @Getter
+    private final long version;
+
+    /**
+     * Content hash of the level layout (which training requires which level).
+     * <p>
+     * Unlike {@link #version}, it does not depend on the order of rebuilds, so every application
+     * instance computes the same value for the same training definitions. Clearance levels stored
+     * against one fingerprint are not valid under another.
+     * </p>
+     */
+    @Getter
+    private final long fingerprint;
+
+    private final Map<UUID, Integer> bitByTraining;
+
+    /**
+     * Required trainings per level, indexed 1..{@link #MAX_LEVEL}.
+     */
+    private final BitSet[] requiredByLevel;
+
+    /**
+     * Union of the requirements of levels 1..n, indexed 1..{@link #MAX_LEVEL}.
+     */
+    private final BitSet[] requiredUpToLevel;
+
+    /**
+     * Builds an index from the security level of every training.
+     *
+     * @param version          the version number assigned to this index.
+     * @param levelsByTraining the security level of each training, keyed by training UUID.
+     */
+    public SecurityLevelIndex(long version, Map<UUID, Integer> levelsByTraining) {
+        this.version = version;
+        this.bitByTraining = new HashMap<>(levelsByTraining.size() * 2);
+        this.requiredByLevel = new BitSet[MAX_LEVEL + 1];
+        this.requiredUpToLevel = new BitSet[MAX_LEVEL + 1];
+
+        for (int level = 0; level <= MAX_LEVEL; level++) {
+            requiredByLevel[level] = new BitSet();
+        }
+
+        int nextBit = 0;
+        long hash = 0;
+        for (Map.Entry<UUID, Integer> entry : levelsByTraining.entrySet()) {
+            int bit = nextBit++;
+            bitByTraining.put(entry.getKey(), bit);
+            int level = entry.getValue();
+            if (level >= 1 && level <= MAX_LEVEL) {
+                requiredByLevel[level].set(bit);
+                hash += mix(entry.getKey(), level);
+            }
+        }
+        this.fingerprint = hash;
+
+        BitSet cumulative = new BitSet();
+        requiredUpToLevel[0] = new BitSet();
+        for (int level = 1; level <= MAX_LEVEL; level++) {
+            cumulative.or(requiredByLevel[level]);
+            requiredUpToLevel[level] = (BitSet) cumulative.clone();
+        }
+    }
+
+    /**
+     * Returns the bit position assigned to a training.
+     *
+     * @param trainingId the UUID of the training.
+     * @return the bit position, or {@code -1} if the training is unknown to this index.
+     */
+    public int bitOf(UUID trainingId) {
+        Integer bit = bitByTraining.get(trainingId);
+        return bit != null ? bit : -1;
+    }
+
+    /**
+     * Returns the number of bit positions in use.
+     *
+     * @return the number of indexed trainings.
+     */
+    public int size() {
+        return bitByTraining.size();
+    }
+
+    /**
+     * Runs the clearance ladder over a set of valid trainings.
+     * <p>
+     * Levels are checked in ascending order. A level without any required training passes
+     * automatically; the first level whose requirements are not contained in
+     * {@code validTrainings} breaks the ladder.
+     * </p>
+     *
+     * @param validTrainings the bits of the trainings the user currently holds a valid completion for.
+     * @return the highest level (0-{@link #MAX_LEVEL}) reached.
+     */
+    public int highestSatisfiedLevel(BitSet validTrainings) {
+        int achieved = 0;
+        for (int level = 1; level <= MAX_LEVEL; level++) {
+            if (!containsAll(validTrainings, requiredByLevel[level])) {
+                break;
+            }
+            achieved = level;
+        }
+        return achieved;
+    }
+
+    /**
+     * Finds the earliest expiry among the trainings that the given level depends on.
+     *
+     * @param level          the achieved level.
+     * @param expiryByBit    the {@code validUntil} of each valid training, indexed by bit position.
+     * @return the earliest relevant expiry, or {@code null} if none of them expires.
+     */
+    public LocalDateTime earliestExpiryUpTo(int level, LocalDateTime[] expiryByBit) {
+        if (level <= 0) return null;
+        BitSet required = requiredUpToLevel[Math.min(level, MAX_LEVEL)];
+        LocalDateTime earliest = null;
+        for (int bit = required.nextSetBit(0); bit >= 0; bit = required.nextSetBit(bit + 1)) {
+            LocalDateTime expiry = bit < expiryByBit.length ? expiryByBit[bit] : null;
+            if (expiry != null && (earliest == null || expiry.isBefore(earliest))) {
+                earliest = expiry;
+            }
+        }
+        return earliest;
+    }
+
+    /**
+     * Hashes one (training, level) pair. Summing the results keeps the fingerprint independent of iteration order.
+     */
+    private static long mix(UUID trainingId, int level) {
+        long h = trainingId.getMostSignificantBits() * 0x9E3779B97F4A7C15L
+                ^ trainingId.getLeastSignificantBits()
+                ^ ((long) level << 56);
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        return h ^ (h >>> 33);
+    }
+
+    private static boolean containsAll(BitSet set, BitSet required) {
+        for (int bit = required.nextSetBit(0); bit >= 0; bit = required.nextSetBit(bit + 1)) {
+            if (!set.get(bit)) return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,140 @@
+package com.fvps.backend.domain.model;
+
+import com.fvps.backend.domain.entities.QuizQuestion;
+import com.fvps.backend.domain.entities.Training;
+import com.fvps.backend.domain.entities.TrainingModule;
+import com.fvps.backend.domain.enums.ModuleType;
+import com.fvps.backend.domain.enums.TrainingType;
+import lombok.Getter;
+
+import java.util.*;
+
+/**
+ * Immutable, fully materialised copy of a training's content.
+ * <p>
+ * Holds everything trainee-facing reads and quiz scoring need (module order, texts, options and compiled
+ * {@link CompiledAnswerKey answer keys}),
+ * so those paths never walk the lazily loaded {@code Training -> modules -> questions -> options} graph.
+ * </p>
+ * <p>
+ * Instances are never modified after construction. A content change produces a new snapshot; the
+ * {@link #getVersion() version} is the {@link Training#getVersion()} the snapshot was built from.
+ * </p>
+ */
+@Getter
+public final class TrainingSnapshot {
+
+    private final UUID id;
+    private final Long version;
+    private final String title;
+    private final String description;
+    private final TrainingType type;
+    private final int validityPeriodDays;
+    private final Double passingThreshold;
+    private final int securityLevel;
+
+    /**
+     * Modules sorted by {@code orderIndex}.
+     */
+    private final List<Module> modules;
+
+    @Getter(lombok.AccessLevel.NONE)
+    private final Map<UUID, Integer> positionByModule;
+
+    private TrainingSnapshot(Training training, List<Module> modules) {
+        this.id = training.getId();
+        this.version = training.getVersion();
+        this.title = training.getTitle();
+        this.description = training.getDescription();
+        this.type = training.getType();
+        this.validityPeriodDays = training.getValidityPeriodDays();
+        this.passingThreshold = training.getPassingThreshold();
+        this.securityLevel = training.getSecurityLevel();
+        this.modules = List.copyOf(modules);
+
+        Map<UUID, Integer> positions = new HashMap<>(modules.size() * 2);
+        for (int i = 0; i < modules.size(); i++) {
+            positions.put(modules.get(i).id(), i);
+        }
+        this.positionByModule = Map.copyOf(positions);
+    }
+
+    /**
+     * Copies the content of a training. Must be called while the training's modules and questions can still
+     * be loaded (i.e. inside a transaction).
+     *
+     * @param training the training to copy.
+     * @return the snapshot.
+     */
+    public static TrainingSnapshot of(Training training) {
+        List<Module> modules = new ArrayList<>();
+        if (training.getModules() != null) {
+            for (TrainingModule module : training.getModules()) {
+                modules.add(Module.of(module));
+            }
+        }
+        modules.sort(Comparator.comparingInt(Module::orderIndex));
+        return new TrainingSnapshot(training, modules);
+    }
+
+    /**
+     * @param moduleId the UUID of a module.
+     * @return the module, or {@code null} if it does not belong to this training.
+     */
+    public Module module(UUID moduleId) {
+        Integer position = moduleId != null ? positionByModule.get(moduleId) : null;
+        return position != null ? modules.get(position) : null;
+    }
+
+    /**
+     * @return the first module, or {@code null} if the training has none.
+     */
+    public Module firstModule() {
+        return modules.isEmpty() ? null : modules.getFirst();
+    }
+
+    /**
+     * @param moduleId the UUID of a module.
+     * @return the module following it, or {@code null} if it is the last one (or unknown).
+     */
+    public Module nextModule(UUID moduleId) {
+        Integer position = moduleId != null ? positionByModule.get(moduleId) : null;
+        if (position == null || position + 1 >= modules.size()) return null;
+        return modules.get(position + 1);
+    }
+
+    /**
+     * A module of the training.
+     *
+     * @param questions quiz questions in {@code orderIndex} order (empty for non-quiz modules).
+     * @param answerKey the compiled answer key of the questions.
+     */
+    public record Module(UUID id, String title, int orderIndex, ModuleType type, String contentUrl, Long version,
+                         List<Question> questions, CompiledAnswerKey answerKey) {
+
+        static Module of(TrainingModule module) {
+            List<Question> questions = new ArrayList<>();
+            Map<UUID, Integer> answerKey = new HashMap<>();
+            if (module.getQuestions() != null) {
+                for (QuizQuestion question : module.getQuestions()) {
+                    questions.add(Question.of(question));
+                    answerKey.put(question.getId(), question.getCorrectOptionIndex());
+                }
+            }
+            return new Module(module.getId(), module.getTitle(), module.getOrderIndex(), module.getType(),
+                    module.getContentUrl(), module.getVersion(), List.copyOf(questions), CompiledAnswerKey.compile(answerKey));
+        }
+    }
+
+    /**
+     * A quiz question.
+     */
+    public record Question(UUID id, String questionText, List<String> options, int correctOptionIndex, Long version) {
+
+        static Question of(QuizQuestion question) {
+            return new Question(question.getId(), question.getQuestionText(),
+                    question.getOptions() != null ? List.copyOf(question.getOptions()) : List.of(),
+                    question.getCorrectOptionIndex(), question.getVersion());
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.fvps.backend.events;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+import java.util.Set;
+
+/**
+ * Published locally when this node acquires or loses work partitions.
+ * <p>
+ * Partitioned schedulers load the work of acquired partitions and drop what they hold for released ones.
+ * The event is delivered on the cluster heartbeat thread, so listeners must not block on slow work.
+ * </p>
+ */
+@Getter
+public class PartitionOwnershipChangedEvent extends ApplicationEvent {
+
+    /**
+     * Partitions this node has just acquired.
+     */
+    private final Set<Integer> acquired;
+
+    /**
+     * Partitions this node has released or lost.
+     */
+    private final Set<Integer> released;
+
+    /**
+     * Creates a new event.
+     *
+     * @param source   the component that published the event.
+     * @param acquired the newly acquired partitions.
+     * @param released the released or lost partitions.
+     */
+    public PartitionOwnershipChangedEvent(Object source, Set<Integer> acquired, Set<Integer> released) {
+        super(source);
+        this.acquired = Set.copyOf(acquired);
+        this.released = Set.copyOf(released);
+    }
+}
@@ -0,0 +1,33 @@
+package com.fvps.backend.events;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+import java.util.UUID;
+
+/**
+ * Published when the content of a training (its modules or quiz questions) is changed.
+ * <p>
+ * Unlike {@link TrainingDefinitionChangedEvent}, such a change does not affect anybody's clearance,
+ * so only caches of the training content need to react to it.
+ * </p>
+ */
+@Getter
+public class TrainingContentChangedEvent extends ApplicationEvent {
+
+    /**
+     * The UUID of the training whose content was changed.
+     */
+    private final UUID trainingId;
+
+    /**
+     * Creates a new event.
+     *
+     * @param source     the component that published the event.
+     * @param trainingId the UUID of the changed training.
+     */
+    public TrainingContentChangedEvent(Object source, UUID trainingId) {
+        super(source);
+        this.trainingId = trainingId;
+    }
+}
@@ -0,0 +1,33 @@
+package com.fvps.backend.events;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+import java.util.UUID;
+
+/**
+ * Published when a training definition is created, updated or deleted.
+ * <p>
+ * A change of this kind (e.g. a new security level or validity period) can affect the clearance
+ * of every user at once, so listeners typically drop all derived clearance data.
+ * </p>
+ */
+@Getter
+public class TrainingDefinitionChangedEvent extends ApplicationEvent {
+
+    /**
+     * The UUID of the training that was changed.
+     */
+    private final UUID trainingId;
+
+    /**
+     * Creates a new event.
+     *
+     * @param source     the component that published the event.
+     * @param trainingId the UUID of the changed training.
+     */
+    public TrainingDefinitionChangedEvent(Object source, UUID trainingId) {
+        super(source);
+        this.trainingId = trainingId;
+    }
+}
@@ -0,0 +1,34 @@
+package com.fvps.backend.events;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+import java.util.UUID;
+
+/**
+ * Published whenever something that influences a user's access decision has changed.
+ * <p>
+ * Covers training progress transitions (completion, failure, revocation, reset, assignment changes),
+ * account status changes and profile edits visible to security guards (name, photo).
+ * Listeners use it to invalidate or refresh any derived, cached view of the user's clearance.
+ * </p>
+ */
+@Getter
+public class UserAccessChangedEvent extends ApplicationEvent {
+
+    /**
+     * The UUID of the user whose access-relevant data has changed.
+     */
+    private final UUID userId;
+
+    /**
+     * Creates a new event.
+     *
+     * @param source the component that published the event.
+     * @param userId the UUID of the affected user.
+     */
+    public UserAccessChangedEvent(Object source, UUID userId) {
+        super(source);
+        this.userId = userId;
+    }
+}
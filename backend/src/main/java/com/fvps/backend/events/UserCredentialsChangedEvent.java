@@ -0,0 +1,32 @@
+package com.fvps.backend.events;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * Published whenever something that influences a user's authentication has changed.
+ * <p>
+ * Covers account status changes (block, unblock, lockout), password changes and resets, and role changes.
+ * Listeners use it to drop any cached principal of the user, so the change applies to requests made with
+ * tokens that were issued before it.
+ * </p>
+ */
+@Getter
+public class UserCredentialsChangedEvent extends ApplicationEvent {
+
+    /**
+     * The email (JWT subject) of the affected user.
+     */
+    private final String email;
+
+    /**
+     * Creates a new event.
+     *
+     * @param source the component that published the event.
+     * @param email  the email of the affected user.
+     */
+    public UserCredentialsChangedEvent(Object source, String email) {
+        super(source);
+        this.email = email;
+    }
+}
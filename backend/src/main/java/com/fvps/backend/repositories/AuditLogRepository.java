@@ -1,4 +1,20 @@
 package com.fvps.backend.repositories;
 
-public interface AuditLogRepository {
+import com.fvps.backend.domain.entities.AuditLog;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+/**
+ * Data Access Object (DAO) for reading {@link AuditLog} entries.
+ * <p>
+ * Entries are written in batches by the {@link com.fvps.backend.services.AuditLogWriter}; this repository
+ * serves the read side. {@link JpaSpecificationExecutor} is used for the filtered, keyset-paginated
+ * audit trail, where only the filters actually supplied end up in the query.
+ * </p>
+ */
+@Repository
+public interface AuditLogRepository extends JpaRepository<AuditLog, UUID>, JpaSpecificationExecutor<AuditLog> {
 }
@@ -0,0 +1,69 @@
+package com.fvps.backend.repositories;
+
+import com.fvps.backend.domain.entities.BulkJob;
+import com.fvps.backend.domain.enums.BulkJobStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Data Access Object (DAO) for managing {@link BulkJob} persistence.
+ * <p>
+ * Besides plain lookups for progress polling, it provides the claim protocol of the job engine:
+ * candidates are listed without locks and then claimed with a conditional update, so at most one
+ * application instance wins each job.
+ * </p>
+ */
+@Repository
+public interface BulkJobRepository extends JpaRepository<BulkJob, UUID> {
+
+    /**
+     * Lists the oldest jobs that can be claimed: queued jobs, and running jobs whose owner has stopped
+     * sending heartbeats.
+     *
+     * @param staleBefore heartbeats older than this are considered abandoned.
+     * @param pageable    limits the number of candidates.
+     * @return the UUIDs of claimable jobs, oldest first.
+     */
+    @Query("SELECT j.id FROM BulkJob j WHERE j.status = com.fvps.backend.domain.enums.BulkJobStatus.QUEUED "
+            + "OR (j.status = com.fvps.backend.domain.enums.BulkJobStatus.RUNNING AND j.heartbeatAt < :staleBefore) "
+            + "ORDER BY j.createdAt")
+    List<UUID> findClaimable(@Param("staleBefore") LocalDateTime staleBefore, Pageable pageable);
+
+    /**
+     * Atomically takes ownership of a job if it is still claimable.
+     * <p>
+     * The version is bumped so that a previous owner still holding the entity fails its next checkpoint.
+     * </p>
+     *
+     * @param id          the UUID of the job.
+     * @param owner       identifier of the claiming instance.
+     * @param now         the current time, stored as heartbeat and (on first claim) start time.
+     * @param staleBefore heartbeats older than this are considered abandoned.
+     * @return 1 if the job was claimed, 0 if another instance got it first.
+     */
+    @Modifying
+    @Query("UPDATE BulkJob j SET j.status = com.fvps.backend.domain.enums.BulkJobStatus.RUNNING, j.owner = :owner, "
+            + "j.heartbeatAt = :now, j.startedAt = COALESCE(j.startedAt, :now), j.version = j.version + 1 "
+            + "WHERE j.id = :id AND (j.status = com.fvps.backend.domain.enums.BulkJobStatus.QUEUED "
+            + "OR (j.status = com.fvps.backend.domain.enums.BulkJobStatus.RUNNING AND j.heartbeatAt < :staleBefore))")
+    int claim(@Param("id") UUID id, @Param("owner") String owner,
+              @Param("now") LocalDateTime now, @Param("staleBefore") LocalDateTime staleBefore);
+
+    /**
+     * Retrieves a paginated list of jobs, optionally restricted to one status.
+     *
+     * @param status   the status to filter by.
+     * @param pageable pagination information.
+     * @return a page of jobs.
+     */
+    Page<BulkJob> findByStatus(BulkJobStatus status, Pageable pageable);
+}
@@ -0,0 +1,18 @@
+package com.fvps.backend.repositories;
+
+import com.fvps.backend.domain.entities.EmailOutboxMessage;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+/**
+ * Data Access Object (DAO) for the email outbox.
+ * <p>
+ * Only used to enqueue messages within the caller's transaction; the dispatcher claims and updates rows
+ * with set-based SQL.
+ * </p>
+ */
+@Repository
+public interface EmailOutboxRepository extends JpaRepository<EmailOutboxMessage, UUID> {
+}
@@ -0,0 +1,37 @@
+package com.fvps.backend.repositories;
+
+import com.fvps.backend.domain.entities.PassRevocation;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Data Access Object (DAO) for pass token revocations.
+ */
+@Repository
+public interface PassRevocationRepository extends JpaRepository<PassRevocation, Long> {
+
+    /**
+     * Reads the feed after a given position.
+     *
+     * @param sequence the last position the client has seen.
+     * @param limit    the maximum number of rows.
+     * @return the following revocations, in feed order.
+     */
+    List<PassRevocation> findBySequenceGreaterThanOrderBySequenceAsc(long sequence, Limit limit);
+
+    /**
+     * Deletes revocations that no unexpired token can predate.
+     *
+     * @param threshold revocations before this moment are deleted.
+     * @return the number of deleted rows.
+     */
+    @Modifying
+    @Query("DELETE FROM PassRevocation r WHERE r.revokedAt < :threshold")
+    int deleteRevokedBefore(LocalDateTime threshold);
+}
@@ -1,9 +1,27 @@
 package com.fvps.backend.repositories;
 
 import com.fvps.backend.domain.entities.Training;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 
+import java.util.Optional;
 import java.util.UUID;
 
 public interface TrainingRepository extends JpaRepository<Training, UUID> {
-}
\ No newline at end of file
+
+    /**
+     * Loads a training and increments its version right away.
+     * <p>
+     * Used when modules or questions change: the content lives in other tables, so the training row itself is
+     * not updated otherwise. The new version tells every application instance that its cached snapshot of the
+     * training is outdated. The row stays locked until the transaction ends, which also serialises concurrent
+     * content edits of the same training.
+     * </p>
+     *
+     * @param id the UUID of the training.
+     * @return the training, with its incremented version.
+     */
+    @Lock(LockModeType.PESSIMISTIC_FORCE_INCREMENT)
+    Optional<Training> findWithVersionIncrementById(UUID id);
+}
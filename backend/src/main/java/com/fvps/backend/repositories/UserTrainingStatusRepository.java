@@ -99,6 +99,35 @@ public interface UserTrainingStatusRepository extends JpaRepository<UserTraining
      */
     Optional<UserTrainingStatus> findByUserIdAndTrainingId(UUID userId, UUID trainingId);
 
+    /**
+     * Retrieves a user's progress record in a training together with everything a progress step needs.
+     * <p>
+     * <b>Performance Note:</b> Fetches {@code training} in the same query, served by the
+     * {@code (user_id, training_id)} index. The module content is read from the cached training snapshot,
+     * so {@code currentModule} and the user stay lazy proxies.
+     * </p>
+     *
+     * @param userId     the UUID of the user.
+     * @param trainingId the UUID of the training.
+     * @return an {@link Optional} containing the status if found.
+     */
+    @EntityGraph(attributePaths = {"training"})
+    Optional<UserTrainingStatus> findProgressByUserIdAndTrainingId(UUID userId, UUID trainingId);
+
+    /**
+     * Same as {@link #findProgressByUserIdAndTrainingId}, but resolves the user by email in the same query
+     * and fetches it as well.
+     * <p>
+     * Used when the email-to-id mapping of the user is not cached yet.
+     * </p>
+     *
+     * @param email      the email of the user.
+     * @param trainingId the UUID of the training.
+     * @return an {@link Optional} containing the status if found.
+     */
+    @EntityGraph(attributePaths = {"user", "training"})
+    Optional<UserTrainingStatus> findProgressByUserEmailAndTrainingId(String email, UUID trainingId);
+
     /**
      * Finds records based on status and validity expiration date range.
      * <p>
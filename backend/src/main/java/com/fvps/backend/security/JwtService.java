@@ -1,6 +1,7 @@
 package com.fvps.backend.security;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
@@ -9,28 +10,89 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
+/**
+ * Issues and verifies the JWTs used for API authentication.
+ * <p>
+ * The signing key and the parser are built once at startup; both are immutable and thread-safe.
+ * Verified tokens are remembered in a small cache keyed by the SHA-256 hash of the token, so a client
+ * presenting the same token repeatedly (e.g. a guard handset) pays for signature verification only once.
+ * A cached entry never outlives the token's own expiration.
+ * </p>
+ */
 @Service
 public class JwtService {
 
-    @Value("${application.security.jwt.secret-key}")
-    private String secretKey;
+    private final Key signInKey;
+    private final JwtParser parser;
+    private final long jwtExpiration;
 
-    @Value("${application.security.jwt.expiration}")
-    private long jwtExpiration;
+    private final Map<TokenHash, VerifiedToken> verifiedTokens = new ConcurrentHashMap<>();
+    private final int cacheMaxEntries;
+    private final long cacheTtlMillis;
+
+    public JwtService(
+            @Value("${application.security.jwt.secret-key}") String secretKey,
+            @Value("${application.security.jwt.expiration}") long jwtExpiration,
+            @Value("${application.security.jwt.verified-cache.max-entries:10000}") int cacheMaxEntries,
+            @Value("${application.security.jwt.verified-cache.ttl-seconds:300}") long cacheTtlSeconds
+    ) {
+        this.signInKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey));
+        this.parser = Jwts.parserBuilder().setSigningKey(signInKey).build();
+        this.jwtExpiration = jwtExpiration;
+        this.cacheMaxEntries = cacheMaxEntries;
+        this.cacheTtlMillis = TimeUnit.SECONDS.toMillis(cacheTtlSeconds);
+    }
+
+    /**
+     * Verifies the token's signature and expiration and returns its claims.
+     * <p>
+     * This is the single place where tokens are verified; all other read methods delegate here.
+     * The returned claims may be shared between requests and must be treated as read-only.
+     * </p>
+     *
+     * @param token the compact JWT.
+     * @return the verified claims.
+     * @throws io.jsonwebtoken.JwtException if the token is malformed, tampered with or expired.
+     */
+    public Claims parseToken(String token) {
+        TokenHash hash = TokenHash.of(token);
+        long now = System.currentTimeMillis();
+
+        VerifiedToken cached = verifiedTokens.get(hash);
+        if (cached != null) {
+            if (cached.expiresAtMillis() > now) {
+                return cached.claims();
+            }
+            verifiedTokens.remove(hash, cached);
+        }
+
+        Claims claims = parser.parseClaimsJws(token).getBody();
+        remember(hash, claims, now);
+        return claims;
+    }
 
     public String extractUsername(String token) {
-        return extractClaim(token, Claims::getSubject);
+        return parseToken(token).getSubject();
+    }
+
+    public Date extractIssuedAt(String token) {
+        return parseToken(token).getIssuedAt();
     }
 
     public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
-        return claimsResolver.apply(claims);
+        return claimsResolver.apply(parseToken(token));
     }
 
     public String generateToken(UserDetails userDetails) {
@@ -47,33 +109,56 @@ public class JwtService {
                 .setSubject(userDetails.getUsername())
                 .setIssuedAt(new Date(System.currentTimeMillis()))
                 .setExpiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(getSignInKey(), SignatureAlgorithm.HS256)
+                .signWith(signInKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
     public boolean isTokenValid(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername())) && !isTokenExpired(token);
+        return isTokenValid(parseToken(token), userDetails);
     }
 
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    /**
+     * Checks already verified claims against the loaded user, without verifying the token again.
+     *
+     * @param claims      claims returned by {@link #parseToken(String)}.
+     * @param userDetails the user the token should belong to.
+     * @return true if the token belongs to the user and has not expired.
+     */
+    public boolean isTokenValid(Claims claims, UserDetails userDetails) {
+        return claims.getSubject().equals(userDetails.getUsername()) && !claims.getExpiration().before(new Date());
     }
 
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+    private void remember(TokenHash hash, Claims claims, long now) {
+        if (cacheMaxEntries <= 0) return;
+
+        if (verifiedTokens.size() >= cacheMaxEntries) {
+            verifiedTokens.values().removeIf(entry -> entry.expiresAtMillis() <= now);
+            if (verifiedTokens.size() >= cacheMaxEntries) return;
+        }
+
+        long expiresAt = now + cacheTtlMillis;
+        if (claims.getExpiration() != null) {
+            expiresAt = Math.min(expiresAt, claims.getExpiration().getTime());
+        }
+        verifiedTokens.put(hash, new VerifiedToken(claims, expiresAt));
     }
 
-    private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSignInKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    /**
+     * The first 128 bits of a token's SHA-256 hash. The token itself is never kept in memory.
+     */
+    private record TokenHash(long high, long low) {
+
+        static TokenHash of(String token) {
+            try {
+                byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+                ByteBuffer buffer = ByteBuffer.wrap(digest);
+                return new TokenHash(buffer.getLong(), buffer.getLong());
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 is not available.", e);
+            }
+        }
     }
 
-    private Key getSignInKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secretKey);
-        return Keys.hmacShaKeyFor(keyBytes);
+    private record VerifiedToken(Claims claims, long expiresAtMillis) {
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,107 @@
+package com.fvps.backend.security;
+
+import com.fvps.backend.events.UserCredentialsChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Short-lived cache of the {@link UserDetails} loaded for a JWT.
+ * <p>
+ * Spares {@link JwtFilter} a user lookup on every authenticated request. Entries are keyed by the token's
+ * subject and issue time, expire after {@code app.security.principal-cache.ttl-seconds}, and are dropped as
+ * soon as a {@link UserCredentialsChangedEvent} is published for the subject. The TTL is therefore the upper
+ * bound on how long another instance (which does not see the event) keeps honouring a stale principal.
+ * </p>
+ * <p>
+ * The cache is bounded by {@code app.security.principal-cache.max-entries}. When full, expired entries are
+ * purged; if it is still full, new principals are simply not cached.
+ * </p>
+ */
+@Component
+public class PrincipalCache {
+
+    private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+
+    private final long ttlNanos;
+    private final int maxEntries;
+
+    public PrincipalCache(
+            @Value("${app.security.principal-cache.ttl-seconds:30}") long ttlSeconds,
+            @Value("${app.security.principal-cache.max-entries:10000}") int maxEntries
+    ) {
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Returns the cached principal for a token, if present and not expired.
+     *
+     * @param subject  the token subject (email).
+     * @param issuedAt the token issue time.
+     * @return the cached principal, or {@code null}.
+     */
+    public UserDetails get(String subject, Date issuedAt) {
+        Key key = new Key(subject, issuedAt != null ? issuedAt.getTime() : 0);
+        Entry entry = entries.get(key);
+        if (entry == null) return null;
+
+        if (entry.isExpired(System.nanoTime())) {
+            entries.remove(key, entry);
+            return null;
+        }
+        return entry.principal();
+    }
+
+    /**
+     * Caches the principal loaded for a token.
+     *
+     * @param subject   the token subject (email).
+     * @param issuedAt  the token issue time.
+     * @param principal the loaded principal.
+     */
+    public void put(String subject, Date issuedAt, UserDetails principal) {
+        long now = System.nanoTime();
+        if (entries.size() >= maxEntries) {
+            entries.values().removeIf(entry -> entry.isExpired(now));
+            if (entries.size() >= maxEntries) return;
+        }
+        entries.put(new Key(subject, issuedAt != null ? issuedAt.getTime() : 0), new Entry(principal, now + ttlNanos));
+    }
+
+    /**
+     * Drops every cached principal of the given subject.
+     *
+     * @param subject the token subject (email).
+     */
+    public void invalidate(String subject) {
+        entries.keySet().removeIf(key -> key.subject().equals(subject));
+    }
+
+    /**
+     * Drops the user's cached principals once the change has been committed.
+     *
+     * @param event the event naming the affected user.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserCredentialsChanged(UserCredentialsChangedEvent event) {
+        invalidate(event.getEmail());
+    }
+
+    private record Key(String subject, long issuedAtMillis) {
+    }
+
+    private record Entry(UserDetails principal, long expiresAtNanos) {
+
+        boolean isExpired(long now) {
+            return now - expiresAtNanos >= 0;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.fvps.backend.services;
 
+import com.fvps.backend.domain.dto.user.PassDocument;
 import com.fvps.backend.domain.enums.UserStatus;
 
 import java.util.UUID;
@@ -32,8 +33,8 @@ public interface AdminService {
      * </p>
      *
      * @param userId the UUID of the user.
-     * @return a byte array containing the generated PDF file.
+     * @return the generated PDF file with its entity tag.
      * @throws IllegalStateException if the user is not {@code ACTIVE} or has no valid, completed trainings.
      */
-    byte[] generatePassPdf(UUID userId);
+    PassDocument generatePassPdf(UUID userId);
 }
\ No newline at end of file
@@ -0,0 +1,32 @@
+package com.fvps.backend.services;
+
+/**
+ * Service managing the time-based partitioning of the {@code audit_logs} table.
+ * <p>
+ * Audit entries are stored in monthly range partitions on {@code timestamp}. Partitions are created ahead
+ * of time, and partitions older than the retention period are detached, archived to compressed files on
+ * local disk and dropped. Queries restricted to a time range only touch the matching partitions.
+ * </p>
+ */
+public interface AuditLogPartitionService {
+
+    /**
+     * Converts {@code audit_logs} into a partitioned table if it is not one yet.
+     * <p>
+     * The existing table becomes the partition holding all rows before the first monthly partition, so no rows
+     * are copied. This is a one-off operation; it does nothing once the table is partitioned.
+     * </p>
+     */
+    void ensurePartitionedTable();
+
+    /**
+     * Creates the partitions for the current month and the configured number of months ahead, if missing.
+     */
+    void createUpcomingPartitions();
+
+    /**
+     * Detaches partitions that fall entirely outside the retention period, archives their rows and drops them.
+     * Expired rows of the default and legacy partitions are archived and deleted.
+     */
+    void archiveExpiredPartitions();
+}
@@ -1,9 +1,14 @@
 package com.fvps.backend.services;
 
+import com.fvps.backend.domain.dto.audit.AuditLogCursorPage;
+import com.fvps.backend.domain.dto.audit.AuditLogFilter;
 import com.fvps.backend.domain.entities.AuditLog;
+import com.fvps.backend.domain.enums.ExportFormat;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.UUID;
 
 /**
@@ -50,4 +55,35 @@ public interface AuditLogService {
      * @return a page of {@link AuditLog} entries.
      */
     Page<AuditLog> getAllLogs(Pageable pageable);
-}
\ No newline at end of file
+
+    /**
+     * Retrieves a page of audit logs using keyset (cursor) pagination.
+     * <p>
+     * Entries are returned newest first, ordered by {@code (timestamp, id)}. Unlike {@link #getAllLogs(Pageable)},
+     * no total count is computed and no rows are skipped, so the cost of a page does not depend on how deep
+     * into the audit trail it lies.
+     * </p>
+     *
+     * @param filter optional filters; {@code null} fields are ignored.
+     * @param cursor the {@code nextCursor} of the previous page, or {@code null} for the first page.
+     * @param size   the maximum number of entries to return.
+     * @return the page of entries with the cursor for the next page.
+     * @throws IllegalArgumentException if the cursor is malformed.
+     */
+    AuditLogCursorPage getLogs(AuditLogFilter filter, String cursor, int size);
+
+    /**
+     * Streams all audit logs matching the filter to the given output stream, oldest first.
+     * <p>
+     * Intended for compliance exports spanning months of data. Rows are written as they are read,
+     * so memory use stays constant regardless of the number of rows exported.
+     * </p>
+     *
+     * @param filter optional filters; {@code null} fields are ignored.
+     * @param format the output format.
+     * @param out    the stream to write to. It is flushed but not closed.
+     * @return the number of entries written.
+     * @throws IOException if writing to the stream fails (e.g. the client disconnected).
+     */
+    long exportLogs(AuditLogFilter filter, ExportFormat format, OutputStream out) throws IOException;
+}
@@ -0,0 +1,24 @@
+package com.fvps.backend.services;
+
+import com.fvps.backend.domain.entities.AuditLog;
+
+/**
+ * Low-level sink that persists fully populated {@link AuditLog} entries.
+ * <p>
+ * Separates the "what" of auditing (building the entry, resolving the actor and IP address),
+ * handled by {@link AuditLogService}, from the "how" of storing it (batching, queueing, buffering).
+ * </p>
+ */
+public interface AuditLogWriter {
+
+    /**
+     * Hands an audit entry over for persistence.
+     * <p>
+     * Depending on the configured durability, this method either returns immediately
+     * or waits until the entry has been stored.
+     * </p>
+     *
+     * @param entry a fully populated audit entry (actor, IP address and timestamp already resolved).
+     */
+    void write(AuditLog entry);
+}
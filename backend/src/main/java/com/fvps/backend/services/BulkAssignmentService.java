@@ -0,0 +1,28 @@
+package com.fvps.backend.services;
+
+import com.fvps.backend.domain.dto.training.BulkAssignmentRequest;
+import com.fvps.backend.domain.dto.training.BulkAssignmentResultDto;
+
+/**
+ * Service assigning trainings to whole cohorts of users in one operation.
+ * <p>
+ * Complements {@link TrainingProgressService#assignTrainingToUser} for onboarding scenarios such as a
+ * contractor crew, where issuing one request per user and training would mean thousands of calls.
+ * </p>
+ */
+public interface BulkAssignmentService {
+
+    /**
+     * Assigns every selected training to every selected user, skipping pairs that are already assigned.
+     * <p>
+     * Users are selected by any combination of explicit IDs, company name and role (all given criteria must
+     * match). Trainings are selected by explicit IDs and/or security level (either may match). At least one
+     * criterion of each kind is required.
+     * </p>
+     *
+     * @param request the user and training criteria.
+     * @return counts of matched users and trainings, created assignments and skipped pairs.
+     * @throws IllegalArgumentException if no user or no training criterion is given.
+     */
+    BulkAssignmentResultDto assignTrainings(BulkAssignmentRequest request);
+}
@@ -0,0 +1,30 @@
+package com.fvps.backend.services;
+
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Service applying the per-user consequences of a bulk progress change.
+ * <p>
+ * After a chunk of progress records has been changed with a set-based statement, every affected user needs a
+ * clearance recalculation, an invalidated clearance snapshot and possibly a notification. Both methods join
+ * the caller's transaction, so the consequences commit (or roll back) together with the chunk that caused them.
+ * </p>
+ */
+public interface BulkClearanceService {
+
+    /**
+     * Recalculates the clearance of the given users and announces the change of their access rights.
+     *
+     * @param userIds the UUIDs of the affected users.
+     */
+    void recalculate(Collection<UUID> userIds);
+
+    /**
+     * Notifies the given users about a change of their training progress.
+     *
+     * @param userIds      the UUIDs of the affected users.
+     * @param notification the message sent to each user.
+     */
+    void notifyUsers(Collection<UUID> userIds, String notification);
+}
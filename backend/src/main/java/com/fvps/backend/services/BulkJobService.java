@@ -0,0 +1,53 @@
+package com.fvps.backend.services;
+
+import com.fvps.backend.domain.dto.job.BulkJobDto;
+import com.fvps.backend.domain.enums.BulkJobStatus;
+import com.fvps.backend.domain.enums.BulkJobType;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.UUID;
+
+/**
+ * Service running mass progress changes as persistent background jobs.
+ * <p>
+ * Operations that touch every progress record of a training (resets, validity recalculation) are submitted
+ * here instead of running inside the admin's request. A pool of workers processes each job in fixed-size
+ * chunks, one transaction per chunk, and records a checkpoint with every chunk so that a job interrupted by
+ * a restart or a crash resumes where it stopped.
+ * </p>
+ */
+public interface BulkJobService {
+
+    /**
+     * Submits a new job.
+     * <p>
+     * The job row is written in the caller's transaction, so the job only becomes visible to workers if the
+     * change that triggered it commits.
+     * </p>
+     *
+     * @param type        the kind of change to apply.
+     * @param targetId    the UUID of the training or module the change applies to.
+     * @param description a human-readable summary of the job.
+     * @return the UUID of the job, used for progress polling.
+     */
+    UUID submit(BulkJobType type, UUID targetId, String description);
+
+    /**
+     * Retrieves the current state and progress of a job.
+     *
+     * @param jobId the UUID of the job.
+     * @return the job details.
+     * @throws RuntimeException if the job does not exist.
+     */
+    BulkJobDto getJob(UUID jobId);
+
+    /**
+     * Retrieves a paginated list of jobs, newest first.
+     *
+     * @param status   optional status filter (null for all jobs).
+     * @param pageable pagination information.
+     * @return a page of job details.
+     */
+    Page<BulkJobDto> getJobs(BulkJobStatus status, Pageable pageable);
+}
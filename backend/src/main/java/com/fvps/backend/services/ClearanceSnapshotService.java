@@ -0,0 +1,41 @@
+package com.fvps.backend.services;
+
+import com.fvps.backend.domain.dto.verification.ClearanceSnapshot;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Service maintaining an in-memory, read-only view of users' security clearance.
+ * <p>
+ * It exists to take the database off the hot path of guard QR scans. Snapshots are built lazily,
+ * refreshed when they reach their expiry instant, and dropped whenever progress, account status
+ * or training definitions change.
+ * </p>
+ */
+public interface ClearanceSnapshotService {
+
+    /**
+     * Returns a snapshot of the user's clearance that is valid at the current moment.
+     * <p>
+     * Served from memory when possible; otherwise it is rebuilt from the database
+     * without writing anything.
+     * </p>
+     *
+     * @param userId the UUID of the user.
+     * @return the snapshot, or an empty {@link Optional} if the user does not exist.
+     */
+    Optional<ClearanceSnapshot> getSnapshot(UUID userId);
+
+    /**
+     * Drops the cached snapshot of a single user.
+     *
+     * @param userId the UUID of the user.
+     */
+    void evict(UUID userId);
+
+    /**
+     * Drops all cached snapshots (e.g. after a training definition change).
+     */
+    void evictAll();
+}
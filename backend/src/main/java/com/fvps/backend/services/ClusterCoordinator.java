@@ -0,0 +1,57 @@
+package com.fvps.backend.services;
+
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * Service distributing scheduled work across the running application instances.
+ * <p>
+ * Work keys (e.g. user ids) are hashed into a fixed number of partitions. Each partition is leased by exactly one
+ * live node at a time, and the partitions are spread evenly across the nodes. A node that stops heartbeating
+ * loses its leases once they lapse, and the remaining nodes take its partitions over.
+ * </p>
+ */
+public interface ClusterCoordinator {
+
+    /**
+     * Returns the identifier of this node.
+     *
+     * @return the node id recorded as lease owner.
+     */
+    String getNodeId();
+
+    /**
+     * Returns the total number of work partitions.
+     *
+     * @return the partition count.
+     */
+    int getPartitionCount();
+
+    /**
+     * Maps a work key to its partition.
+     *
+     * @param key the work key, usually a user id.
+     * @return the partition number (0 to {@link #getPartitionCount()} - 1).
+     */
+    int partitionOf(UUID key);
+
+    /**
+     * Returns the fencing token under which this node holds a partition.
+     * <p>
+     * Empty if the partition is not held, or if its lease could not be renewed in time and may already
+     * belong to another node.
+     * </p>
+     *
+     * @param partition the partition number.
+     * @return the current fencing token, if the partition is held.
+     */
+    OptionalLong getFencingToken(int partition);
+
+    /**
+     * Returns the partitions currently held by this node.
+     *
+     * @return the fencing token of each held partition, keyed by partition number.
+     */
+    Map<Integer, Long> getOwnedPartitions();
+}
@@ -0,0 +1,38 @@
+package com.fvps.backend.services;
+
+import java.util.UUID;
+
+/**
+ * Service firing training expiries at the moment they happen.
+ * <p>
+ * Every completed, non-revoked training with a {@code validUntil} in the future is kept in an in-memory
+ * schedule. When its instant passes, the user's clearance is recalculated (downgraded if needed), the event
+ * is audited and the user is notified. Each expiry is processed exactly once, even with several
+ * application instances running: expiries are partitioned by user across the live nodes.
+ * </p>
+ */
+public interface ExpiryScheduler {
+
+    /**
+     * Loads the pending expiries of this node's partitions from the database into the schedule.
+     * <p>
+     * The same happens whenever the node acquires a partition. Expiries that passed while no node held the
+     * partition fire immediately.
+     * </p>
+     */
+    void rebuild();
+
+    /**
+     * Re-reads the pending expiries of one user after their progress changed.
+     *
+     * @param userId the UUID of the user.
+     */
+    void syncUser(UUID userId);
+
+    /**
+     * Returns the number of expiries currently scheduled.
+     *
+     * @return the size of the schedule.
+     */
+    int getScheduledCount();
+}
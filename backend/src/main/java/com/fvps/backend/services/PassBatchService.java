@@ -0,0 +1,46 @@
+package com.fvps.backend.services;
+
+import com.fvps.backend.domain.dto.user.PassBatchRequest;
+import com.fvps.backend.domain.enums.PassBatchFormat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Service generating the passes of many users in one go, e.g. for printing the passes of a visitor group.
+ * <p>
+ * Passes are written to a stream as they are rendered, either as a ZIP archive of PDF files or as one
+ * merged PDF, so that the size of a batch does not affect memory use.
+ * </p>
+ */
+public interface PassBatchService {
+
+    /**
+     * Resolves the users selected by a batch request.
+     * <p>
+     * Called before anything is streamed, so that invalid requests are rejected with a proper error response.
+     * </p>
+     *
+     * @param request explicit user IDs or a company name.
+     * @return the IDs of the selected users, in print order.
+     * @throws IllegalArgumentException if no criterion is given or the selection exceeds the batch limit.
+     */
+    List<UUID> resolveUsers(PassBatchRequest request);
+
+    /**
+     * Renders the passes of the given users and writes them to the output stream.
+     * <p>
+     * Users that are not eligible for a pass (inactive, or without valid trainings) are skipped and listed at the
+     * end of the output: in a {@code skipped.txt} entry of the ZIP archive, or on a final page of the merged PDF.
+     * </p>
+     *
+     * @param userIds the users whose passes are generated, in output order.
+     * @param format  the output format.
+     * @param out     the stream to write to. It is flushed but not closed.
+     * @return the number of passes written.
+     * @throws IOException if writing to the stream fails (e.g. the client disconnected).
+     */
+    int writePasses(List<UUID> userIds, PassBatchFormat format, OutputStream out) throws IOException;
+}
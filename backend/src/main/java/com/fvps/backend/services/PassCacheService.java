@@ -0,0 +1,30 @@
+package com.fvps.backend.services;
+
+import com.fvps.backend.domain.dto.training.UserTrainingDto;
+import com.fvps.backend.domain.dto.user.PassDocument;
+import com.fvps.backend.domain.entities.User;
+
+import java.util.List;
+
+/**
+ * Service serving pass PDFs from a content-addressed cache.
+ * <p>
+ * A pass is identified by a fingerprint of everything printed on it: the user's data and clearance, the
+ * valid trainings, the locale, the layout version and a coarse "generated on" stamp. Repeated downloads of
+ * an unchanged pass are served without rendering it again.
+ * </p>
+ */
+public interface PassCacheService {
+
+    /**
+     * Returns the pass of a user, rendering it only if no identical pass is cached.
+     * <p>
+     * Eligibility (account status, valid trainings) must be checked by the caller.
+     * </p>
+     *
+     * @param user           the user for whom the pass is generated.
+     * @param validTrainings the active trainings printed on the pass.
+     * @return the PDF and its entity tag.
+     */
+    PassDocument getPass(User user, List<UserTrainingDto> validTrainings);
+}
@@ -0,0 +1,40 @@
+package com.fvps.backend.services;
+
+import com.fvps.backend.domain.dto.verification.RevocationFeedDto;
+
+import java.util.UUID;
+
+/**
+ * Service recording revocations of signed pass tokens and publishing them as a delta feed.
+ * <p>
+ * Guard handsets verify tokens offline and poll the feed to learn about users whose access dropped after their
+ * token was issued. The feed is append-only and ordered, so a handset only fetches what it has not seen yet and
+ * keeps working on its last known state through network outages.
+ * </p>
+ */
+public interface PassRevocationService {
+
+    /**
+     * Revokes every token issued to a user until now.
+     * <p>
+     * Joins the caller's transaction, so the revocation is published if and only if the access change commits.
+     * </p>
+     *
+     * @param userId the user whose tokens are revoked.
+     * @param reason a short reason code (e.g. {@code CLEARANCE_DOWNGRADED}).
+     */
+    void revoke(UUID userId, String reason);
+
+    /**
+     * Reads the revocations after a feed position.
+     * <p>
+     * Applying an entry twice is harmless, and the returned {@code nextSince} may stay behind the last entry
+     * while recent revocations settle, so entries can be repeated in the next poll.
+     * </p>
+     *
+     * @param since the {@code nextSince} of the previous poll, or {@code 0} to start from the oldest retained entry.
+     * @param limit the maximum number of entries.
+     * @return the revocations and the position for the next poll.
+     */
+    RevocationFeedDto getFeed(long since, int limit);
+}
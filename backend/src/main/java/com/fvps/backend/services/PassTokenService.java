@@ -0,0 +1,64 @@
+package com.fvps.backend.services;
+
+import com.fvps.backend.domain.dto.training.UserTrainingDto;
+import com.fvps.backend.domain.dto.verification.PassTokenKeyDto;
+import com.fvps.backend.domain.entities.User;
+import com.fvps.backend.domain.enums.PassQrFormat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Service deciding what the pass QR code contains and issuing signed, offline-verifiable pass tokens.
+ * <p>
+ * A token is {@code FVPS1.} followed by the unpadded Base64URL encoding of:
+ * </p>
+ * <pre>
+ * version (1 byte, = 1) | user ID (16 bytes) | clearance level (1 byte)
+ * | issued at (4 bytes, unsigned epoch seconds) | expires at (4 bytes, unsigned epoch seconds)
+ * | key ID length (1 byte) | key ID (UTF-8) | Ed25519 signature over all preceding bytes (64 bytes)
+ * </pre>
+ * <p>
+ * All numbers are big-endian. A handset accepts a token if the signature verifies against the published key
+ * with its key ID, the token has not expired, the level is sufficient and the revocation feed holds no entry for
+ * the user at or after the token's issue time.
+ * </p>
+ */
+public interface PassTokenService {
+
+    /**
+     * Returns the configured QR format.
+     *
+     * @return the content type of pass QR codes.
+     */
+    PassQrFormat getQrFormat();
+
+    /**
+     * Returns the content of a user's pass QR code in the configured format.
+     * <p>
+     * For {@link PassQrFormat#SIGNED_TOKEN}, the token expires with the earliest {@code validUntil} of the
+     * given trainings.
+     * </p>
+     *
+     * @param user           the pass holder, with an up-to-date clearance level.
+     * @param validTrainings the user's valid trainings.
+     * @return the user's UUID or a signed token.
+     */
+    String getQrContent(User user, List<UserTrainingDto> validTrainings);
+
+    /**
+     * Issues a signed token for a user's current clearance level.
+     *
+     * @param user      the pass holder, with an up-to-date clearance level.
+     * @param expiresAt the requested expiry; capped at {@code app.pass.token.max-ttl-days} after issue.
+     * @return the encoded token.
+     */
+    String issueToken(User user, LocalDateTime expiresAt);
+
+    /**
+     * Returns the public keys handsets use to verify tokens: the current signing key and any retired keys.
+     *
+     * @return the verification keys.
+     */
+    List<PassTokenKeyDto> getVerificationKeys();
+}
@@ -3,6 +3,7 @@ package com.fvps.backend.services;
 import com.fvps.backend.domain.dto.training.UserTrainingDto;
 import com.fvps.backend.domain.entities.User;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -23,8 +24,20 @@ public interface PdfGeneratorService {
      *
      * @param user           the user for whom the pass is generated.
      * @param validTrainings the list of active trainings to display on the pass.
+     * @param generatedOn    the "generated on" stamp printed in the footer.
      * @return a byte array containing the binary PDF data.
      * @throws RuntimeException if an error occurs during PDF construction (e.g. IO error).
      */
-    byte[] generatePassPdf(User user, List<UserTrainingDto> validTrainings);
+    byte[] generatePassPdf(User user, List<UserTrainingDto> validTrainings, LocalDateTime generatedOn);
+
+    /**
+     * Returns the version of the pass layout.
+     * <p>
+     * Changes whenever the rendering changes, so that documents rendered by an older layout are not served
+     * from a cache.
+     * </p>
+     *
+     * @return the layout version.
+     */
+    String getTemplateVersion();
 }
\ No newline at end of file
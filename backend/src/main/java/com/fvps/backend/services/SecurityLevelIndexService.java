@@ -0,0 +1,27 @@
+package com.fvps.backend.services;
+
+import com.fvps.backend.domain.model.SecurityLevelIndex;
+
+/**
+ * Service owning the in-memory {@link SecurityLevelIndex}.
+ * <p>
+ * The index answers "which trainings does level N require?" without touching the database.
+ * It is rebuilt whenever a training definition is created, updated or deleted.
+ * </p>
+ */
+public interface SecurityLevelIndexService {
+
+    /**
+     * Returns the current index, building it on first access.
+     *
+     * @return the current immutable index.
+     */
+    SecurityLevelIndex getIndex();
+
+    /**
+     * Rebuilds the index from the training definitions stored in the database.
+     *
+     * @return the newly published index.
+     */
+    SecurityLevelIndex rebuild();
+}
@@ -119,21 +119,25 @@ public interface TrainingProgressService {
      * Forces all users who have completed the training to retake it.
      * <p>
      * Typically called when the training definition (content) is significantly updated.
+     * The reset runs as a background job; its progress can be polled with the returned job ID.
      * </p>
      *
      * @param training the training entity that was updated.
+     * @return the UUID of the submitted bulk job.
      */
-    void resetProgressForTraining(Training training);
+    UUID resetProgressForTraining(Training training);
 
     /**
      * Forces users to retake a specific module (and subsequent ones).
      * <p>
      * Called when a specific module within a training is updated.
+     * The reset runs as a background job; its progress can be polled with the returned job ID.
      * </p>
      *
      * @param module the module entity that was updated.
+     * @return the UUID of the submitted bulk job.
      */
-    void resetProgressForModule(TrainingModule module);
+    UUID resetProgressForModule(TrainingModule module);
 
     /**
      * Bulk assigns all trainings required for a specific security level.
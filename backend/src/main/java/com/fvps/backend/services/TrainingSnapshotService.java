@@ -0,0 +1,44 @@
+package com.fvps.backend.services;
+
+import com.fvps.backend.domain.entities.Training;
+import com.fvps.backend.domain.model.TrainingSnapshot;
+
+import java.util.UUID;
+
+/**
+ * Service providing read-through cached, immutable snapshots of training content.
+ * <p>
+ * Training content changes rarely but is read on every trainee request and quiz submission. Snapshots are
+ * built once per training version and dropped whenever an admin changes the training or its content.
+ * </p>
+ */
+public interface TrainingSnapshotService {
+
+    /**
+     * Returns the content snapshot of a training, building it if necessary.
+     *
+     * @param trainingId the UUID of the training.
+     * @return the snapshot.
+     * @throws RuntimeException if the training does not exist.
+     */
+    TrainingSnapshot getSnapshot(UUID trainingId);
+
+    /**
+     * Returns the content snapshot matching an already loaded training.
+     * <p>
+     * Only the identifier and version of the entity are read, so a training fetched without its modules costs
+     * no extra query when the snapshot is cached. A cached snapshot of a different version is rebuilt.
+     * </p>
+     *
+     * @param training the training entity.
+     * @return the snapshot.
+     */
+    TrainingSnapshot getSnapshot(Training training);
+
+    /**
+     * Drops the cached snapshot of a training.
+     *
+     * @param trainingId the UUID of the training.
+     */
+    void evict(UUID trainingId);
+}
@@ -1,5 +1,8 @@
 package com.fvps.backend.services;
 
+import com.fvps.backend.domain.dto.verification.ClearanceEvaluation;
+import com.fvps.backend.domain.entities.User;
+
 import java.util.UUID;
 
 /**
@@ -17,10 +20,49 @@ public interface UserClearanceService {
      * <p>
      * This method should be triggered whenever a training is completed, expired,
      * revoked, or when training definitions change. It iterates through security levels
-     * and assigns the highest level for which all requirements are met.
+     * and assigns the highest level for which all requirements are met. Together with the level it
+     * stores the next expiry, after which the stored value is no longer trusted.
      * </p>
      *
      * @param userId the UUID of the user to evaluate.
      */
     void recalculateUserClearance(UUID userId);
+
+    /**
+     * Returns the user's clearance level for read paths (pass generation, verification).
+     * <p>
+     * The stored level is returned as-is while it is current (see {@link #isClearanceCurrent(User)}).
+     * Only a stale level triggers a recalculation, which is persisted so the next reader can trust it again.
+     * The given instance is updated with the result.
+     * </p>
+     *
+     * @param user the user whose clearance is read.
+     * @return the current clearance level (0-4).
+     */
+    int getCurrentClearanceLevel(User user);
+
+    /**
+     * Checks whether the clearance stored on the user can be trusted without running the ladder.
+     * <p>
+     * This is the case when it was calculated against the current training level layout and its
+     * next expiry has not passed yet.
+     * </p>
+     *
+     * @param user the user to check.
+     * @return {@code true} if {@link User#getClearanceLevel()} is current.
+     */
+    boolean isClearanceCurrent(User user);
+
+    /**
+     * Evaluates the security level of a user without persisting anything.
+     * <p>
+     * Runs the same ladder algorithm as {@link #recalculateUserClearance(UUID)} but never writes
+     * to the {@code users} table. Besides the level, it reports the earliest expiry that would
+     * lower it, so callers can safely cache the result until that moment.
+     * </p>
+     *
+     * @param userId the UUID of the user to evaluate.
+     * @return the achieved level together with its next expiry instant.
+     */
+    ClearanceEvaluation evaluateClearance(UUID userId);
 }
\ No newline at end of file
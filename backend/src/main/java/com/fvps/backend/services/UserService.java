@@ -1,6 +1,7 @@
 package com.fvps.backend.services;
 
 import com.fvps.backend.domain.dto.auth.ChangePasswordRequest;
+import com.fvps.backend.domain.dto.user.PassDocument;
 import com.fvps.backend.domain.dto.user.UpdateUserRequest;
 import com.fvps.backend.domain.dto.user.UserPassDto;
 import com.fvps.backend.domain.dto.user.UserSummaryDto;
@@ -123,10 +124,10 @@ public interface UserService {
      * </p>
      *
      * @param userEmail the email of the requesting user.
-     * @return a byte array containing the PDF.
+     * @return the PDF with its entity tag.
      * @throws IllegalStateException if the user is not active or lacks required trainings.
      */
-    byte[] generateMyPassPdf(String userEmail);
+    PassDocument generateMyPassPdf(String userEmail);
 
     /**
      * Retrieves the data necessary to render the digital pass on the frontend/mobile view.
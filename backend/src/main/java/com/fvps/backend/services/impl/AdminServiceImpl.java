@@ -1,5 +1,6 @@
 package com.fvps.backend.services.impl;
 
+import com.fvps.backend.domain.dto.user.PassDocument;
 import com.fvps.backend.domain.enums.UserStatus;
 import com.fvps.backend.services.*;
 import lombok.RequiredArgsConstructor;
@@ -14,7 +15,7 @@ public class AdminServiceImpl implements AdminService {
     private final TrainingProgressService trainingProgressService;
     private final UserService userService;
     private final AuditLogService auditLogService;
-    private final PdfGeneratorService pdfGeneratorService;
+    private final PassCacheService passCacheService;
 
     @Override
     public void changeUserStatus(UUID userId, UserStatus status) {
@@ -33,7 +34,7 @@ public class AdminServiceImpl implements AdminService {
      * </p>
      */
     @Override
-    public byte[] generatePassPdf(UUID userId) {
+    public PassDocument generatePassPdf(UUID userId) {
         var user = userService.getById(userId);
 
         if (user.getStatus() != UserStatus.ACTIVE) {
@@ -46,7 +47,7 @@ public class AdminServiceImpl implements AdminService {
             throw new IllegalStateException("Cannot generate pass. User has no valid, completed trainings.");
         }
 
-        byte[] pdf = pdfGeneratorService.generatePassPdf(user, validTrainings);
+        PassDocument pdf = passCacheService.getPass(user, validTrainings);
         auditLogService.logEvent(userId, "PASS_PREVIEWED", "Admin previewed pass.");
         return pdf;
     }
@@ -0,0 +1,68 @@
+package com.fvps.backend.services.impl;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+
+/**
+ * Writes {@code audit_logs} rows as RFC 4180 CSV with a header row.
+ */
+final class AuditLogCsvWriter implements AuditLogRowWriter {
+
+    private static final String HEADER = "id,user_id,actor,action,details,timestamp,ip_address\n";
+
+    private final Writer out;
+
+    AuditLogCsvWriter(Writer out) {
+        this.out = out;
+    }
+
+    @Override
+    public void writeHeader() throws IOException {
+        out.write(HEADER);
+    }
+
+    @Override
+    public void writeRow(ResultSet rs) throws SQLException, IOException {
+        writeField(rs.getString("id"));
+        out.write(',');
+        writeField(rs.getString("user_id"));
+        out.write(',');
+        writeField(rs.getString("actor"));
+        out.write(',');
+        writeField(rs.getString("action"));
+        out.write(',');
+        writeField(rs.getString("details"));
+        out.write(',');
+        Timestamp timestamp = rs.getTimestamp("timestamp");
+        writeField(timestamp != null ? timestamp.toLocalDateTime().toString() : null);
+        out.write(',');
+        writeField(rs.getString("ip_address"));
+        out.write('\n');
+    }
+
+    @Override
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    private void writeField(String value) throws IOException {
+        if (value == null) return;
+
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            out.write(value);
+            return;
+        }
+
+        out.write('"');
+        out.write(value.replace("\"", "\"\""));
+        out.write('"');
+    }
+}
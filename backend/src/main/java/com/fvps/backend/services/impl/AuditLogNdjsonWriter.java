@@ -0,0 +1,51 @@
+package com.fvps.backend.services.impl;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+
+/**
+ * Writes {@code audit_logs} rows as newline-delimited JSON, one object per line.
+ */
+final class AuditLogNdjsonWriter implements AuditLogRowWriter {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final JsonGenerator generator;
+
+    AuditLogNdjsonWriter(Writer out) throws IOException {
+        this.generator = JSON_FACTORY.createGenerator(out);
+        this.generator.setPrettyPrinter(new MinimalPrettyPrinter(""));
+    }
+
+    @Override
+    public void writeHeader() {
+        // NDJSON has no header.
+    }
+
+    @Override
+    public void writeRow(ResultSet rs) throws SQLException, IOException {
+        generator.writeStartObject();
+        generator.writeStringField("id", rs.getString("id"));
+        generator.writeStringField("userId", rs.getString("user_id"));
+        generator.writeStringField("actor", rs.getString("actor"));
+        generator.writeStringField("action", rs.getString("action"));
+        generator.writeStringField("details", rs.getString("details"));
+        Timestamp timestamp = rs.getTimestamp("timestamp");
+        generator.writeStringField("timestamp", timestamp != null ? timestamp.toLocalDateTime().toString() : null);
+        generator.writeStringField("ipAddress", rs.getString("ip_address"));
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    @Override
+    public void flush() throws IOException {
+        generator.flush();
+    }
+}
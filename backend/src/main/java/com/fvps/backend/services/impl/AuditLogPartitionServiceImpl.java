@@ -0,0 +1,460 @@
+package com.fvps.backend.services.impl;
+
+import com.fvps.backend.services.AuditLogPartitionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPOutputStream;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AuditLogPartitionServiceImpl implements AuditLogPartitionService {
+
+    private static final String LOCK_SQL = "SELECT pg_try_advisory_xact_lock(hashtext('audit_logs_partitioning'))";
+    private static final String SESSION_LOCK_SQL = "SELECT pg_try_advisory_lock(hashtext('audit_logs_partitioning'))";
+    private static final String SESSION_UNLOCK_SQL = "SELECT pg_advisory_unlock(hashtext('audit_logs_partitioning'))";
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+    private static final Pattern PARTITION_NAME = Pattern.compile("audit_logs_(\\d{4})_(\\d{2})");
+    private static final Pattern UPPER_BOUND = Pattern.compile("TO \\('([^']+)'\\)");
+
+    /**
+     * The former, unpartitioned table, attached as the partition holding everything before the first monthly one.
+     */
+    private static final String LEGACY_PARTITION = "audit_logs_legacy";
+    private static final String DEFAULT_PARTITION = "audit_logs_default";
+    private static final String LEGACY_RANGE_CHECK = "audit_logs_legacy_range";
+    private static final String LEGACY_KEY_INDEX = "audit_logs_legacy_id_timestamp_key";
+    private static final String LOCK_TIMEOUT = "5s";
+
+    /**
+     * Indexes created on the partitioned parent (and thereby on every partition); they mirror the
+     * {@code @Index} definitions on {@link com.fvps.backend.domain.entities.AuditLog}.
+     */
+    private static final List<String> INDEX_DDL = List.of(
+            "CREATE INDEX IF NOT EXISTS idx_audit_logs_timestamp_id ON audit_logs (timestamp DESC, id DESC)",
+            "CREATE INDEX IF NOT EXISTS idx_audit_logs_user_timestamp_id ON audit_logs (user_id, timestamp DESC, id DESC)",
+            "CREATE INDEX IF NOT EXISTS idx_audit_logs_action_timestamp_id ON audit_logs (action, timestamp DESC, id DESC)",
+            "CREATE INDEX IF NOT EXISTS idx_audit_logs_actor_timestamp_id ON audit_logs (actor, timestamp DESC, id DESC)",
+            "CREATE INDEX IF NOT EXISTS idx_audit_logs_ip_timestamp_id ON audit_logs (ip_address, timestamp DESC, id DESC)"
+    );
+
+    private static final List<String> INDEX_NAMES = List.of(
+            "idx_audit_logs_timestamp_id",
+            "idx_audit_logs_user_timestamp_id",
+            "idx_audit_logs_action_timestamp_id",
+            "idx_audit_logs_actor_timestamp_id",
+            "idx_audit_logs_ip_timestamp_id"
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final Clock clock;
+
+    @Value("${app.audit.partitioning.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.audit.partitioning.months-ahead:3}")
+    private int monthsAhead;
+
+    @Value("${app.audit.retention-months:24}")
+    private int retentionMonths;
+
+    @Value("${app.audit.archive-dir:./audit-archive}")
+    private String archiveDir;
+
+    @Value("${app.audit.archive-fetch-size:5000}")
+    private int fetchSize;
+
+    @Value("${app.audit.archive-batch-size:5000}")
+    private int archiveBatchSize;
+
+    /**
+     * Runs the first maintenance pass once the schema is in place.
+     * <p>
+     * The conversion of an unpartitioned table is left to the scheduled job, so startup never waits for it.
+     * </p>
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!enabled || !isPartitioned()) return;
+        maintainPartitions();
+    }
+
+    /**
+     * Daily maintenance: converts the table if needed, creates upcoming partitions and archives expired ones.
+     */
+    @Scheduled(cron = "${app.audit.partitioning.cron:0 15 2 * * *}")
+    public void runMaintenance() {
+        if (!enabled) return;
+        try {
+            ensurePartitionedTable();
+        } catch (Exception e) {
+            log.error("Converting audit_logs into a partitioned table failed. Retrying on the next run.", e);
+        }
+        maintainPartitions();
+    }
+
+    private void maintainPartitions() {
+        try {
+            createUpcomingPartitions();
+            archiveExpiredPartitions();
+        } catch (Exception e) {
+            log.error("Audit log partition maintenance failed.", e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * <b>Implementation Note:</b>
+     * <ul>
+     * <li><b>No copy:</b> The existing table is attached as the partition {@code audit_logs_legacy}, covering
+     * everything before the month after next. Monthly partitions start from there.</li>
+     * <li><b>Online preparation:</b> The unique index required by the new primary key is built
+     * {@code CONCURRENTLY}, and the range is proven by a {@code CHECK} constraint validated without blocking writes.
+     * With both in place, attaching needs neither an index build nor a table scan.</li>
+     * <li><b>Short switch:</b> Renaming, creating the parent and attaching are catalog changes in one short
+     * transaction with a {@code lock_timeout}, so it fails fast instead of queueing writers behind a long query.
+     * Every step can be repeated, so an interrupted conversion is picked up by the next run.</li>
+     * <li>The primary key becomes {@code (id, timestamp)}, because PostgreSQL requires the partition key to be part
+     * of every unique constraint. Audit IDs are random UUIDs, so {@code id} alone remains unique in practice.</li>
+     * <li>A {@code DEFAULT} partition catches entries whose timestamp has no monthly partition yet.</li>
+     * <li>Guarded by an advisory lock, so only one instance performs the conversion.</li>
+     * </ul>
+     * </p>
+     */
+    @Override
+    public void ensurePartitionedTable() {
+        Boolean exists = jdbcTemplate.queryForObject("SELECT to_regclass('audit_logs') IS NOT NULL", Boolean.class);
+        if (!Boolean.TRUE.equals(exists)) {
+            log.warn("Table audit_logs does not exist. Skipping partitioning.");
+            return;
+        }
+        if (isPartitioned()) return;
+
+        YearMonth firstMonthly = YearMonth.now(clock).plusMonths(2);
+        String boundary = "'" + firstMonthly.atDay(1).atStartOfDay() + "'";
+
+        jdbcTemplate.execute((ConnectionCallback<Void>) con -> {
+            JdbcTemplate session = new JdbcTemplate(new SingleConnectionDataSource(con, true));
+            if (!Boolean.TRUE.equals(session.queryForObject(SESSION_LOCK_SQL, Boolean.class))) return null;
+            try {
+                if (isPartitioned()) return null;
+                log.info("Preparing audit_logs for partitioning.");
+
+                Boolean validKey = session.query("SELECT i.indisvalid FROM pg_index i WHERE i.indexrelid = to_regclass(?)",
+                        rs -> rs.next() ? rs.getBoolean(1) : null, LEGACY_KEY_INDEX);
+                if (Boolean.FALSE.equals(validKey)) {
+                    session.execute("DROP INDEX CONCURRENTLY " + LEGACY_KEY_INDEX);
+                }
+                session.execute("CREATE UNIQUE INDEX CONCURRENTLY IF NOT EXISTS " + LEGACY_KEY_INDEX + " ON audit_logs (id, timestamp)");
+
+                executeWithLockTimeout(session, "ALTER TABLE audit_logs DROP CONSTRAINT IF EXISTS " + LEGACY_RANGE_CHECK);
+                executeWithLockTimeout(session, "ALTER TABLE audit_logs ADD CONSTRAINT " + LEGACY_RANGE_CHECK
+                        + " CHECK (timestamp < " + boundary + ") NOT VALID");
+                // Scans the table, but only under a lock that lets writers continue.
+                session.execute("ALTER TABLE audit_logs VALIDATE CONSTRAINT " + LEGACY_RANGE_CHECK);
+
+                con.setAutoCommit(false);
+                try {
+                    session.execute("SET LOCAL lock_timeout = '" + LOCK_TIMEOUT + "'");
+                    session.execute("ALTER TABLE audit_logs RENAME TO " + LEGACY_PARTITION);
+                    session.execute("ALTER INDEX IF EXISTS audit_logs_pkey RENAME TO " + LEGACY_PARTITION + "_pkey");
+                    INDEX_NAMES.forEach(name -> session.execute("ALTER INDEX IF EXISTS " + name + " RENAME TO " + name + "_legacy"));
+
+                    session.execute("CREATE TABLE audit_logs (LIKE " + LEGACY_PARTITION + " INCLUDING DEFAULTS, "
+                            + "PRIMARY KEY (id, timestamp)) PARTITION BY RANGE (timestamp)");
+                    session.execute("ALTER TABLE audit_logs ATTACH PARTITION " + LEGACY_PARTITION
+                            + " FOR VALUES FROM (MINVALUE) TO (" + boundary + ")");
+                    session.execute("CREATE TABLE " + DEFAULT_PARTITION + " PARTITION OF audit_logs DEFAULT");
+                    for (YearMonth month = firstMonthly; !month.isAfter(YearMonth.now(clock).plusMonths(monthsAhead)); month = month.plusMonths(1)) {
+                        session.execute(createPartitionSql(month));
+                    }
+                    // Equivalent indexes of the legacy table are attached rather than rebuilt.
+                    INDEX_DDL.forEach(session::execute);
+                    session.execute("ALTER TABLE " + LEGACY_PARTITION + " DROP CONSTRAINT " + LEGACY_RANGE_CHECK);
+                    con.commit();
+                } catch (RuntimeException e) {
+                    con.rollback();
+                    throw e;
+                } finally {
+                    con.setAutoCommit(true);
+                }
+
+                log.info("audit_logs partitioned by month. Existing entries kept in {} up to {}.", LEGACY_PARTITION, firstMonthly);
+                return null;
+            } finally {
+                session.queryForObject(SESSION_UNLOCK_SQL, Boolean.class);
+            }
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * <b>Implementation Note:</b> Each partition is created in its own transaction. If the {@code DEFAULT}
+     * partition already holds rows for a month, PostgreSQL refuses to create that month's partition; this is
+     * logged and the rows stay in the default partition.
+     * </p>
+     */
+    @Override
+    public void createUpcomingPartitions() {
+        if (!isPartitioned()) return;
+
+        YearMonth current = YearMonth.now(clock);
+        YearMonth legacyEnd = legacyPartitionEnd();
+        for (int i = 0; i <= monthsAhead; i++) {
+            YearMonth month = current.plusMonths(i);
+            if (legacyEnd != null && month.isBefore(legacyEnd)) continue;
+            try {
+                inLockedTransaction(jdbc -> jdbc.execute(createPartitionSql(month)));
+            } catch (Exception e) {
+                log.warn("Could not create audit_logs partition for {}. Reason: {}", month, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * <b>Implementation Note:</b>
+     * <ul>
+     * <li><b>Detach first:</b> Expired partitions are detached in a short transaction, so writers to
+     * {@code audit_logs} are not blocked while the archive is written.</li>
+     * <li><b>Archive:</b> Rows are streamed through a forward-only cursor into a gzip-compressed CSV file
+     * ({@code app.audit.archive-dir}), which is synced to disk and atomically renamed before the table is dropped.</li>
+     * <li><b>Recovery:</b> Detached tables left behind by an interrupted run are picked up on the next run.</li>
+     * <li><b>Default and legacy partitions:</b> These are not bounded by month, so their expired rows are moved
+     * out in batches of {@code app.audit.archive-batch-size}. Each batch is appended to the archive and synced
+     * before it is deleted in the same short transaction.</li>
+     * </ul>
+     * </p>
+     */
+    @Override
+    public void archiveExpiredPartitions() {
+        if (!isPartitioned()) return;
+
+        YearMonth cutoff = YearMonth.now(clock).minusMonths(retentionMonths);
+
+        List<String> attached = jdbcTemplate.queryForList(
+                "SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid "
+                        + "WHERE i.inhparent = to_regclass('audit_logs')", String.class);
+        for (String partition : attached) {
+            if (isExpired(partition, cutoff)) {
+                inLockedTransaction(jdbc -> jdbc.execute("ALTER TABLE audit_logs DETACH PARTITION " + partition));
+                log.info("Detached expired audit_logs partition {}", partition);
+            }
+        }
+
+        List<String> detached = jdbcTemplate.queryForList(
+                "SELECT c.relname FROM pg_class c WHERE c.relkind = 'r' AND c.relname ~ '^audit_logs_[0-9]{4}_[0-9]{2}$' "
+                        + "AND NOT EXISTS (SELECT 1 FROM pg_inherits i WHERE i.inhrelid = c.oid)", String.class);
+        for (String table : detached) {
+            if (isExpired(table, cutoff)) {
+                archiveAndDrop(table);
+            }
+        }
+
+        for (String partition : List.of(DEFAULT_PARTITION, LEGACY_PARTITION)) {
+            if (attached.contains(partition)) {
+                archiveExpiredRows(partition, cutoff);
+            }
+        }
+    }
+
+    private void archiveExpiredRows(String partition, YearMonth cutoff) {
+        LocalDateTime before = cutoff.atDay(1).atStartOfDay();
+        Path target = Path.of(archiveDir).resolve(partition + "_before_" + cutoff.format(PARTITION_SUFFIX) + ".csv.gz");
+
+        AtomicLong total = new AtomicLong();
+        AtomicLong moved = new AtomicLong();
+        do {
+            moved.set(0);
+            inLockedTransaction(jdbc -> moved.set(archiveRowBatch(jdbc, partition, before, target)));
+            total.addAndGet(moved.get());
+        } while (moved.get() == archiveBatchSize);
+
+        if (total.get() > 0) {
+            log.info("Archived {} expired audit entries from {} to {}", total.get(), partition, target);
+        }
+    }
+
+    /**
+     * Appends the oldest expired rows of a partition to its archive as one more gzip member, then deletes them.
+     */
+    private long archiveRowBatch(JdbcTemplate jdbc, String partition, LocalDateTime before, Path target) {
+        List<UUID> ids = new ArrayList<>(archiveBatchSize);
+        try {
+            Files.createDirectories(target.getParent());
+            boolean newFile = !Files.exists(target) || Files.size(target) == 0;
+            try (FileOutputStream fileOut = new FileOutputStream(target.toFile(), true)) {
+                Writer writer = new BufferedWriter(new OutputStreamWriter(new GZIPOutputStream(fileOut, 64 * 1024), StandardCharsets.UTF_8));
+                AuditLogCsvWriter csv = new AuditLogCsvWriter(writer);
+                if (newFile) csv.writeHeader();
+
+                jdbc.query("SELECT " + AuditLogRowWriter.COLUMNS + " FROM " + partition
+                        + " WHERE timestamp < ? ORDER BY timestamp, id LIMIT ?", (RowCallbackHandler) rs -> {
+                    try {
+                        csv.writeRow(rs);
+                        ids.add(rs.getObject("id", UUID.class));
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }, before, archiveBatchSize);
+
+                writer.close();
+                fileOut.getFD().sync();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not archive expired rows of " + partition, e);
+        }
+
+        if (!ids.isEmpty()) {
+            jdbc.update(con -> {
+                PreparedStatement ps = con.prepareStatement("DELETE FROM " + partition + " WHERE id = ANY (?) AND timestamp < ?");
+                ps.setArray(1, con.createArrayOf("uuid", ids.toArray()));
+                ps.setObject(2, before);
+                return ps;
+            });
+        }
+        return ids.size();
+    }
+
+    private void archiveAndDrop(String table) {
+        inLockedTransaction(jdbc -> {
+            Boolean exists = jdbc.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, table);
+            if (!Boolean.TRUE.equals(exists)) return;
+
+            Path directory = Path.of(archiveDir);
+            Path target = directory.resolve(table + ".csv.gz");
+            Path temporary = directory.resolve(table + ".csv.gz.tmp");
+
+            try {
+                Files.createDirectories(directory);
+                long rows = exportTable(jdbc, table, temporary);
+                Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                jdbc.execute("DROP TABLE " + table);
+                log.info("Archived {} audit entries from {} to {}", rows, table, target);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not archive " + table, e);
+            }
+        });
+    }
+
+    private long exportTable(JdbcTemplate jdbc, String table, Path file) throws IOException {
+        AtomicLong rows = new AtomicLong();
+        try (FileOutputStream fileOut = new FileOutputStream(file.toFile())) {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(new GZIPOutputStream(fileOut, 64 * 1024), StandardCharsets.UTF_8));
+            AuditLogCsvWriter csv = new AuditLogCsvWriter(writer);
+            csv.writeHeader();
+
+            jdbc.query(con -> {
+                PreparedStatement ps = con.prepareStatement("SELECT " + AuditLogRowWriter.COLUMNS + " FROM " + table,
+                        ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                ps.setFetchSize(fetchSize);
+                return ps;
+            }, (RowCallbackHandler) rs -> {
+                try {
+                    csv.writeRow(rs);
+                    rows.incrementAndGet();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+
+            writer.close();
+            fileOut.getFD().sync();
+        }
+        return rows.get();
+    }
+
+    private boolean isPartitioned() {
+        Boolean partitioned = jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM pg_partitioned_table WHERE partrelid = to_regclass('audit_logs'))", Boolean.class);
+        return Boolean.TRUE.equals(partitioned);
+    }
+
+    /**
+     * Runs a statement that briefly needs an exclusive lock, giving up instead of queueing writers behind a long query.
+     */
+    private static void executeWithLockTimeout(JdbcTemplate session, String sql) {
+        session.execute("SET lock_timeout = '" + LOCK_TIMEOUT + "'");
+        try {
+            session.execute(sql);
+        } finally {
+            session.execute("RESET lock_timeout");
+        }
+    }
+
+    /**
+     * Returns the first month after the legacy partition, or {@code null} if there is none.
+     */
+    private YearMonth legacyPartitionEnd() {
+        List<String> bounds = jdbcTemplate.queryForList(
+                "SELECT pg_get_expr(c.relpartbound, c.oid) FROM pg_class c WHERE c.oid = to_regclass(?) AND c.relispartition",
+                String.class, LEGACY_PARTITION);
+        if (bounds.isEmpty()) return null;
+        Matcher matcher = UPPER_BOUND.matcher(bounds.getFirst());
+        return matcher.find() ? YearMonth.from(LocalDateTime.parse(matcher.group(1).replace(' ', 'T'))) : null;
+    }
+
+    private boolean isExpired(String table, YearMonth cutoff) {
+        Matcher matcher = PARTITION_NAME.matcher(table);
+        if (!matcher.matches()) return false;
+        YearMonth month = YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2)));
+        return month.isBefore(cutoff);
+    }
+
+    private String createPartitionSql(YearMonth month) {
+        return "CREATE TABLE IF NOT EXISTS audit_logs_" + month.format(PARTITION_SUFFIX) + " PARTITION OF audit_logs "
+                + "FOR VALUES FROM ('" + month.atDay(1).atStartOfDay() + "') TO ('" + month.plusMonths(1).atDay(1).atStartOfDay() + "')";
+    }
+
+    /**
+     * Runs the given work in a new transaction, but only if this instance obtains the partitioning advisory lock.
+     * Other instances skip the step; the lock is released when the transaction ends.
+     */
+    private void inLockedTransaction(Consumer<JdbcTemplate> work) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(tx -> {
+            Boolean locked = jdbcTemplate.queryForObject(LOCK_SQL, Boolean.class);
+            if (Boolean.TRUE.equals(locked)) {
+                work.accept(jdbcTemplate);
+            }
+        });
+    }
+}
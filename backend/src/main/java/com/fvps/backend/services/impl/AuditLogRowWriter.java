@@ -0,0 +1,23 @@
+package com.fvps.backend.services.impl;
+
+import java.io.IOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Writes {@code audit_logs} rows straight from a JDBC {@link ResultSet} in some text format.
+ * <p>
+ * Rows are never materialised as entities, so memory use does not depend on the number of rows written.
+ * The result set must select the columns listed in {@link #COLUMNS}.
+ * </p>
+ */
+interface AuditLogRowWriter {
+
+    String COLUMNS = "id, user_id, actor, action, details, timestamp, ip_address";
+
+    void writeHeader() throws IOException;
+
+    void writeRow(ResultSet rs) throws SQLException, IOException;
+
+    void flush() throws IOException;
+}
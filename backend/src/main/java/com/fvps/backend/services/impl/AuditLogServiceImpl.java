@@ -1,24 +1,46 @@
 package com.fvps.backend.services.impl;
 
+import com.fvps.backend.domain.dto.audit.AuditLogCursorPage;
+import com.fvps.backend.domain.dto.audit.AuditLogFilter;
 import com.fvps.backend.domain.entities.AuditLog;
+import com.fvps.backend.domain.enums.ExportFormat;
 import com.fvps.backend.repositories.AuditLogRepository;
 import com.fvps.backend.services.AuditLogService;
+import com.fvps.backend.services.AuditLogWriter;
+import jakarta.persistence.criteria.Predicate;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.time.Clock;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Slf4j
 @Service
@@ -26,23 +48,31 @@ import java.util.UUID;
 public class AuditLogServiceImpl implements AuditLogService {
 
     private final AuditLogRepository auditLogRepository;
+    private final AuditLogWriter auditLogWriter;
+    private final JdbcTemplate jdbcTemplate;
     private final Clock clock;
 
+    @Value("${app.audit.export.fetch-size:2000}")
+    private int exportFetchSize;
+
+    private static final Sort KEYSET_ORDER = Sort.by(Sort.Direction.DESC, "timestamp")
+            .and(Sort.by(Sort.Direction.DESC, "id"));
+
     /**
      * {@inheritDoc}
      * <p>
      * <b>Implementation Note:</b>
      * <ul>
-     * <li>Uses {@code @Transactional(propagation = Propagation.REQUIRES_NEW)}. This ensures the log entry
-     * is committed in a separate transaction. If the main business operation fails and rolls back,
-     * the audit log entry <b>persists</b>, allowing diagnosis of the failure.</li>
+     * <li>Builds the entry on the calling thread (actor, IP address and timestamp are resolved here, while the
+     * request and security context are still available) and hands it to the {@link AuditLogWriter}.</li>
+     * <li>The writer stores entries in batches, in a transaction of its own. If the main business operation
+     * fails and rolls back, the audit log entry <b>persists</b>, allowing diagnosis of the failure.</li>
      * <li>Automatically extracts the client's IP address from the HTTP request headers (handling proxies/load balancers).</li>
      * <li>Automatically resolves the current authenticated actor from the Security Context.</li>
      * </ul>
      * </p>
      */
     @Override
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void logEvent(UUID userId, String action, String details) {
         AuditLog log = AuditLog.builder()
                 .userId(userId)
@@ -53,18 +83,16 @@ public class AuditLogServiceImpl implements AuditLogService {
                 .ipAddress(getClientIp())
                 .build();
 
-        auditLogRepository.save(log);
+        auditLogWriter.write(log);
     }
 
     /**
      * {@inheritDoc}
      * <p>
      * <b>Implementation Note:</b> Delegates to {@link #logEvent(UUID, String, String)} with a {@code null} userId.
-     * Inherits the {@code REQUIRES_NEW} transactional behaviour.
      * </p>
      */
     @Override
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void logEvent(String action, String details) {
         logEvent(null, action, details);
     }
@@ -75,6 +103,148 @@ public class AuditLogServiceImpl implements AuditLogService {
         return auditLogRepository.findAll(pageable);
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * <b>Implementation Note:</b>
+     * <ul>
+     * <li><b>Keyset:</b> The cursor encodes the {@code (timestamp, id)} of the last entry returned. The next page
+     * continues strictly below it. The condition is stated as {@code timestamp <= t} plus the {@code (timestamp, id)}
+     * tie-break, so the composite indexes on {@code audit_logs} serve it as a range scan.</li>
+     * <li><b>Dynamic filters:</b> Only supplied filters are added to the query, so the planner can pick the index
+     * led by the filtered column.</li>
+     * <li><b>No count:</b> One extra row is fetched to tell whether another page exists.</li>
+     * </ul>
+     * </p>
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public AuditLogCursorPage getLogs(AuditLogFilter filter, String cursor, int size) {
+        Specification<AuditLog> spec = matching(filter != null ? filter : new AuditLogFilter(), decodeCursor(cursor));
+
+        List<AuditLog> rows = auditLogRepository.findBy(spec, query -> query.sortBy(KEYSET_ORDER).limit(size + 1).all());
+
+        boolean hasMore = rows.size() > size;
+        List<AuditLog> items = hasMore ? rows.subList(0, size) : rows;
+        String nextCursor = hasMore ? encodeCursor(items.getLast()) : null;
+
+        return AuditLogCursorPage.builder()
+                .items(new ArrayList<>(items))
+                .nextCursor(nextCursor)
+                .hasMore(hasMore)
+                .build();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * <b>Implementation Note:</b>
+     * <ul>
+     * <li><b>Forward-only cursor:</b> The query runs in a read-only transaction with a fixed fetch size
+     * ({@code app.audit.export.fetch-size}), so the JDBC driver pulls rows in chunks through a server-side
+     * cursor instead of loading the whole result.</li>
+     * <li><b>No entities:</b> Rows are written straight from the {@link ResultSet}; nothing is attached to a
+     * persistence context.</li>
+     * <li><b>Aborts early:</b> If the client disconnects, the write fails and the query is abandoned.</li>
+     * </ul>
+     * </p>
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public long exportLogs(AuditLogFilter filter, ExportFormat format, OutputStream out) throws IOException {
+        AuditLogFilter criteria = filter != null ? filter : new AuditLogFilter();
+        StringBuilder sql = new StringBuilder("SELECT ").append(AuditLogRowWriter.COLUMNS).append(" FROM audit_logs WHERE 1 = 1");
+        List<Object> params = new ArrayList<>();
+        appendCondition(sql, params, "user_id = ?", criteria.getUserId());
+        appendCondition(sql, params, "action = ?", criteria.getAction());
+        appendCondition(sql, params, "actor = ?", criteria.getActor());
+        appendCondition(sql, params, "ip_address = ?", criteria.getIpAddress());
+        appendCondition(sql, params, "timestamp >= ?", criteria.getFrom());
+        appendCondition(sql, params, "timestamp < ?", criteria.getTo());
+        sql.append(" ORDER BY timestamp, id");
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+        AuditLogRowWriter rowWriter = format == ExportFormat.NDJSON
+                ? new AuditLogNdjsonWriter(writer)
+                : new AuditLogCsvWriter(writer);
+        AtomicLong rows = new AtomicLong();
+
+        rowWriter.writeHeader();
+        try {
+            jdbcTemplate.query(con -> {
+                PreparedStatement ps = con.prepareStatement(sql.toString(), ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                ps.setFetchSize(exportFetchSize);
+                for (int i = 0; i < params.size(); i++) {
+                    ps.setObject(i + 1, params.get(i));
+                }
+                return ps;
+            }, (RowCallbackHandler) rs -> {
+                try {
+                    rowWriter.writeRow(rs);
+                    rows.incrementAndGet();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        rowWriter.flush();
+        writer.flush();
+
+        return rows.get();
+    }
+
+    private void appendCondition(StringBuilder sql, List<Object> params, String condition, Object value) {
+        if (value == null) return;
+        sql.append(" AND ").append(condition);
+        params.add(value);
+    }
+
+    private Specification<AuditLog> matching(AuditLogFilter filter, AuditLog after) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (filter.getUserId() != null) predicates.add(cb.equal(root.get("userId"), filter.getUserId()));
+            if (filter.getAction() != null) predicates.add(cb.equal(root.get("action"), filter.getAction()));
+            if (filter.getActor() != null) predicates.add(cb.equal(root.get("actor"), filter.getActor()));
+            if (filter.getIpAddress() != null) predicates.add(cb.equal(root.get("ipAddress"), filter.getIpAddress()));
+            if (filter.getFrom() != null) predicates.add(cb.greaterThanOrEqualTo(root.get("timestamp"), filter.getFrom()));
+            if (filter.getTo() != null) predicates.add(cb.lessThan(root.get("timestamp"), filter.getTo()));
+
+            if (after != null) {
+                // Redundant with the OR below, but a plain bound the planner can turn into an index range.
+                predicates.add(cb.lessThanOrEqualTo(root.get("timestamp"), after.getTimestamp()));
+                predicates.add(cb.or(
+                        cb.lessThan(root.get("timestamp"), after.getTimestamp()),
+                        cb.and(
+                                cb.equal(root.get("timestamp"), after.getTimestamp()),
+                                cb.lessThan(root.get("id"), after.getId())
+                        )
+                ));
+            }
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+
+    private String encodeCursor(AuditLog last) {
+        String raw = last.getTimestamp() + "|" + last.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private AuditLog decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) return null;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('|');
+            return AuditLog.builder()
+                    .timestamp(LocalDateTime.parse(raw.substring(0, separator)))
+                    .id(UUID.fromString(raw.substring(separator + 1)))
+                    .build();
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid audit log cursor.", e);
+        }
+    }
+
     private String getClientIp() {
         try {
             var attributes = (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
@@ -0,0 +1,379 @@
+package com.fvps.backend.services.impl;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
+import com.fvps.backend.domain.entities.AuditLog;
+import com.fvps.backend.domain.enums.AuditDurability;
+import com.fvps.backend.services.AuditLogWriter;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+@Slf4j
+@Service
+public class AuditLogWriterImpl implements AuditLogWriter {
+
+    static final String INSERT_SQL =
+            "INSERT INTO audit_logs (id, user_id, actor, action, details, timestamp, ip_address) VALUES (?, ?, ?, ?, ?, ?, ?) "
+                    + "ON CONFLICT DO NOTHING";
+
+    private static final String DEAD_LETTER_FILE = "dead-letter.ndjson";
+    private static final String TRUNCATION_MARKER = "...";
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate requiresNewTransaction;
+    private final AuditDurability durability;
+    private final int batchSize;
+    private final int queueCapacity;
+    private final long flushIntervalNanos;
+    private final long flushTimeoutMillis;
+    private final long shutdownTimeoutMillis;
+
+    private final ConcurrentLinkedQueue<PendingEntry> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+
+    private final AuditSpool spool;
+    private final Path deadLetterFile;
+    private final AtomicInteger spooled = new AtomicInteger();
+
+    private volatile boolean running;
+    private Thread flusher;
+
+    public AuditLogWriterImpl(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.audit.durability:FIRE_AND_FORGET}") AuditDurability durability,
+            @Value("${app.audit.batch-size:200}") int batchSize,
+            @Value("${app.audit.queue-capacity:10000}") int queueCapacity,
+            @Value("${app.audit.flush-interval-ms:200}") long flushIntervalMillis,
+            @Value("${app.audit.flush-timeout-ms:5000}") long flushTimeoutMillis,
+            @Value("${app.audit.shutdown-timeout-ms:10000}") long shutdownTimeoutMillis,
+            @Value("${app.audit.spool.enabled:true}") boolean spoolEnabled,
+            @Value("${app.audit.spool.dir:./audit-spool}") String spoolDir,
+            @Value("${app.audit.spool.segment-size-bytes:16777216}") int spoolSegmentSize
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.requiresNewTransaction = new TransactionTemplate(transactionManager);
+        this.requiresNewTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.durability = durability;
+        this.batchSize = batchSize;
+        this.queueCapacity = queueCapacity;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+        this.flushTimeoutMillis = flushTimeoutMillis;
+        this.shutdownTimeoutMillis = shutdownTimeoutMillis;
+        this.spool = spoolEnabled ? openSpool(Path.of(spoolDir), spoolSegmentSize) : null;
+        this.deadLetterFile = Path.of(spoolDir).resolve(DEAD_LETTER_FILE);
+    }
+
+    /**
+     * Starts the background flusher thread.
+     */
+    @PostConstruct
+    void start() {
+        running = true;
+        flusher = Thread.ofPlatform().name("audit-writer").daemon(true).start(this::runFlushLoop);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * <b>Implementation Note:</b>
+     * <ul>
+     * <li><b>Lock-free queue:</b> Entries are placed on a {@link ConcurrentLinkedQueue}. The capacity bound
+     * ({@code app.audit.queue-capacity}) is enforced with a CAS counter, so producers never take a lock.</li>
+     * <li><b>Batching:</b> A single background thread flushes the queue as one JDBC batch insert as soon as
+     * {@code app.audit.batch-size} entries are waiting, or after {@code app.audit.flush-interval-ms}.</li>
+     * <li><b>Back-pressure:</b> If the queue is full (or the writer is shutting down), the entry is written
+     * synchronously on the calling thread instead of being dropped. A failure of that write is thrown to the
+     * caller, in every durability mode.</li>
+     * <li><b>Independence:</b> Batches are written in their own transaction, so entries persist even if the
+     * business operation that produced them rolls back.</li>
+     * <li><b>Disk spool:</b> When {@code app.audit.spool.enabled} is set (default), entries are appended to a
+     * local, checksummed spool ({@link AuditSpool}) instead of the in-memory queue and replayed into the database
+     * by the background thread. Callers never wait on the database, and entries survive both a database outage
+     * and a crash of this instance. With {@code WAIT_FOR_FLUSH}, the caller waits for the spool to be forced to
+     * disk rather than for the database insert. The in-memory queue remains the fallback if the spool fails.</li>
+     * <li><b>Bounded details:</b> Details longer than the column ({@link AuditLog#DETAILS_LENGTH} characters)
+     * are truncated here, for every caller, instead of being rejected by the database.</li>
+     * <li><b>Dead letters:</b> Spooled entries the database rejects as invalid are appended to
+     * {@code dead-letter.ndjson} in the spool directory instead of blocking the replay.</li>
+     * </ul>
+     * </p>
+     */
+    @Override
+    public void write(AuditLog entry) {
+        if (entry.getId() == null) {
+            entry.setId(UUID.randomUUID());
+        }
+        entry.setDetails(truncateDetails(entry.getDetails()));
+
+        if (spool != null && running && trySpool(entry)) {
+            return;
+        }
+
+        PendingEntry pending = new PendingEntry(entry,
+                durability == AuditDurability.WAIT_FOR_FLUSH ? new CompletableFuture<>() : null);
+
+        if (!running || !tryReserveSlot()) {
+            // Not through writeBatch: a failure must reach the caller instead of an unobserved future.
+            insert(List.of(pending));
+            return;
+        }
+
+        queue.offer(pending);
+        if (queued.get() >= batchSize) {
+            LockSupport.unpark(flusher);
+        }
+
+        if (pending.completion() != null) {
+            awaitFlush(pending.completion());
+        }
+    }
+
+    /**
+     * Stops accepting queued entries and drains everything still waiting.
+     * <p>
+     * Entries submitted after this point are written synchronously by their callers.
+     * </p>
+     */
+    @PreDestroy
+    void shutdown() {
+        running = false;
+        if (flusher == null) return;
+
+        LockSupport.unpark(flusher);
+        try {
+            flusher.join(shutdownTimeoutMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (flusher.isAlive()) {
+            log.error("Audit writer did not drain within {} ms. {} entries may be lost.", shutdownTimeoutMillis, queued.get());
+        } else if (spool != null) {
+            spool.close();
+        }
+    }
+
+    private void runFlushLoop() {
+        while (running || queued.get() > 0) {
+            long deadline = System.nanoTime() + flushIntervalNanos;
+            while (running && queued.get() + spooled.get() < batchSize) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) break;
+                LockSupport.parkNanos(this, remaining);
+            }
+
+            List<PendingEntry> batch;
+            while (!(batch = drain()).isEmpty()) {
+                writeBatch(batch);
+            }
+            replaySpool();
+        }
+        replaySpool();
+    }
+
+    /**
+     * Copies spooled entries into the database, acknowledging each batch once it has been committed.
+     * <p>
+     * If a batch fails, its entries are retried one by one. Entries the database rejects as invalid
+     * (e.g. a value longer than its column) would fail forever and block every later entry, so they are
+     * moved to the dead-letter file and the batch is acknowledged past them. Any other failure means the
+     * database is unavailable; the batch then stays on disk and is retried on the next cycle.
+     * </p>
+     */
+    private void replaySpool() {
+        if (spool == null) return;
+        spooled.set(0);
+
+        AuditSpool.Batch batch;
+        while (!(batch = spool.readBatch(batchSize)).entries().isEmpty()) {
+            List<PendingEntry> pending = batch.entries().stream()
+                    .map(entry -> new PendingEntry(entry, null))
+                    .toList();
+            if (!writeBatch(pending) && !replayOneByOne(batch.entries())) return;
+            spool.acknowledge(batch);
+        }
+    }
+
+    /**
+     * Writes the entries of a failed spool batch one at a time.
+     *
+     * @return {@code true} if every entry was either written or dead-lettered.
+     */
+    private boolean replayOneByOne(List<AuditLog> entries) {
+        List<AuditLog> rejected = new ArrayList<>();
+        for (AuditLog entry : entries) {
+            try {
+                insert(List.of(new PendingEntry(entry, null)));
+            } catch (DataIntegrityViolationException e) {
+                log.error("Audit entry {} ({}) was rejected by the database: {}", entry.getId(), entry.getAction(), e.getMessage());
+                rejected.add(entry);
+            } catch (Exception e) {
+                // Entries written so far are skipped on the retry by ON CONFLICT DO NOTHING.
+                return false;
+            }
+        }
+
+        try {
+            appendDeadLetters(rejected);
+        } catch (IOException e) {
+            log.error("Could not write {} rejected audit entries to {}. Retrying on the next cycle.", rejected.size(), deadLetterFile, e);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Appends entries to the dead-letter file as newline-delimited JSON, in the layout of the NDJSON export.
+     */
+    private void appendDeadLetters(List<AuditLog> entries) throws IOException {
+        if (entries.isEmpty()) return;
+
+        try (Writer out = Files.newBufferedWriter(deadLetterFile, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.WRITE);
+             JsonGenerator generator = JSON_FACTORY.createGenerator(out)) {
+            generator.setPrettyPrinter(new MinimalPrettyPrinter(""));
+            for (AuditLog entry : entries) {
+                generator.writeStartObject();
+                generator.writeStringField("id", Objects.toString(entry.getId(), null));
+                generator.writeStringField("userId", Objects.toString(entry.getUserId(), null));
+                generator.writeStringField("actor", entry.getActor());
+                generator.writeStringField("action", entry.getAction());
+                generator.writeStringField("details", entry.getDetails());
+                generator.writeStringField("timestamp", Objects.toString(entry.getTimestamp(), null));
+                generator.writeStringField("ipAddress", entry.getIpAddress());
+                generator.writeEndObject();
+                generator.writeRaw('\n');
+            }
+        }
+        log.warn("Moved {} rejected audit entries to {}", entries.size(), deadLetterFile);
+    }
+
+    static String truncateDetails(String details) {
+        if (details == null || details.length() <= AuditLog.DETAILS_LENGTH) return details;
+
+        int end = AuditLog.DETAILS_LENGTH - TRUNCATION_MARKER.length();
+        if (Character.isHighSurrogate(details.charAt(end - 1))) end--;
+        return details.substring(0, end) + TRUNCATION_MARKER;
+    }
+
+    private boolean trySpool(AuditLog entry) {
+        try {
+            spool.append(entry, durability == AuditDurability.WAIT_FOR_FLUSH);
+        } catch (IOException | IllegalArgumentException e) {
+            log.warn("Could not spool audit entry {}. Falling back to the in-memory queue.", entry.getId(), e);
+            return false;
+        }
+
+        if (spooled.incrementAndGet() >= batchSize) {
+            LockSupport.unpark(flusher);
+        }
+        return true;
+    }
+
+    private static AuditSpool openSpool(Path directory, int segmentSize) {
+        try {
+            return new AuditSpool(directory, segmentSize);
+        } catch (IOException e) {
+            log.error("Could not open audit spool in {}. Audit entries will be buffered in memory only.", directory, e);
+            return null;
+        }
+    }
+
+    private List<PendingEntry> drain() {
+        List<PendingEntry> batch = new ArrayList<>(Math.min(batchSize, Math.max(queued.get(), 1)));
+        PendingEntry next;
+        while (batch.size() < batchSize && (next = queue.poll()) != null) {
+            queued.decrementAndGet();
+            batch.add(next);
+        }
+        return batch;
+    }
+
+    private boolean writeBatch(List<PendingEntry> batch) {
+        try {
+            insert(batch);
+            batch.forEach(PendingEntry::complete);
+            return true;
+        } catch (Exception e) {
+            log.error("Failed to write {} audit entries. First action: {}", batch.size(), batch.getFirst().entry().getAction(), e);
+            batch.forEach(pending -> pending.fail(e));
+            return false;
+        }
+    }
+
+    private void insert(List<PendingEntry> batch) {
+        requiresNewTransaction.executeWithoutResult(tx ->
+                jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, pending) -> {
+                    AuditLog entry = pending.entry();
+                    ps.setObject(1, entry.getId());
+                    ps.setObject(2, entry.getUserId());
+                    ps.setString(3, entry.getActor());
+                    ps.setString(4, entry.getAction());
+                    ps.setString(5, entry.getDetails());
+                    ps.setObject(6, entry.getTimestamp());
+                    ps.setString(7, entry.getIpAddress());
+                }));
+    }
+
+    private boolean tryReserveSlot() {
+        while (true) {
+            int current = queued.get();
+            if (current >= queueCapacity) return false;
+            if (queued.compareAndSet(current, current + 1)) return true;
+        }
+    }
+
+    private void awaitFlush(CompletableFuture<Void> completion) {
+        try {
+            completion.get(flushTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for audit flush.", e);
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("Audit entry was not flushed within " + flushTimeoutMillis + " ms.", e);
+        } catch (Exception e) {
+            throw new IllegalStateException("Audit entry could not be stored.", e);
+        }
+    }
+
+    /**
+     * An entry waiting in the queue, optionally paired with a future completed after its batch is written.
+     */
+    private record PendingEntry(AuditLog entry, CompletableFuture<Void> completion) {
+
+        void complete() {
+            if (completion != null) completion.complete(null);
+        }
+
+        void fail(Exception e) {
+            if (completion != null) completion.completeExceptionally(e);
+        }
+    }
+}
@@ -0,0 +1,438 @@
+package com.fvps.backend.services.impl;
+
+import com.fvps.backend.domain.entities.AuditLog;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Crash-safe, append-only local disk buffer for audit entries.
+ * <p>
+ * Entries are appended to fixed-size, memory-mapped segment files. Each record is laid out as
+ * {@code [int length][int crc32][payload]}; the length is written last, so a record only becomes
+ * visible once it is complete, and a torn write after a crash is detected by its checksum.
+ * </p>
+ * <p>
+ * A single consumer reads records in order with {@link #readBatch(int)} and confirms them with
+ * {@link #acknowledge(Batch)}. Sealed segments whose records have all been confirmed are deleted.
+ * The confirmed position is kept in a small checkpoint file, so on startup the segments left on disk
+ * are replayed from that position rather than from their beginning. A checkpoint lost in an operating
+ * system crash is detected by its checksum and replay falls back to the start of the oldest segment;
+ * consumers are therefore still expected to insert idempotently (records carry their own UUID).
+ * </p>
+ */
+@Slf4j
+final class AuditSpool implements Closeable {
+
+    private static final String SEGMENT_PREFIX = "audit-";
+    private static final String SEGMENT_SUFFIX = ".seg";
+    private static final String CHECKPOINT_FILE = "audit.ack";
+    private static final int CHECKPOINT_BYTES = 16;
+    private static final int HEADER_BYTES = 8;
+    private static final byte FORMAT_VERSION = 1;
+
+    private final Path directory;
+    private final int segmentSize;
+    private final ConcurrentSkipListMap<Long, Segment> segments = new ConcurrentSkipListMap<>();
+    private final FileChannel checkpointChannel;
+    private final MappedByteBuffer checkpoint;
+
+    // --- writer state (guarded by "this") ---
+    private Segment active;
+    private int writeOffset;
+
+    // --- reader state (single consumer thread) ---
+    private long readSegment;
+    private int readOffset;
+
+    /**
+     * Opens the spool, recovering any segments left from a previous run and skipping the records that run
+     * had already acknowledged.
+     *
+     * @param directory   the directory holding the segment files.
+     * @param segmentSize the size of each segment file in bytes.
+     * @throws IOException if the directory or segment files cannot be opened.
+     */
+    AuditSpool(Path directory, int segmentSize) throws IOException {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        Files.createDirectories(directory);
+
+        this.checkpointChannel = FileChannel.open(directory.resolve(CHECKPOINT_FILE),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.checkpoint = checkpointChannel.map(FileChannel.MapMode.READ_WRITE, 0, CHECKPOINT_BYTES);
+        long ackSegment = 0;
+        int ackOffset = 0;
+        if (checkpointCrc(checkpoint.getLong(0), checkpoint.getInt(8)) == checkpoint.getInt(12)) {
+            ackSegment = checkpoint.getLong(0);
+            ackOffset = checkpoint.getInt(8);
+        }
+
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.filter(AuditSpool::isSegmentFile).sorted().toList()) {
+                Segment recovered = Segment.open(file, parseSequence(file), segmentSize);
+                recovered.committed = recovered.scanValidLength();
+                recovered.sealed = true;
+                if (recovered.sequence < ackSegment
+                        || (recovered.sequence == ackSegment && ackOffset >= recovered.committed)) {
+                    recovered.delete();
+                    continue;
+                }
+                segments.put(recovered.sequence, recovered);
+            }
+        }
+
+        // Never reuse a sequence number the checkpoint may still refer to.
+        long nextSequence = Math.max(segments.isEmpty() ? 0 : segments.lastKey(), ackSegment) + 1;
+        this.active = createSegment(nextSequence);
+        this.readSegment = segments.firstKey();
+        this.readOffset = readSegment == ackSegment ? ackOffset : 0;
+
+        if (segments.size() > 1) {
+            log.info("Recovered {} audit spool segment(s) for replay from {}", segments.size() - 1, directory);
+        }
+    }
+
+    /**
+     * Appends an entry to the active segment, rolling over to a new one when it is full.
+     *
+     * @param entry the entry to append.
+     * @param force whether to flush the written bytes to the storage device before returning.
+     * @throws IOException              if a new segment cannot be created.
+     * @throws IllegalArgumentException if the encoded entry does not fit into a single segment.
+     */
+    synchronized void append(AuditLog entry, boolean force) throws IOException {
+        byte[] payload = encode(entry);
+        int recordSize = HEADER_BYTES + payload.length;
+        if (recordSize > segmentSize) {
+            throw new IllegalArgumentException("Audit entry of " + recordSize + " bytes exceeds spool segment size.");
+        }
+
+        if (writeOffset + recordSize > segmentSize) {
+            active.sealed = true;
+            active = createSegment(active.sequence + 1);
+            writeOffset = 0;
+        }
+
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+
+        MappedByteBuffer buffer = active.buffer;
+        buffer.put(writeOffset + HEADER_BYTES, payload);
+        buffer.putInt(writeOffset + 4, (int) crc.getValue());
+        buffer.putInt(writeOffset, payload.length);
+        if (force) {
+            buffer.force(writeOffset, recordSize);
+        }
+
+        writeOffset += recordSize;
+        active.committed = writeOffset;
+    }
+
+    /**
+     * Reads up to {@code max} records following the last acknowledged position, without consuming them.
+     *
+     * @param max the maximum number of records to read.
+     * @return the records read together with the position to acknowledge afterwards.
+     */
+    Batch readBatch(int max) {
+        List<AuditLog> entries = new ArrayList<>(max);
+        long sequence = readSegment;
+        int offset = readOffset;
+
+        while (entries.size() < max) {
+            Segment segment = segments.get(sequence);
+            if (segment == null) {
+                Map.Entry<Long, Segment> next = segments.higherEntry(sequence);
+                if (next == null) break;
+                sequence = next.getKey();
+                offset = 0;
+                continue;
+            }
+
+            int committed = segment.committed;
+            if (offset >= committed) {
+                if (!segment.sealed) break;
+                Map.Entry<Long, Segment> next = segments.higherEntry(sequence);
+                if (next == null) break;
+                sequence = next.getKey();
+                offset = 0;
+                continue;
+            }
+
+            MappedByteBuffer view = segment.buffer.duplicate();
+            int length = view.getInt(offset);
+            if (length <= 0 || offset + HEADER_BYTES + length > committed) {
+                // Without a valid length the following record boundaries are unknown.
+                log.error("Corrupt record length in audit spool segment {} at offset {}. Skipping the rest of the segment.", sequence, offset);
+                Map.Entry<Long, Segment> next = sealIfActive(segment) ? segments.higherEntry(sequence) : null;
+                if (next == null) break;
+                sequence = next.getKey();
+                offset = 0;
+                continue;
+            }
+
+            int checksum = view.getInt(offset + 4);
+            byte[] payload = new byte[length];
+            view.get(offset + HEADER_BYTES, payload);
+            offset += HEADER_BYTES + length;
+
+            CRC32 crc = new CRC32();
+            crc.update(payload);
+            if ((int) crc.getValue() != checksum) {
+                log.error("Checksum mismatch in audit spool segment {} at offset {}. Skipping the record.", sequence, offset - HEADER_BYTES - length);
+                continue;
+            }
+
+            entries.add(decode(payload));
+        }
+
+        return new Batch(entries, sequence, offset);
+    }
+
+    /**
+     * Confirms that the records of a batch are safely stored elsewhere.
+     * <p>
+     * Advances the read position, records it in the checkpoint file and deletes every sealed segment
+     * that lies entirely before it.
+     * </p>
+     *
+     * @param batch the batch previously returned by {@link #readBatch(int)}.
+     */
+    void acknowledge(Batch batch) {
+        readSegment = batch.segment();
+        readOffset = batch.offset();
+
+        checkpoint.putLong(0, readSegment);
+        checkpoint.putInt(8, readOffset);
+        checkpoint.putInt(12, checkpointCrc(readSegment, readOffset));
+
+        for (Segment segment : segments.headMap(readSegment, true).values()) {
+            boolean fullyRead = segment.sequence < readSegment || readOffset >= segment.committed;
+            if (segment.sealed && fullyRead) {
+                segments.remove(segment.sequence);
+                segment.delete();
+            }
+        }
+    }
+
+    /**
+     * Makes sure no further records are appended to a segment the reader has to abandon.
+     *
+     * @return {@code false} if a replacement segment could not be created; the segment then stays active.
+     */
+    private synchronized boolean sealIfActive(Segment segment) {
+        if (segment != active) return true;
+        try {
+            active = createSegment(active.sequence + 1);
+        } catch (IOException e) {
+            log.error("Could not roll over the audit spool past a corrupt segment.", e);
+            return false;
+        }
+        segment.sealed = true;
+        writeOffset = 0;
+        return true;
+    }
+
+    @Override
+    public synchronized void close() {
+        for (Segment segment : segments.values()) {
+            segment.close();
+        }
+        try {
+            checkpointChannel.close();
+        } catch (IOException e) {
+            log.warn("Could not close audit spool checkpoint in {}", directory, e);
+        }
+    }
+
+    private Segment createSegment(long sequence) throws IOException {
+        Path file = directory.resolve(SEGMENT_PREFIX + String.format("%020d", sequence) + SEGMENT_SUFFIX);
+        Segment segment = Segment.open(file, sequence, segmentSize);
+        segments.put(sequence, segment);
+        return segment;
+    }
+
+    private static int checkpointCrc(long segment, int offset) {
+        CRC32 crc = new CRC32();
+        crc.update(ByteBuffer.allocate(12).putLong(segment).putInt(offset).flip());
+        return (int) crc.getValue();
+    }
+
+    private static boolean isSegmentFile(Path file) {
+        String name = file.getFileName().toString();
+        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+    }
+
+    private static long parseSequence(Path file) {
+        String name = file.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    static byte[] encode(AuditLog entry) {
+        try (ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+             DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(FORMAT_VERSION);
+            writeUuid(out, entry.getId());
+            writeUuid(out, entry.getUserId());
+            writeString(out, entry.getActor());
+            writeString(out, entry.getAction());
+            writeString(out, entry.getDetails());
+            writeString(out, entry.getIpAddress());
+            out.writeLong(entry.getTimestamp().toEpochSecond(ZoneOffset.UTC));
+            out.writeInt(entry.getTimestamp().getNano());
+            out.flush();
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not encode audit entry.", e);
+        }
+    }
+
+    static AuditLog decode(byte[] payload) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
+            byte version = in.readByte();
+            if (version != FORMAT_VERSION) {
+                throw new IllegalStateException("Unsupported audit spool record version: " + version);
+            }
+            return AuditLog.builder()
+                    .id(readUuid(in))
+                    .userId(readUuid(in))
+                    .actor(readString(in))
+                    .action(readString(in))
+                    .details(readString(in))
+                    .ipAddress(readString(in))
+                    .timestamp(LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC))
+                    .build();
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not decode audit entry.", e);
+        }
+    }
+
+    private static void writeUuid(DataOutputStream out, UUID value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeLong(value.getMostSignificantBits());
+            out.writeLong(value.getLeastSignificantBits());
+        }
+    }
+
+    private static UUID readUuid(DataInputStream in) throws IOException {
+        return in.readBoolean() ? new UUID(in.readLong(), in.readLong()) : null;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) return null;
+        return new String(in.readNBytes(length), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Records read from the spool and the position right after the last of them.
+     */
+    record Batch(List<AuditLog> entries, long segment, int offset) {
+    }
+
+    /**
+     * A single memory-mapped segment file.
+     */
+    private static final class Segment {
+
+        private final long sequence;
+        private final Path file;
+        private final FileChannel channel;
+        private final MappedByteBuffer buffer;
+
+        /**
+         * Number of bytes holding complete records. Published by the writer, read by the consumer.
+         */
+        private volatile int committed;
+
+        /**
+         * Set once the writer has moved on to a newer segment.
+         */
+        private volatile boolean sealed;
+
+        private Segment(long sequence, Path file, FileChannel channel, MappedByteBuffer buffer) {
+            this.sequence = sequence;
+            this.file = file;
+            this.channel = channel;
+            this.buffer = buffer;
+        }
+
+        static Segment open(Path file, long sequence, int size) throws IOException {
+            FileChannel channel = FileChannel.open(file,
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            return new Segment(sequence, file, channel, buffer);
+        }
+
+        /**
+         * Determines how many bytes at the start of a recovered segment hold intact records.
+         */
+        int scanValidLength() {
+            int offset = 0;
+            int limit = buffer.capacity();
+            while (offset + HEADER_BYTES <= limit) {
+                int length = buffer.getInt(offset);
+                if (length <= 0 || offset + HEADER_BYTES + length > limit) break;
+
+                byte[] payload = new byte[length];
+                buffer.get(offset + HEADER_BYTES, payload);
+                CRC32 crc = new CRC32();
+                crc.update(payload);
+                if ((int) crc.getValue() != buffer.getInt(offset + 4)) break;
+
+                offset += HEADER_BYTES + length;
+            }
+            return offset;
+        }
+
+        void close() {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                log.warn("Could not close audit spool segment {}", file, e);
+            }
+        }
+
+        void delete() {
+            close();
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                log.warn("Could not delete replayed audit spool segment {}", file, e);
+            }
+        }
+    }
+}
@@ -7,6 +7,7 @@ import com.fvps.backend.domain.dto.auth.TwoFactorRequest;
 import com.fvps.backend.domain.entities.User;
 import com.fvps.backend.domain.enums.UserRole;
 import com.fvps.backend.domain.enums.UserStatus;
+import com.fvps.backend.events.UserCredentialsChangedEvent;
 import com.fvps.backend.repositories.UserRepository;
 import com.fvps.backend.security.CustomUserDetails;
 import com.fvps.backend.security.JwtService;
@@ -14,6 +15,7 @@ import com.fvps.backend.services.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.MessageSource;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -45,6 +47,7 @@ public class AuthServiceImpl implements AuthService {
     private final Clock clock;
     private final MessageSource messageSource;
     private final Locale defaultLocale;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Value("${app.frontend-url}")
     private String frontendUrl;
@@ -300,6 +303,7 @@ public class AuthServiceImpl implements AuthService {
         user.setResetToken(null);
         user.setResetTokenExpiry(null);
         userRepository.save(user);
+        eventPublisher.publishEvent(new UserCredentialsChangedEvent(this, user.getEmail()));
 
         auditLogService.logEvent(user.getId(), "PASSWORD_RESET_COMPLETE", "Password has been changed.");
     }
@@ -0,0 +1,143 @@
+package com.fvps.backend.services.impl;
+
+import com.fvps.backend.domain.dto.training.BulkAssignmentRequest;
+import com.fvps.backend.domain.dto.training.BulkAssignmentResultDto;
+import com.fvps.backend.services.AuditLogService;
+import com.fvps.backend.services.BulkAssignmentService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.Types;
+import java.util.*;
+
+@Service
+@RequiredArgsConstructor
+public class BulkAssignmentServiceImpl implements BulkAssignmentService {
+
+    private static final String TRAININGS_SQL =
+            "SELECT t.id, (SELECT m.id FROM training_modules m WHERE m.training_id = t.id ORDER BY m.order_index LIMIT 1) "
+                    + "FROM trainings t WHERE t.id = ANY(?) OR t.security_level = ?";
+
+    private static final String MISSING_PAIRS_SQL =
+            "SELECT u.user_id, t.training_id FROM unnest(?) AS u(user_id) CROSS JOIN unnest(?) AS t(training_id) "
+                    + "WHERE NOT EXISTS (SELECT 1 FROM user_training_status s "
+                    + "WHERE s.user_id = u.user_id AND s.training_id = t.training_id)";
+
+    private static final String INSERT_SQL =
+            "INSERT INTO user_training_status (id, user_id, training_id, status, current_module_id, is_pass_revoked) "
+                    + "VALUES (?, ?, ?, 'NOT_STARTED', ?, false) "
+                    + "ON CONFLICT (user_id, training_id) DO NOTHING";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AuditLogService auditLogService;
+
+    @Value("${app.assignment.batch-size:500}")
+    private int batchSize;
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * <b>Implementation Note:</b>
+     * <ul>
+     * <li><b>Constant query count:</b> Users and trainings (with their first module) are resolved with one query
+     * each, and the pairs still missing are found with a single anti-join against {@code user_training_status},
+     * regardless of the cohort size.</li>
+     * <li><b>Batching:</b> New rows are written with JDBC batch inserts of {@code app.assignment.batch-size},
+     * bypassing the persistence context.</li>
+     * <li><b>Concurrency:</b> The unique {@code (user_id, training_id)} constraint decides. A pair assigned
+     * concurrently (by another bulk request or a single assignment) after the anti-join is skipped by
+     * {@code ON CONFLICT DO NOTHING}, and the reported counts come from the rows actually inserted.</li>
+     * <li><b>Audit:</b> One summarized entry is written for the whole operation.</li>
+     * </ul>
+     * </p>
+     */
+    @Override
+    @Transactional
+    public BulkAssignmentResultDto assignTrainings(BulkAssignmentRequest request) {
+        boolean hasUserIds = request.getUserIds() != null && !request.getUserIds().isEmpty();
+        boolean hasCompany = request.getCompanyName() != null && !request.getCompanyName().isBlank();
+        if (!hasUserIds && !hasCompany && request.getRole() == null) {
+            throw new IllegalArgumentException("At least one user criterion (userIds, companyName, role) is required.");
+        }
+        boolean hasTrainingIds = request.getTrainingIds() != null && !request.getTrainingIds().isEmpty();
+        if (!hasTrainingIds && request.getSecurityLevel() == null) {
+            throw new IllegalArgumentException("At least one training criterion (trainingIds, securityLevel) is required.");
+        }
+
+        List<UUID> userIds = findUserIds(request, hasUserIds, hasCompany);
+        Map<UUID, UUID> firstModuleByTraining = new HashMap<>();
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(TRAININGS_SQL);
+            ps.setArray(1, con.createArrayOf("uuid", hasTrainingIds ? request.getTrainingIds().toArray() : new Object[0]));
+            ps.setObject(2, request.getSecurityLevel(), Types.INTEGER);
+            return ps;
+        }, rs -> {
+            firstModuleByTraining.put(rs.getObject(1, UUID.class), rs.getObject(2, UUID.class));
+        });
+        List<UUID> trainingIds = List.copyOf(firstModuleByTraining.keySet());
+
+        List<UUID[]> missing = userIds.isEmpty() || trainingIds.isEmpty() ? List.of() : jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(MISSING_PAIRS_SQL);
+            ps.setArray(1, con.createArrayOf("uuid", userIds.toArray()));
+            ps.setArray(2, con.createArrayOf("uuid", trainingIds.toArray()));
+            return ps;
+        }, (rs, rowNum) -> new UUID[]{rs.getObject(1, UUID.class), rs.getObject(2, UUID.class)});
+
+        int assigned = 0;
+        if (!missing.isEmpty()) {
+            int[][] counts = jdbcTemplate.batchUpdate(INSERT_SQL, missing, batchSize, (ps, pair) -> {
+                ps.setObject(1, UUID.randomUUID());
+                ps.setObject(2, pair[0]);
+                ps.setObject(3, pair[1]);
+                ps.setObject(4, firstModuleByTraining.get(pair[1]));
+            });
+            for (int[] batch : counts) {
+                for (int count : batch) {
+                    if (count > 0) assigned += count;
+                }
+            }
+        }
+
+        int requested = userIds.size() * trainingIds.size();
+        auditLogService.logEvent(assigned == 0 ? "BULK_ASSIGNMENT_SKIPPED" : "BULK_TRAINING_ASSIGNED",
+                "Assigned " + assigned + " trainings (" + (requested - assigned) + " already assigned) to "
+                        + userIds.size() + " users from " + trainingIds.size() + " trainings. Criteria: " + describe(request));
+
+        return BulkAssignmentResultDto.builder()
+                .matchedUsers(userIds.size())
+                .matchedTrainings(trainingIds.size())
+                .assigned(assigned)
+                .alreadyAssigned(requested - assigned)
+                .build();
+    }
+
+    private List<UUID> findUserIds(BulkAssignmentRequest request, boolean hasUserIds, boolean hasCompany) {
+        StringBuilder sql = new StringBuilder("SELECT id FROM users WHERE true");
+        if (hasUserIds) sql.append(" AND id = ANY(?)");
+        if (hasCompany) sql.append(" AND company_name = ?");
+        if (request.getRole() != null) sql.append(" AND role = ?");
+
+        return jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(sql.toString());
+            int index = 1;
+            if (hasUserIds) ps.setArray(index++, con.createArrayOf("uuid", request.getUserIds().toArray()));
+            if (hasCompany) ps.setString(index++, request.getCompanyName());
+            if (request.getRole() != null) ps.setString(index, request.getRole().name());
+            return ps;
+        }, (rs, rowNum) -> rs.getObject(1, UUID.class));
+    }
+
+    private String describe(BulkAssignmentRequest request) {
+        List<String> criteria = new ArrayList<>();
+        if (request.getUserIds() != null && !request.getUserIds().isEmpty()) criteria.add(request.getUserIds().size() + " user IDs");
+        if (request.getCompanyName() != null && !request.getCompanyName().isBlank()) criteria.add("company=" + request.getCompanyName());
+        if (request.getRole() != null) criteria.add("role=" + request.getRole());
+        if (request.getTrainingIds() != null && !request.getTrainingIds().isEmpty()) criteria.add(request.getTrainingIds().size() + " training IDs");
+        if (request.getSecurityLevel() != null) criteria.add("securityLevel=" + request.getSecurityLevel());
+        return String.join(", ", criteria);
+    }
+}
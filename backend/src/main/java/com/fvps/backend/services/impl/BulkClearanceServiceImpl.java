@@ -0,0 +1,58 @@
+package com.fvps.backend.services.impl;
+
+import com.fvps.backend.domain.entities.User;
+import com.fvps.backend.events.UserAccessChangedEvent;
+import com.fvps.backend.events.UserStatusChangedEvent;
+import com.fvps.backend.repositories.UserRepository;
+import com.fvps.backend.services.BulkClearanceService;
+import com.fvps.backend.services.UserClearanceService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+public class BulkClearanceServiceImpl implements BulkClearanceService {
+
+    private final UserRepository userRepository;
+    private final UserClearanceService clearanceService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * <b>Implementation Note:</b>
+     * {@link UserAccessChangedEvent} is published inside the current transaction and therefore reaches its
+     * listeners (snapshot eviction, pass invalidation) only once the chunk commits.
+     * </p>
+     */
+    @Override
+    @Transactional
+    public void recalculate(Collection<UUID> userIds) {
+        for (UUID userId : userIds) {
+            clearanceService.recalculateUserClearance(userId);
+            eventPublisher.publishEvent(new UserAccessChangedEvent(this, userId));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * <b>Implementation Note:</b>
+     * The users are loaded with a single query. Notifications are sent by the {@link UserStatusChangedEvent}
+     * listeners after the chunk commits.
+     * </p>
+     */
+    @Override
+    @Transactional
+    public void notifyUsers(Collection<UUID> userIds, String notification) {
+        if (userIds.isEmpty()) return;
+        for (User user : userRepository.findAllById(userIds)) {
+            eventPublisher.publishEvent(new UserStatusChangedEvent(this, user, notification));
+        }
+    }
+}
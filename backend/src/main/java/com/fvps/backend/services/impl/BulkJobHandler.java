@@ -0,0 +1,58 @@
+package com.fvps.backend.services.impl;
+
+import com.fvps.backend.domain.entities.BulkJob;
+import com.fvps.backend.domain.enums.BulkJobType;
+
+import java.util.UUID;
+
+/**
+ * Applies one {@link BulkJobType} for the job engine, one chunk at a time.
+ * <p>
+ * Implementations are stateless: everything needed to continue is read from the job itself (target and
+ * checkpoint), so any worker on any instance can process the next chunk.
+ * </p>
+ */
+interface BulkJobHandler {
+
+    /**
+     * @return the job type handled by this implementation.
+     */
+    BulkJobType getType();
+
+    /**
+     * @return the audit action recorded when a job of this type completes.
+     */
+    String getAuditAction();
+
+    /**
+     * Counts the items the job will scan. Called once, when a worker first picks the job up.
+     *
+     * @param job the job being started.
+     * @return the number of items to scan.
+     */
+    long countItems(BulkJob job);
+
+    /**
+     * Processes up to {@code chunkSize} items following the job's checkpoint.
+     * <p>
+     * Runs inside the chunk transaction, which also stores the returned checkpoint.
+     * </p>
+     *
+     * @param job       the job being processed.
+     * @param chunkSize the maximum number of items to scan.
+     * @return what the chunk did; fewer than {@code chunkSize} scanned items mean the job is finished.
+     */
+    Chunk processChunk(BulkJob job, int chunkSize);
+
+    /**
+     * Result of a single chunk.
+     *
+     * @param lastId   the id of the last item scanned (the new checkpoint), or null if nothing was scanned.
+     * @param scanned  the number of items scanned.
+     * @param affected the number of items actually changed.
+     */
+    record Chunk(UUID lastId, int scanned, int affected) {
+
+        static final Chunk EMPTY = new Chunk(null, 0, 0);
+    }
+}
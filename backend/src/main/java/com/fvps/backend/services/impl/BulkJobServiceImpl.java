@@ -0,0 +1,362 @@
+package com.fvps.backend.services.impl;
+
+import com.fvps.backend.domain.dto.job.BulkJobDto;
+import com.fvps.backend.domain.entities.BulkJob;
+import com.fvps.backend.domain.enums.BulkJobStatus;
+import com.fvps.backend.domain.enums.BulkJobType;
+import com.fvps.backend.repositories.BulkJobRepository;
+import com.fvps.backend.services.AuditLogService;
+import com.fvps.backend.services.BulkJobService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Slf4j
+@Service
+public class BulkJobServiceImpl implements BulkJobService {
+
+    private static final int CLAIM_CANDIDATES = 5;
+    private static final int MAX_ERROR_LENGTH = 2000;
+
+    private final BulkJobRepository jobRepository;
+    private final Map<BulkJobType, BulkJobHandler> handlers = new EnumMap<>(BulkJobType.class);
+    private final AuditLogService auditLogService;
+    private final TransactionTemplate transaction;
+    private final Clock clock;
+    private final int workerThreads;
+    private final int chunkSize;
+    private final int maxAttempts;
+    private final Duration staleAfter;
+    private final long shutdownTimeoutMillis;
+
+    private final String instanceId = UUID.randomUUID().toString();
+    private final AtomicInteger activeJobs = new AtomicInteger();
+
+    private volatile boolean running;
+    private ExecutorService workers;
+
+    public BulkJobServiceImpl(
+            BulkJobRepository jobRepository,
+            List<BulkJobHandler> handlers,
+            AuditLogService auditLogService,
+            PlatformTransactionManager transactionManager,
+            Clock clock,
+            @Value("${app.jobs.worker-threads:2}") int workerThreads,
+            @Value("${app.jobs.chunk-size:500}") int chunkSize,
+            @Value("${app.jobs.max-attempts:3}") int maxAttempts,
+            @Value("${app.jobs.stale-after-ms:120000}") long staleAfterMillis,
+            @Value("${app.jobs.shutdown-timeout-ms:30000}") long shutdownTimeoutMillis
+    ) {
+        this.jobRepository = jobRepository;
+        handlers.forEach(handler -> this.handlers.put(handler.getType(), handler));
+        this.auditLogService = auditLogService;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.clock = clock;
+        this.workerThreads = workerThreads;
+        this.chunkSize = chunkSize;
+        this.maxAttempts = maxAttempts;
+        this.staleAfter = Duration.ofMillis(staleAfterMillis);
+        this.shutdownTimeoutMillis = shutdownTimeoutMillis;
+    }
+
+    /**
+     * Starts the worker pool.
+     */
+    @PostConstruct
+    void start() {
+        workers = Executors.newFixedThreadPool(workerThreads, Thread.ofPlatform().name("bulk-job-", 1).daemon(true).factory());
+        running = true;
+    }
+
+    /**
+     * Stops claiming new jobs and lets running workers finish their current chunk.
+     * <p>
+     * Interrupted jobs are handed back to the queue, so this or another instance resumes them from
+     * their checkpoint without waiting for the heartbeat to go stale.
+     * </p>
+     */
+    @PreDestroy
+    void stop() {
+        running = false;
+        workers.shutdown();
+        try {
+            if (!workers.awaitTermination(shutdownTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                log.warn("Bulk job workers did not stop within {} ms; their jobs will resume after the heartbeat expires.",
+                        shutdownTimeoutMillis);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * <b>Implementation Note:</b>
+     * The job is only inserted here. Workers discover it on their next poll
+     * ({@code app.jobs.poll-interval-ms}) after the surrounding transaction commits.
+     * </p>
+     */
+    @Override
+    @Transactional
+    public UUID submit(BulkJobType type, UUID targetId, String description) {
+        BulkJob job = BulkJob.builder()
+                .type(type)
+                .status(BulkJobStatus.QUEUED)
+                .targetId(targetId)
+                .description(description)
+                .requestedBy(getCurrentActorEmail())
+                .createdAt(LocalDateTime.now(clock))
+                .build();
+        UUID jobId = jobRepository.save(job).getId();
+        log.info("Bulk job {} submitted: {}", jobId, description);
+        return jobId;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public BulkJobDto getJob(UUID jobId) {
+        return jobRepository.findById(jobId)
+                .map(this::mapToDto)
+                .orElseThrow(() -> new RuntimeException("Job not found"));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<BulkJobDto> getJobs(BulkJobStatus status, Pageable pageable) {
+        Page<BulkJob> jobs = status != null ? jobRepository.findByStatus(status, pageable) : jobRepository.findAll(pageable);
+        return jobs.map(this::mapToDto);
+    }
+
+    /**
+     * Hands claimable jobs to idle workers.
+     * <p>
+     * <b>Implementation Note:</b>
+     * <ul>
+     * <li><b>Claiming:</b> Candidates are claimed with a conditional update, so when several instances poll the
+     * same table each job is taken by exactly one of them.</li>
+     * <li><b>Recovery:</b> A job still marked {@code RUNNING} whose heartbeat is older than
+     * {@code app.jobs.stale-after-ms} belonged to an instance that died; it is claimed like a queued job and
+     * continues from its checkpoint.</li>
+     * </ul>
+     * </p>
+     */
+    @Scheduled(fixedDelayString = "${app.jobs.poll-interval-ms:1000}")
+    public void dispatch() {
+        while (running && activeJobs.get() < workerThreads) {
+            UUID jobId = claimNext();
+            if (jobId == null) return;
+
+            activeJobs.incrementAndGet();
+            try {
+                workers.execute(() -> {
+                    try {
+                        runJob(jobId);
+                    } finally {
+                        activeJobs.decrementAndGet();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                activeJobs.decrementAndGet();
+                release(jobId);
+                return;
+            }
+        }
+    }
+
+    private UUID claimNext() {
+        return transaction.execute(status -> {
+            LocalDateTime now = LocalDateTime.now(clock);
+            LocalDateTime staleBefore = now.minus(staleAfter);
+            for (UUID candidate : jobRepository.findClaimable(staleBefore, PageRequest.of(0, CLAIM_CANDIDATES))) {
+                if (jobRepository.claim(candidate, instanceId, now, staleBefore) == 1) {
+                    return candidate;
+                }
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Processes a claimed job chunk by chunk until it completes, fails or the application shuts down.
+     */
+    private void runJob(UUID jobId) {
+        try {
+            BulkJobHandler handler = transaction.execute(status -> prepare(jobId));
+            if (handler == null) return;
+
+            while (running) {
+                Boolean more = transaction.execute(status -> processNextChunk(jobId, handler));
+                if (!Boolean.TRUE.equals(more)) return;
+            }
+            release(jobId);
+        } catch (ObjectOptimisticLockingFailureException e) {
+            log.warn("Bulk job {} was taken over by another instance.", jobId);
+        } catch (Exception e) {
+            recordFailure(jobId, e);
+        }
+    }
+
+    private BulkJobHandler prepare(UUID jobId) {
+        BulkJob job = loadOwned(jobId);
+        if (job == null) return null;
+
+        BulkJobHandler handler = handlers.get(job.getType());
+        if (handler == null) {
+            throw new IllegalStateException("No handler for job type " + job.getType());
+        }
+        if (job.getTotalItems() == null) {
+            job.setTotalItems(handler.countItems(job));
+        }
+        log.info("Bulk job {} started at checkpoint {} ({} of {} items done).",
+                jobId, job.getCheckpoint(), job.getProcessedItems(), job.getTotalItems());
+        return handler;
+    }
+
+    /**
+     * Runs one chunk and advances the checkpoint in the same transaction.
+     *
+     * @return true if the job has more chunks to process.
+     */
+    private boolean processNextChunk(UUID jobId, BulkJobHandler handler) {
+        BulkJob job = loadOwned(jobId);
+        if (job == null) return false;
+
+        BulkJobHandler.Chunk chunk = handler.processChunk(job, chunkSize);
+        LocalDateTime now = LocalDateTime.now(clock);
+
+        if (chunk.lastId() != null) job.setCheckpoint(chunk.lastId());
+        job.setProcessedItems(job.getProcessedItems() + chunk.scanned());
+        job.setAffectedItems(job.getAffectedItems() + chunk.affected());
+        job.setHeartbeatAt(now);
+
+        if (chunk.scanned() < chunkSize) {
+            job.setStatus(BulkJobStatus.COMPLETED);
+            job.setFinishedAt(now);
+            job.setOwner(null);
+            auditLogService.logEvent(handler.getAuditAction(), job.getDescription() + " (job " + job.getId()
+                    + ", requested by " + job.getRequestedBy() + "): " + job.getAffectedItems() + " of "
+                    + job.getProcessedItems() + " records changed.");
+            log.info("Bulk job {} completed: {} of {} records changed.", jobId, job.getAffectedItems(), job.getProcessedItems());
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Loads the job if this instance still owns it.
+     */
+    private BulkJob loadOwned(UUID jobId) {
+        BulkJob job = jobRepository.findById(jobId).orElse(null);
+        if (job == null || job.getStatus() != BulkJobStatus.RUNNING || !instanceId.equals(job.getOwner())) {
+            log.warn("Bulk job {} is no longer owned by this instance.", jobId);
+            return null;
+        }
+        return job;
+    }
+
+    /**
+     * Hands an interrupted job back to the queue.
+     */
+    private void release(UUID jobId) {
+        try {
+            transaction.executeWithoutResult(status -> {
+                BulkJob job = loadOwned(jobId);
+                if (job == null) return;
+                job.setStatus(BulkJobStatus.QUEUED);
+                job.setOwner(null);
+            });
+        } catch (Exception e) {
+            log.warn("Could not release bulk job {}; it will resume after the heartbeat expires. Reason: {}", jobId, e.getMessage());
+        }
+    }
+
+    /**
+     * Records a failed chunk. The job is queued again until {@code app.jobs.max-attempts} is reached.
+     * Chunks committed before the failure stay applied.
+     */
+    private void recordFailure(UUID jobId, Exception cause) {
+        log.error("Bulk job {} chunk failed.", jobId, cause);
+        try {
+            transaction.executeWithoutResult(status -> {
+                BulkJob job = loadOwned(jobId);
+                if (job == null) return;
+
+                String message = String.valueOf(cause.getMessage());
+                job.setAttempts(job.getAttempts() + 1);
+                job.setError(message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message);
+                job.setOwner(null);
+
+                if (job.getAttempts() < maxAttempts) {
+                    job.setStatus(BulkJobStatus.QUEUED);
+                    return;
+                }
+                job.setStatus(BulkJobStatus.FAILED);
+                job.setFinishedAt(LocalDateTime.now(clock));
+                auditLogService.logEvent("BULK_JOB_FAILED", job.getDescription() + " (job " + job.getId()
+                        + ") failed after " + job.getProcessedItems() + " records: " + job.getError());
+            });
+        } catch (Exception e) {
+            log.error("Could not record failure of bulk job {}.", jobId, e);
+        }
+    }
+
+    private BulkJobDto mapToDto(BulkJob job) {
+        Double progress = null;
+        if (job.getStatus() == BulkJobStatus.COMPLETED) {
+            progress = 100.0;
+        } else if (job.getTotalItems() != null) {
+            progress = job.getTotalItems() == 0 ? 0.0 : Math.min(100.0, 100.0 * job.getProcessedItems() / job.getTotalItems());
+        }
+
+        return BulkJobDto.builder()
+                .id(job.getId())
+                .type(job.getType())
+                .status(job.getStatus())
+                .targetId(job.getTargetId())
+                .description(job.getDescription())
+                .requestedBy(job.getRequestedBy())
+                .totalItems(job.getTotalItems())
+                .processedItems(job.getProcessedItems())
+                .affectedItems(job.getAffectedItems())
+                .progressPercent(progress)
+                .error(job.getError())
+                .createdAt(job.getCreatedAt())
+                .startedAt(job.getStartedAt())
+                .finishedAt(job.getFinishedAt())
+                .build();
+    }
+
+    private String getCurrentActorEmail() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth != null && auth.isAuthenticated() && !"anonymousUser".equals(auth.getPrincipal())) {
+            return auth.getName();
+        }
+        return "SYSTEM";
+    }
+}
@@ -0,0 +1,136 @@
+package com.fvps.backend.services.impl;
+
+import com.fvps.backend.domain.dto.verification.ClearanceEvaluation;
+import com.fvps.backend.domain.dto.verification.ClearanceSnapshot;
+import com.fvps.backend.domain.entities.User;
+import com.fvps.backend.events.TrainingDefinitionChangedEvent;
+import com.fvps.backend.events.UserAccessChangedEvent;
+import com.fvps.backend.repositories.UserRepository;
+import com.fvps.backend.services.ClearanceSnapshotService;
+import com.fvps.backend.services.UserClearanceService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Service
+@RequiredArgsConstructor
+public class ClearanceSnapshotServiceImpl implements ClearanceSnapshotService {
+
+    private final UserRepository userRepository;
+    private final UserClearanceService userClearanceService;
+    private final Clock clock;
+
+    private final Map<UUID, ClearanceSnapshot> snapshots = new ConcurrentHashMap<>();
+
+    /**
+     * Incremented on every eviction. A load that started before an eviction must not publish its
+     * (possibly stale) result, so it compares the generation before and after reading the database.
+     */
+    private final AtomicLong generation = new AtomicLong();
+
+    @Value("${app.verification.snapshot-ttl-seconds:60}")
+    private long snapshotTtlSeconds;
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * <b>Implementation Note:</b>
+     * <ul>
+     * <li><b>Lock-free reads:</b> A valid snapshot is returned straight from a {@link ConcurrentHashMap}.</li>
+     * <li><b>Expiry:</b> A snapshot is only trusted until the earliest {@code validUntil} that would lower
+     * the clearance, so an expired training is denied at the exact moment it expires.</li>
+     * <li><b>Safety TTL:</b> Snapshots are also rebuilt after {@code app.verification.snapshot-ttl-seconds},
+     * which bounds staleness for changes made by other application instances.</li>
+     * <li><b>Stored clearance:</b> Rebuilding takes the level and next expiry maintained on the {@code users}
+     * row while they are current. Only a stale row is evaluated, read-only, via
+     * {@link UserClearanceService#evaluateClearance(UUID)}; the scan never updates the row.</li>
+     * </ul>
+     * </p>
+     */
+    @Override
+    public Optional<ClearanceSnapshot> getSnapshot(UUID userId) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        ClearanceSnapshot cached = snapshots.get(userId);
+        if (cached != null && cached.isValidAt(now)) {
+            return Optional.of(cached);
+        }
+
+        long observedGeneration = generation.get();
+        User user = userRepository.findById(userId).orElse(null);
+        if (user == null) {
+            snapshots.remove(userId);
+            return Optional.empty();
+        }
+
+        ClearanceEvaluation evaluation = userClearanceService.isClearanceCurrent(user)
+                ? new ClearanceEvaluation(user.getClearanceLevel(), user.getClearanceNextExpiry(), user.getClearanceIndexFingerprint())
+                : userClearanceService.evaluateClearance(userId);
+        LocalDateTime refreshAt = now.plusSeconds(snapshotTtlSeconds);
+        if (evaluation.getNextExpiry() != null && evaluation.getNextExpiry().isBefore(refreshAt)) {
+            refreshAt = evaluation.getNextExpiry();
+        }
+
+        ClearanceSnapshot snapshot = ClearanceSnapshot.builder()
+                .userId(userId)
+                .fullName(user.getName() + " " + user.getSurname())
+                .photoUrl(user.getPhotoUrl())
+                .status(user.getStatus())
+                .clearanceLevel(evaluation.getLevel())
+                .refreshAt(refreshAt)
+                .build();
+
+        if (generation.get() == observedGeneration) {
+            snapshots.put(userId, snapshot);
+        }
+        return Optional.of(snapshot);
+    }
+
+    @Override
+    public void evict(UUID userId) {
+        generation.incrementAndGet();
+        snapshots.remove(userId);
+    }
+
+    @Override
+    public void evictAll() {
+        generation.incrementAndGet();
+        snapshots.clear();
+    }
+
+    /**
+     * Drops the user's snapshot once the change that affected it has been committed.
+     * <p>
+     * {@code fallbackExecution} makes the listener fire immediately when the event
+     * is published outside a transaction.
+     * </p>
+     *
+     * @param event the published change.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserAccessChanged(UserAccessChangedEvent event) {
+        evict(event.getUserId());
+    }
+
+    /**
+     * Drops every snapshot once a training definition change has been committed.
+     *
+     * @param event the published change.
+     */
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTrainingDefinitionChanged(TrainingDefinitionChangedEvent event) {
+        evictAll();
+    }
+}
@@ -0,0 +1,267 @@
+package com.fvps.backend.services.impl;
+
+import com.fvps.backend.events.PartitionOwnershipChangedEvent;
+import com.fvps.backend.services.ClusterCoordinator;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Service
+public class ClusterCoordinatorImpl implements ClusterCoordinator {
+
+    private static final String NODE_PREFIX = "node:";
+    private static final String PARTITION_PREFIX = "partition:";
+
+    private static final String TTL = "clock_timestamp() + ? * interval '1 millisecond'";
+
+    private static final String MEMBER_SQL =
+            "INSERT INTO cluster_leases (name, owner, fencing_token, expires_at, heartbeat_at) "
+                    + "VALUES (?, ?, 1, " + TTL + ", clock_timestamp()) "
+                    + "ON CONFLICT (name) DO UPDATE SET expires_at = EXCLUDED.expires_at, heartbeat_at = EXCLUDED.heartbeat_at";
+
+    private static final String LIVE_MEMBERS_SQL =
+            "SELECT count(*) FROM cluster_leases WHERE name LIKE 'node:%' AND expires_at > clock_timestamp()";
+
+    private static final String TAKEN_PARTITIONS_SQL =
+            "SELECT name FROM cluster_leases WHERE name LIKE 'partition:%' AND expires_at > clock_timestamp()";
+
+    private static final String ACQUIRE_SQL =
+            "INSERT INTO cluster_leases (name, owner, fencing_token, expires_at, heartbeat_at) "
+                    + "VALUES (?, ?, 1, " + TTL + ", clock_timestamp()) "
+                    + "ON CONFLICT (name) DO UPDATE SET owner = EXCLUDED.owner, "
+                    + "fencing_token = cluster_leases.fencing_token + 1, "
+                    + "expires_at = EXCLUDED.expires_at, heartbeat_at = EXCLUDED.heartbeat_at "
+                    + "WHERE cluster_leases.expires_at <= clock_timestamp() "
+                    + "RETURNING fencing_token";
+
+    private static final String RENEW_SQL =
+            "UPDATE cluster_leases SET expires_at = " + TTL + ", heartbeat_at = clock_timestamp() "
+                    + "WHERE name = ? AND owner = ? AND fencing_token = ? AND expires_at > clock_timestamp()";
+
+    private static final String RELEASE_SQL =
+            "UPDATE cluster_leases SET expires_at = clock_timestamp() WHERE name = ? AND owner = ? AND fencing_token = ?";
+
+    private static final String LEAVE_SQL = "DELETE FROM cluster_leases WHERE name = ? AND owner = ?";
+
+    private static final String PURGE_NODES_SQL =
+            "DELETE FROM cluster_leases WHERE name LIKE 'node:%' AND expires_at < clock_timestamp() - interval '1 hour'";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Clock clock;
+    private final long leaseTtlMillis;
+    private final long heartbeatMillis;
+
+    @Getter
+    private final String nodeId = UUID.randomUUID().toString();
+
+    @Getter
+    private final int partitionCount;
+
+    private final Map<Integer, Long> owned = new ConcurrentHashMap<>();
+
+    /**
+     * Local deadline (epoch millis) until which the held leases are guaranteed to be ours.
+     */
+    private volatile long leasesValidUntil;
+
+    private volatile boolean running = true;
+
+    private ScheduledExecutorService heartbeatScheduler;
+
+    public ClusterCoordinatorImpl(
+            JdbcTemplate jdbcTemplate,
+            ApplicationEventPublisher eventPublisher,
+            Clock clock,
+            @Value("${app.cluster.partitions:16}") int partitionCount,
+            @Value("${app.cluster.lease-ttl-ms:10000}") long leaseTtlMillis,
+            @Value("${app.cluster.heartbeat-ms:2000}") long heartbeatMillis
+    ) {
+        if (partitionCount <= 0) {
+            throw new IllegalArgumentException("Partition count must be positive.");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventPublisher = eventPublisher;
+        this.clock = clock;
+        this.partitionCount = partitionCount;
+        this.leaseTtlMillis = leaseTtlMillis;
+        this.heartbeatMillis = heartbeatMillis;
+    }
+
+    /**
+     * Starts the heartbeat on a dedicated thread.
+     * <p>
+     * <b>Implementation Note:</b> Not a {@code @Scheduled} task: the shared scheduling pool
+     * ({@code spring.task.scheduling.pool.size}) also runs the expiry tick, the e-mail outbox, bulk jobs and the cleanup jobs, and a
+     * heartbeat queued behind them could let this node's leases lapse while it is still working on its partitions.
+     * </p>
+     */
+    @PostConstruct
+    void start() {
+        heartbeatScheduler = Executors.newSingleThreadScheduledExecutor(
+                task -> Thread.ofPlatform().name("cluster-heartbeat").daemon(true).unstarted(task));
+        heartbeatScheduler.scheduleWithFixedDelay(() -> {
+            try {
+                heartbeat();
+            } catch (RuntimeException e) {
+                // An escaping exception would cancel all further heartbeats.
+                log.error("Cluster heartbeat failed unexpectedly.", e);
+            }
+        }, 0, heartbeatMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public int partitionOf(UUID key) {
+        return PartitionHash.of(key, partitionCount);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * <b>Implementation Note:</b> Ownership is also checked against a local deadline derived from the start of
+     * the last successful renewal. If the database becomes unreachable, this node stops working on its partitions
+     * before their leases can lapse and be taken over.
+     * </p>
+     */
+    @Override
+    public OptionalLong getFencingToken(int partition) {
+        Long token = owned.get(partition);
+        if (token == null || clock.millis() >= leasesValidUntil) {
+            return OptionalLong.empty();
+        }
+        return OptionalLong.of(token);
+    }
+
+    @Override
+    public Map<Integer, Long> getOwnedPartitions() {
+        return clock.millis() < leasesValidUntil ? Map.copyOf(owned) : Map.of();
+    }
+
+    /**
+     * Renews this node's leases and rebalances partitions.
+     * <p>
+     * <b>Implementation Note:</b>
+     * <ul>
+     * <li><b>Membership:</b> Every node keeps a {@code node:<id>} lease alive; the number of live ones determines
+     * each node's fair share, {@code ceil(partitions / nodes)}.</li>
+     * <li><b>Rebalancing:</b> A node above its share releases its highest partitions, a node below it takes over
+     * free or lapsed ones. A partition of a node that died is therefore reassigned within one lease TTL
+     * ({@code app.cluster.lease-ttl-ms}) plus one heartbeat ({@code app.cluster.heartbeat-ms}).</li>
+     * <li><b>Fencing:</b> Every takeover increments the partition's fencing token. A renewal only succeeds for the
+     * token this node acquired, so a lease that was lost is never silently regained.</li>
+     * <li><b>Listeners:</b> The {@link PartitionOwnershipChangedEvent} is published on the heartbeat thread;
+     * listeners must hand slow work (such as loading a partition) to a thread of their own.</li>
+     * </ul>
+     * </p>
+     */
+    public void heartbeat() {
+        if (!running) return;
+
+        long startedAt = clock.millis();
+        Set<Integer> acquired = new TreeSet<>();
+        Set<Integer> released = new TreeSet<>();
+
+        try {
+            jdbcTemplate.update(MEMBER_SQL, NODE_PREFIX + nodeId, nodeId, leaseTtlMillis);
+
+            for (Map.Entry<Integer, Long> entry : new ArrayList<>(owned.entrySet())) {
+                if (jdbcTemplate.update(RENEW_SQL, leaseTtlMillis, PARTITION_PREFIX + entry.getKey(), nodeId, entry.getValue()) == 0) {
+                    owned.remove(entry.getKey());
+                    released.add(entry.getKey());
+                    log.warn("Lost lease on partition {}.", entry.getKey());
+                }
+            }
+            leasesValidUntil = startedAt + leaseTtlMillis;
+
+            Long liveNodes = jdbcTemplate.queryForObject(LIVE_MEMBERS_SQL, Long.class);
+            int share = (int) Math.ceilDiv(partitionCount, Math.max(1, liveNodes != null ? liveNodes : 1));
+
+            while (owned.size() > share) {
+                int partition = Collections.max(owned.keySet());
+                jdbcTemplate.update(RELEASE_SQL, PARTITION_PREFIX + partition, nodeId, owned.remove(partition));
+                released.add(partition);
+            }
+
+            if (owned.size() < share) {
+                acquire(share, acquired);
+            }
+        } catch (DataAccessException e) {
+            log.warn("Cluster heartbeat failed; held partitions stay valid until their leases lapse.", e);
+        }
+
+        if (!acquired.isEmpty() || !released.isEmpty()) {
+            log.info("Partition ownership changed: acquired {}, released {}, holding {}.", acquired, released, owned.keySet());
+            eventPublisher.publishEvent(new PartitionOwnershipChangedEvent(this, acquired, released));
+        }
+    }
+
+    /**
+     * Removes membership leases of nodes that have been gone for a long time.
+     */
+    @Scheduled(fixedDelayString = "${app.cluster.purge-interval-ms:3600000}")
+    public void purgeDeadNodes() {
+        jdbcTemplate.update(PURGE_NODES_SQL);
+    }
+
+    /**
+     * Hands all partitions back on shutdown, so the remaining nodes take them over on their next heartbeat
+     * instead of waiting for the leases to lapse.
+     */
+    @PreDestroy
+    void stop() {
+        running = false;
+        if (heartbeatScheduler != null) {
+            heartbeatScheduler.shutdown();
+            try {
+                // Let a running heartbeat finish, so it cannot re-acquire what is released below.
+                heartbeatScheduler.awaitTermination(leaseTtlMillis, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        Set<Integer> released = new TreeSet<>(owned.keySet());
+        try {
+            owned.forEach((partition, token) -> jdbcTemplate.update(RELEASE_SQL, PARTITION_PREFIX + partition, nodeId, token));
+            jdbcTemplate.update(LEAVE_SQL, NODE_PREFIX + nodeId, nodeId);
+        } catch (DataAccessException e) {
+            log.warn("Could not release cluster leases on shutdown; they will lapse after {} ms.", leaseTtlMillis, e);
+        }
+        owned.clear();
+        if (!released.isEmpty()) {
+            eventPublisher.publishEvent(new PartitionOwnershipChangedEvent(this, Set.of(), released));
+        }
+    }
+
+    private void acquire(int share, Set<Integer> acquired) {
+        Set<String> taken = new HashSet<>(jdbcTemplate.queryForList(TAKEN_PARTITIONS_SQL, String.class));
+
+        // Start at a node-specific offset, so that nodes joining together do not race for the same partitions.
+        int offset = Math.floorMod(nodeId.hashCode(), partitionCount);
+        for (int i = 0; i < partitionCount && owned.size() < share; i++) {
+            int partition = (offset + i) % partitionCount;
+            String name = PARTITION_PREFIX + partition;
+            if (owned.containsKey(partition) || taken.contains(name)) continue;
+
+            List<Long> token = jdbcTemplate.queryForList(ACQUIRE_SQL, Long.class, name, nodeId, leaseTtlMillis);
+            if (!token.isEmpty()) {
+                owned.put(partition, token.getFirst());
+                acquired.add(partition);
+            }
+        }
+    }
+}
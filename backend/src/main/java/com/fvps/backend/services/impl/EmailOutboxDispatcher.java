@@ -0,0 +1,283 @@
+package com.fvps.backend.services.impl;
+
+import com.fvps.backend.services.AuditLogService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Delivers the messages queued in the email outbox.
+ * <p>
+ * Each poll claims a batch of due messages with {@code FOR UPDATE SKIP LOCKED}, so several instances can
+ * dispatch concurrently without sending a message twice. The batch is split across up to
+ * {@code app.mail.outbox.connections} senders; every sender delivers its share over a single SMTP connection.
+ * A token bucket caps the overall rate at {@code app.mail.outbox.rate-per-second}.
+ * </p>
+ * <p>
+ * Failed messages are retried with exponential backoff and jitter until {@code app.mail.outbox.max-attempts}
+ * is reached. A claim expires after {@code app.mail.outbox.claim-timeout-ms}, so messages held by an instance
+ * that died are picked up again.
+ * </p>
+ */
+@Slf4j
+@Component
+class EmailOutboxDispatcher {
+
+    private static final int MAX_ERROR_LENGTH = 2000;
+
+    private static final String CLAIM_SQL =
+            "UPDATE email_outbox SET status = 'SENDING', locked_by = ?, locked_until = ? "
+                    + "WHERE id IN (SELECT id FROM email_outbox "
+                    + "WHERE (status = 'PENDING' AND next_attempt_at <= ?) OR (status = 'SENDING' AND locked_until < ?) "
+                    + "ORDER BY next_attempt_at LIMIT ? FOR UPDATE SKIP LOCKED) "
+                    + "RETURNING id, recipient, subject, body, attempts";
+
+    private static final String SENT_SQL =
+            "UPDATE email_outbox SET status = 'SENT', sent_at = ?, last_error = NULL, locked_by = NULL, locked_until = NULL "
+                    + "WHERE id = ANY(?) AND locked_by = ?";
+
+    private static final String FAILED_SQL =
+            "UPDATE email_outbox SET status = ?, attempts = ?, next_attempt_at = ?, last_error = ?, "
+                    + "locked_by = NULL, locked_until = NULL WHERE id = ? AND locked_by = ?";
+
+    private static final String PURGE_SQL = "DELETE FROM email_outbox WHERE status = 'SENT' AND sent_at < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JavaMailSender mailSender;
+    private final AuditLogService auditLogService;
+    private final Clock clock;
+    private final String addressFrom;
+    private final int batchSize;
+    private final int connections;
+    private final double ratePerSecond;
+    private final int maxAttempts;
+    private final long backoffInitialMillis;
+    private final long backoffMaxMillis;
+    private final long claimTimeoutMillis;
+    private final int retentionDays;
+
+    private final String instanceId = UUID.randomUUID().toString();
+
+    // --- token bucket (only touched by the scheduler thread running dispatch()) ---
+    private double tokens;
+    private long lastRefillNanos = System.nanoTime();
+
+    private volatile boolean running;
+    private ExecutorService senders;
+
+    EmailOutboxDispatcher(
+            JdbcTemplate jdbcTemplate,
+            JavaMailSender mailSender,
+            AuditLogService auditLogService,
+            Clock clock,
+            @Value("${app.mail.address-from}") String addressFrom,
+            @Value("${app.mail.outbox.batch-size:50}") int batchSize,
+            @Value("${app.mail.outbox.connections:2}") int connections,
+            @Value("${app.mail.outbox.rate-per-second:20}") double ratePerSecond,
+            @Value("${app.mail.outbox.max-attempts:8}") int maxAttempts,
+            @Value("${app.mail.outbox.backoff-initial-ms:30000}") long backoffInitialMillis,
+            @Value("${app.mail.outbox.backoff-max-ms:3600000}") long backoffMaxMillis,
+            @Value("${app.mail.outbox.claim-timeout-ms:300000}") long claimTimeoutMillis,
+            @Value("${app.mail.outbox.retention-days:7}") int retentionDays
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.mailSender = mailSender;
+        this.auditLogService = auditLogService;
+        this.clock = clock;
+        this.addressFrom = addressFrom;
+        this.batchSize = batchSize;
+        this.connections = connections;
+        this.ratePerSecond = ratePerSecond;
+        this.maxAttempts = maxAttempts;
+        this.backoffInitialMillis = backoffInitialMillis;
+        this.backoffMaxMillis = backoffMaxMillis;
+        this.claimTimeoutMillis = claimTimeoutMillis;
+        this.retentionDays = retentionDays;
+        this.tokens = ratePerSecond;
+    }
+
+    /**
+     * Starts the sender pool.
+     */
+    @PostConstruct
+    void start() {
+        senders = Executors.newFixedThreadPool(connections, Thread.ofPlatform().name("mail-sender-", 1).daemon(true).factory());
+        running = true;
+    }
+
+    /**
+     * Stops dispatching. Messages claimed but not yet sent are picked up again once their claim expires.
+     */
+    @PreDestroy
+    void stop() {
+        running = false;
+        senders.shutdown();
+        try {
+            senders.awaitTermination(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Claims and delivers one batch of due messages, within the rate limit.
+     */
+    @Scheduled(fixedDelayString = "${app.mail.outbox.poll-interval-ms:1000}")
+    public void dispatch() {
+        if (!running) return;
+
+        int budget = (int) Math.min(batchSize, refillTokens());
+        if (budget <= 0) return;
+
+        List<OutboxMessage> batch = claim(budget);
+        if (batch.isEmpty()) return;
+        tokens -= batch.size();
+
+        int perSender = Math.ceilDiv(batch.size(), connections);
+        List<CompletableFuture<Void>> sending = new ArrayList<>();
+        for (int from = 0; from < batch.size(); from += perSender) {
+            List<OutboxMessage> share = batch.subList(from, Math.min(from + perSender, batch.size()));
+            sending.add(CompletableFuture.runAsync(() -> send(share), senders));
+        }
+        CompletableFuture.allOf(sending.toArray(CompletableFuture[]::new)).join();
+    }
+
+    /**
+     * Deletes delivered messages older than {@code app.mail.outbox.retention-days}.
+     */
+    @Scheduled(cron = "${app.mail.outbox.purge-cron:0 30 3 * * *}")
+    public void purgeDelivered() {
+        int deleted = jdbcTemplate.update(PURGE_SQL, Timestamp.valueOf(LocalDateTime.now(clock).minusDays(retentionDays)));
+        if (deleted > 0) {
+            log.info("Purged {} delivered messages from the email outbox.", deleted);
+        }
+    }
+
+    private double refillTokens() {
+        long now = System.nanoTime();
+        tokens = Math.min(ratePerSecond, tokens + (now - lastRefillNanos) / 1e9 * ratePerSecond);
+        lastRefillNanos = now;
+        return tokens;
+    }
+
+    private List<OutboxMessage> claim(int limit) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        return jdbcTemplate.query(CLAIM_SQL,
+                (rs, rowNum) -> new OutboxMessage(
+                        rs.getObject("id", UUID.class),
+                        rs.getString("recipient"),
+                        rs.getString("subject"),
+                        rs.getString("body"),
+                        rs.getInt("attempts")),
+                instanceId, Timestamp.valueOf(now.plus(Duration.ofMillis(claimTimeoutMillis))),
+                Timestamp.valueOf(now), Timestamp.valueOf(now), limit);
+    }
+
+    /**
+     * Sends messages over one SMTP connection and records the outcome of each.
+     */
+    private void send(List<OutboxMessage> messages) {
+        SimpleMailMessage[] mails = messages.stream().map(this::toMail).toArray(SimpleMailMessage[]::new);
+        Map<Object, Exception> failures;
+        try {
+            mailSender.send(mails);
+            failures = Map.of();
+        } catch (MailSendException e) {
+            failures = e.getFailedMessages().isEmpty() ? allFailed(mails, e) : e.getFailedMessages();
+        } catch (MailException e) {
+            failures = allFailed(mails, e);
+        }
+
+        List<UUID> sent = new ArrayList<>();
+        for (int i = 0; i < messages.size(); i++) {
+            OutboxMessage message = messages.get(i);
+            Exception failure = failures.get(mails[i]);
+            if (failure == null) {
+                sent.add(message.id());
+                auditLogService.logEvent("EMAIL_SENT", "Email sent to " + message.recipient());
+            } else {
+                markFailed(message, failure);
+            }
+        }
+
+        if (!sent.isEmpty()) {
+            jdbcTemplate.update(SENT_SQL, ps -> {
+                ps.setTimestamp(1, Timestamp.valueOf(LocalDateTime.now(clock)));
+                ps.setArray(2, ps.getConnection().createArrayOf("uuid", sent.toArray()));
+                ps.setString(3, instanceId);
+            });
+        }
+    }
+
+    private void markFailed(OutboxMessage message, Exception failure) {
+        int attempts = message.attempts() + 1;
+        boolean givingUp = attempts >= maxAttempts;
+        String error = String.valueOf(failure.getMessage());
+        if (error.length() > MAX_ERROR_LENGTH) error = error.substring(0, MAX_ERROR_LENGTH);
+
+        jdbcTemplate.update(FAILED_SQL,
+                givingUp ? "FAILED" : "PENDING",
+                attempts,
+                Timestamp.valueOf(LocalDateTime.now(clock).plus(Duration.ofMillis(backoffMillis(attempts)))),
+                error,
+                message.id(),
+                instanceId);
+
+        if (givingUp) {
+            auditLogService.logEvent("EMAIL_SENDING_FAILED",
+                    "Email sending failed to " + message.recipient() + " after " + attempts + " attempts");
+        } else {
+            log.warn("Sending email {} failed (attempt {}), retrying later: {}", message.id(), attempts, error);
+        }
+    }
+
+    /**
+     * Exponential backoff with "equal jitter": half of the delay is fixed, the other half random.
+     */
+    private long backoffMillis(int attempts) {
+        long delay = backoffInitialMillis << Math.min(attempts - 1, 30);
+        if (delay <= 0 || delay > backoffMaxMillis) delay = backoffMaxMillis;
+        return delay / 2 + ThreadLocalRandom.current().nextLong(delay / 2 + 1);
+    }
+
+    private SimpleMailMessage toMail(OutboxMessage message) {
+        SimpleMailMessage mail = new SimpleMailMessage();
+        mail.setFrom(addressFrom);
+        mail.setTo(message.recipient());
+        mail.setSubject(message.subject());
+        mail.setText(message.body());
+        return mail;
+    }
+
+    private static Map<Object, Exception> allFailed(SimpleMailMessage[] mails, Exception e) {
+        Map<Object, Exception> failures = new IdentityHashMap<>();
+        for (SimpleMailMessage mail : mails) failures.put(mail, e);
+        return failures;
+    }
+
+    private record OutboxMessage(UUID id, String recipient, String subject, String body, int attempts) {
+    }
+}
@@ -1,53 +1,53 @@
 package com.fvps.backend.services.impl;
 
-import com.fvps.backend.services.AuditLogService;
+import com.fvps.backend.domain.entities.EmailOutboxMessage;
+import com.fvps.backend.domain.enums.EmailOutboxStatus;
+import com.fvps.backend.repositories.EmailOutboxRepository;
 import com.fvps.backend.services.EmailService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
 
 @Service
 @RequiredArgsConstructor
 public class EmailServiceImpl implements EmailService {
 
-    private final JavaMailSender mailSender;
-    private final AuditLogService auditLogService;
-
-    @Value("${app.mail.address-from}")
-    private String emailAddressFrom;
+    private final EmailOutboxRepository outboxRepository;
+    private final Clock clock;
 
     /**
      * {@inheritDoc}
      * <p>
      * <b>Implementation Note:</b>
      * <ul>
-     * <li><b>Asynchronous Execution:</b> Annotated with {@link Async}. The email sending process happens
-     * in a separate thread to avoid blocking the user's HTTP request (reduces UI latency).</li>
-     * <li><b>Audit Logging:</b> Automatically records an "EMAIL_SENT" event upon success or
-     * "EMAIL_SENDING_FAILED" if an exception occurs during the SMTP handshake.</li>
-     * <li><b>Error Handling:</b> Since this runs asynchronously, thrown exceptions are not propagated
-     * to the caller immediately but are handled by the audit logger.</li>
+     * <li><b>Transactional Outbox:</b> The message is only inserted into the {@code email_outbox} table, joining the
+     * caller's transaction. It is queued if and only if the business change commits, and a rollback never
+     * leaves a stray email behind.</li>
+     * <li><b>Caller's transaction required:</b> Runs with {@link Propagation#MANDATORY}; a call outside a
+     * transaction fails with an {@code IllegalTransactionStateException} instead of silently committing the
+     * message on its own. Event listeners that send notifications must therefore run synchronously or in the
+     * {@code BEFORE_COMMIT} phase, not {@code AFTER_COMMIT}, where the publisher's transaction is already over.</li>
+     * <li><b>Delivery:</b> {@link EmailOutboxDispatcher} sends queued messages in batches, rate-limited and with
+     * exponential backoff, and records "EMAIL_SENT" or "EMAIL_SENDING_FAILED" in the audit log.</li>
+     * <li><b>Latency:</b> The caller never waits for SMTP; delivery starts within one dispatcher poll.</li>
      * </ul>
      * </p>
      */
     @Override
-    @Async
+    @Transactional(propagation = Propagation.MANDATORY)
     public void sendEmail(String to, String subject, String content) {
-        try {
-            SimpleMailMessage message = new SimpleMailMessage();
-            message.setFrom(emailAddressFrom);
-            message.setTo(to);
-            message.setSubject(subject);
-            message.setText(content);
-
-            mailSender.send(message);
-            auditLogService.logEvent("EMAIL_SENT", "Email sent to " + to);
-        } catch (Exception e) {
-            auditLogService.logEvent("EMAIL_SENDING_FAILED", "Email sending failed to " + to);
-            throw new RuntimeException("Failed to send email to " + to, e);
-        }
+        LocalDateTime now = LocalDateTime.now(clock);
+        outboxRepository.save(EmailOutboxMessage.builder()
+                .recipient(to)
+                .subject(subject)
+                .body(content)
+                .status(EmailOutboxStatus.PENDING)
+                .nextAttemptAt(now)
+                .createdAt(now)
+                .build());
     }
-}
\ No newline at end of file
+}
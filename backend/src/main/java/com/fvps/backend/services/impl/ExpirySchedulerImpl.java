@@ -0,0 +1,325 @@
+package com.fvps.backend.services.impl;
+
+import com.fvps.backend.domain.entities.User;
+import com.fvps.backend.events.PartitionOwnershipChangedEvent;
+import com.fvps.backend.events.UserAccessChangedEvent;
+import com.fvps.backend.events.UserStatusChangedEvent;
+import com.fvps.backend.repositories.UserRepository;
+import com.fvps.backend.services.AuditLogService;
+import com.fvps.backend.services.ClusterCoordinator;
+import com.fvps.backend.services.ExpiryScheduler;
+import com.fvps.backend.services.UserClearanceService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Array;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+@Slf4j
+@Service
+public class ExpirySchedulerImpl implements ExpiryScheduler {
+
+    /**
+     * Pending expiries no older than the catch-up window; the window start is the first parameter.
+     */
+    private static final String PENDING_SQL =
+            "SELECT id, user_id, valid_until FROM user_training_status "
+                    + "WHERE status = 'COMPLETED' AND is_pass_revoked = false AND valid_until >= ? "
+                    + "AND expiry_notified_for IS DISTINCT FROM valid_until";
+
+    /**
+     * Marks expiries older than the catch-up window as handled without firing them.
+     */
+    private static final String SKIP_STALE_SQL =
+            "UPDATE user_training_status SET expiry_notified_for = valid_until "
+                    + "WHERE status = 'COMPLETED' AND is_pass_revoked = false AND valid_until < ? "
+                    + "AND expiry_notified_for IS DISTINCT FROM valid_until";
+
+    private static final String CLAIM_SQL =
+            "UPDATE user_training_status s SET expiry_notified_for = s.valid_until FROM trainings t "
+                    + "WHERE s.id = ? AND t.id = s.training_id AND s.status = 'COMPLETED' AND s.is_pass_revoked = false "
+                    + "AND s.valid_until <= ? AND s.expiry_notified_for IS DISTINCT FROM s.valid_until "
+                    + "AND EXISTS (SELECT 1 FROM cluster_leases l WHERE l.name = ? AND l.owner = ? "
+                    + "AND l.fencing_token = ? AND l.expires_at > clock_timestamp()) "
+                    + "RETURNING s.user_id, t.title";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final UserRepository userRepository;
+    private final UserClearanceService clearanceService;
+    private final AuditLogService auditLogService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ClusterCoordinator clusterCoordinator;
+    private final TransactionTemplate transaction;
+    private final Clock clock;
+    private final int maxFiresPerTick;
+    private final long retryDelayMillis;
+    private final Duration catchUpWindow;
+
+    private final String partitionSql;
+    private final HierarchicalTimingWheel<ExpiryKey> wheel;
+
+    /**
+     * Loads acquired partitions one after another, off the cluster heartbeat thread.
+     */
+    private final ExecutorService partitionLoader = Executors.newSingleThreadExecutor(
+            task -> Thread.ofPlatform().name("expiry-partition-loader").daemon(true).unstarted(task));
+
+    public ExpirySchedulerImpl(
+            JdbcTemplate jdbcTemplate,
+            UserRepository userRepository,
+            UserClearanceService clearanceService,
+            AuditLogService auditLogService,
+            ApplicationEventPublisher eventPublisher,
+            ClusterCoordinator clusterCoordinator,
+            PlatformTransactionManager transactionManager,
+            Clock clock,
+            @Value("${app.expiry.tick-ms:1000}") long tickMillis,
+            @Value("${app.expiry.max-fires-per-tick:500}") int maxFiresPerTick,
+            @Value("${app.expiry.retry-delay-ms:60000}") long retryDelayMillis,
+            @Value("${app.expiry.catch-up-hours:72}") long catchUpHours
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.userRepository = userRepository;
+        this.clearanceService = clearanceService;
+        this.auditLogService = auditLogService;
+        this.eventPublisher = eventPublisher;
+        this.clusterCoordinator = clusterCoordinator;
+        this.partitionSql = PartitionHash.sql("user_id", clusterCoordinator.getPartitionCount());
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.clock = clock;
+        this.maxFiresPerTick = maxFiresPerTick;
+        this.retryDelayMillis = retryDelayMillis;
+        this.catchUpWindow = Duration.ofHours(catchUpHours);
+        this.wheel = new HierarchicalTimingWheel<>(tickMillis, clock.millis());
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * <b>Implementation Note:</b>
+     * <ul>
+     * <li><b>Partitioned:</b> Only the partitions this node holds (by hash of {@code user_id}, see
+     * {@link ClusterCoordinator}) are loaded, so each expiry lives in exactly one node's wheel.</li>
+     * <li><b>Merge, not replace:</b> Rows are scheduled by their id, so reloading only moves entries to their
+     * current deadline. Entries whose row is no longer pending are dropped when they fire.</li>
+     * <li><b>Reconciliation:</b> Also runs every {@code app.expiry.reconcile-interval-ms} to pick up completions
+     * made on other instances, which this instance never receives events for.</li>
+     * <li><b>Catch-up window:</b> Expiries missed while no node was running are still fired if they are at most
+     * {@code app.expiry.catch-up-hours} old. Older ones (e.g. every historical expiry when the scheduler is first
+     * deployed) are marked as handled without an audit entry or notification.</li>
+     * </ul>
+     * </p>
+     */
+    @Override
+    @Scheduled(fixedDelayString = "${app.expiry.reconcile-interval-ms:3600000}",
+            initialDelayString = "${app.expiry.reconcile-interval-ms:3600000}")
+    public void rebuild() {
+        load(clusterCoordinator.getOwnedPartitions().keySet());
+    }
+
+    @Override
+    public void syncUser(UUID userId) {
+        if (clusterCoordinator.getFencingToken(clusterCoordinator.partitionOf(userId)).isEmpty()) {
+            return;
+        }
+        jdbcTemplate.query(PENDING_SQL + " AND user_id = ?", rs -> {
+            schedule(rs);
+        }, catchUpStart(), userId);
+    }
+
+    @Override
+    public int getScheduledCount() {
+        return wheel.size();
+    }
+
+    /**
+     * Keeps the schedule in sync with progress changes made on this instance.
+     * <p>
+     * Every change that can create, extend or remove a validity (completion, revocation, reset, unassignment,
+     * validity recalculation) publishes a {@link UserAccessChangedEvent}.
+     * </p>
+     *
+     * @param event the published change.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserAccessChanged(UserAccessChangedEvent event) {
+        syncUser(event.getUserId());
+    }
+
+    /**
+     * Loads the expiries of newly acquired partitions and drops those of released ones.
+     * <p>
+     * <b>Implementation Note:</b> Released partitions are dropped right away; acquired ones are loaded on a
+     * separate thread, as the event arrives on the cluster heartbeat thread, which must not wait for a database
+     * scan. Entries a late load adds for a partition released in the meantime are discarded when they fire.
+     * </p>
+     *
+     * @param event the ownership change.
+     */
+    @EventListener
+    public void onPartitionOwnershipChanged(PartitionOwnershipChangedEvent event) {
+        if (!event.getReleased().isEmpty()) {
+            wheel.removeIf(key -> event.getReleased().contains(key.partition()));
+        }
+        if (event.getAcquired().isEmpty()) return;
+
+        Set<Integer> acquired = event.getAcquired();
+        try {
+            partitionLoader.execute(() -> {
+                try {
+                    load(acquired);
+                } catch (RuntimeException e) {
+                    log.warn("Loading expiries of partitions {} failed; the next reconciliation retries.", acquired, e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.debug("Shutting down; not loading partitions {}.", acquired);
+        }
+    }
+
+    @PreDestroy
+    void stop() {
+        partitionLoader.shutdownNow();
+    }
+
+    /**
+     * Turns the wheel and processes the expiries that became due.
+     * <p>
+     * <b>Implementation Note:</b>
+     * <ul>
+     * <li><b>Exact timing:</b> An expiry fires in the first tick ({@code app.expiry.tick-ms}) after its
+     * {@code validUntil}; there is no range query.</li>
+     * <li><b>Exactly once:</b> Each expiry is claimed with a conditional update of {@code expiry_notified_for}
+     * that also checks this node's lease and fencing token for the user's partition. A node that lost the
+     * partition (e.g. after a long pause) cannot process, and thus duplicate, an expiry of its successor.</li>
+     * <li><b>Back-pressure:</b> At most {@code app.expiry.max-fires-per-tick} expiries are processed per tick;
+     * the rest are pushed to the next one. A failed expiry is retried after {@code app.expiry.retry-delay-ms}.</li>
+     * </ul>
+     * </p>
+     */
+    @Scheduled(fixedRateString = "${app.expiry.tick-ms:1000}")
+    public void tick() {
+        long now = clock.millis();
+        List<ExpiryKey> due = wheel.advance(now);
+
+        for (int i = 0; i < due.size(); i++) {
+            ExpiryKey key = due.get(i);
+            if (i >= maxFiresPerTick) {
+                wheel.schedule(key, now);
+                continue;
+            }
+            try {
+                transaction.executeWithoutResult(status -> fire(key));
+            } catch (Exception e) {
+                log.warn("Processing expiry of training status {} failed, retrying later.", key.statusId(), e);
+                wheel.schedule(key, now + retryDelayMillis);
+            }
+        }
+    }
+
+    private void fire(ExpiryKey key) {
+        OptionalLong fencingToken = clusterCoordinator.getFencingToken(key.partition());
+        if (fencingToken.isEmpty()) {
+            // The partition moved to another node, which has loaded it from the database.
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now(clock);
+        List<Expiry> claimed = jdbcTemplate.query(CLAIM_SQL,
+                (rs, rowNum) -> new Expiry(rs.getObject("user_id", UUID.class), rs.getString("title")),
+                key.statusId(), Timestamp.valueOf(now),
+                "partition:" + key.partition(), clusterCoordinator.getNodeId(), fencingToken.getAsLong());
+
+        if (claimed.isEmpty()) {
+            // Renewed since it was scheduled (or already processed): follow the current deadline, if any.
+            jdbcTemplate.query(PENDING_SQL + " AND id = ?", rs -> {
+                schedule(rs);
+            }, catchUpStart(), key.statusId());
+            return;
+        }
+
+        Expiry expiry = claimed.getFirst();
+        clearanceService.recalculateUserClearance(expiry.userId());
+        auditLogService.logEvent(expiry.userId(), "TRAINING_EXPIRED", "Training validity expired: " + expiry.trainingTitle());
+        eventPublisher.publishEvent(new UserAccessChangedEvent(this, expiry.userId()));
+
+        User user = userRepository.findById(expiry.userId()).orElse(null);
+        if (user != null) {
+            eventPublisher.publishEvent(new UserStatusChangedEvent(this, user,
+                    "Your training \"" + expiry.trainingTitle() + "\" has expired. Please renew it to keep your access."));
+        }
+    }
+
+    private void load(Collection<Integer> partitions) {
+        if (partitions.isEmpty()) return;
+
+        Timestamp catchUpStart = catchUpStart();
+        int[] loaded = {0};
+        int[] skipped = {0};
+        transaction.executeWithoutResult(status -> {
+            skipped[0] = jdbcTemplate.update(SKIP_STALE_SQL + " AND " + partitionSql + " = ANY(?)", ps -> {
+                ps.setTimestamp(1, catchUpStart);
+                ps.setArray(2, ps.getConnection().createArrayOf("integer", partitions.toArray()));
+            });
+            jdbcTemplate.query(
+                    PENDING_SQL + " AND " + partitionSql + " = ANY(?)",
+                    ps -> {
+                        Array array = ps.getConnection().createArrayOf("integer", partitions.toArray());
+                        ps.setTimestamp(1, catchUpStart);
+                        ps.setArray(2, array);
+                    },
+                    rs -> {
+                        schedule(rs);
+                        loaded[0]++;
+                    });
+        });
+        if (skipped[0] > 0) {
+            log.info("Expiry schedule skipped {} expiries older than the {} catch-up window.", skipped[0], catchUpWindow);
+        }
+        log.info("Expiry schedule loaded {} pending expiries for partitions {} ({} scheduled).",
+                loaded[0], partitions, wheel.size());
+    }
+
+    private void schedule(ResultSet rs) throws SQLException {
+        UUID userId = rs.getObject("user_id", UUID.class);
+        ExpiryKey key = new ExpiryKey(rs.getObject("id", UUID.class), clusterCoordinator.partitionOf(userId));
+        wheel.schedule(key, toMillis(rs.getTimestamp("valid_until").toLocalDateTime()));
+    }
+
+    private Timestamp catchUpStart() {
+        return Timestamp.valueOf(LocalDateTime.now(clock).minus(catchUpWindow));
+    }
+
+    private long toMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(clock.getZone()).toInstant().toEpochMilli();
+    }
+
+    private record Expiry(UUID userId, String trainingTitle) {
+    }
+
+    private record ExpiryKey(UUID statusId, int partition) {
+    }
+}
@@ -0,0 +1,217 @@
+package com.fvps.backend.services.impl;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Hierarchical timing wheel holding one deadline per key.
+ * <p>
+ * Time is divided into ticks of a fixed length. The wheel has {@value #LEVELS} levels of {@value #SLOTS}
+ * slots each; level {@code n} covers {@code 64^(n+1)} ticks, so with one-second ticks the top level reaches
+ * roughly 34 years ahead. A deadline is placed in the lowest level whose range covers it and moves down
+ * (cascades) one level at a time as the wheel turns, until it fires from level 0 in the exact tick it is due.
+ * </p>
+ * <p>
+ * Scheduling, rescheduling and cancelling are O(1). Advancing costs O(1) per elapsed tick plus the work of
+ * the entries that cascade or fire. Keys are unique: scheduling an existing key moves it to the new deadline.
+ * </p>
+ * <p>
+ * All methods are synchronised; the wheel is meant to be advanced by a single ticker thread while other
+ * threads schedule and cancel.
+ * </p>
+ *
+ * @param <K> the key type identifying a scheduled entry.
+ */
+final class HierarchicalTimingWheel<K> {
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int MASK = SLOTS - 1;
+    private static final int LEVELS = 5;
+    private static final long MAX_DELTA = (1L << (SLOT_BITS * LEVELS)) - 1;
+
+    private final long tickMillis;
+    private final List<List<Set<Entry<K>>>> levels = new ArrayList<>(LEVELS);
+    private final Map<K, Entry<K>> entries = new HashMap<>();
+
+    /**
+     * The next tick to be processed. Every entry with a deadline before it has already fired.
+     */
+    private long currentTick;
+
+    /**
+     * Creates an empty wheel.
+     *
+     * @param tickMillis the length of a tick in milliseconds.
+     * @param nowMillis  the current time in epoch milliseconds.
+     */
+    HierarchicalTimingWheel(long tickMillis, long nowMillis) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("Tick length must be positive.");
+        }
+        this.tickMillis = tickMillis;
+        this.currentTick = nowMillis / tickMillis;
+        for (int level = 0; level < LEVELS; level++) {
+            List<Set<Entry<K>>> slots = new ArrayList<>(SLOTS);
+            for (int slot = 0; slot < SLOTS; slot++) {
+                slots.add(new LinkedHashSet<>());
+            }
+            levels.add(slots);
+        }
+    }
+
+    /**
+     * Schedules a key, replacing any deadline it already has.
+     * <p>
+     * A deadline in the past fires on the next {@link #advance(long)}.
+     * </p>
+     *
+     * @param key            the key to schedule.
+     * @param deadlineMillis the deadline in epoch milliseconds.
+     */
+    synchronized void schedule(K key, long deadlineMillis) {
+        Entry<K> entry = entries.get(key);
+        if (entry != null) {
+            entry.bucket.remove(entry);
+        } else {
+            entry = new Entry<>(key);
+            entries.put(key, entry);
+        }
+        // Round up, so that an entry never fires before its deadline.
+        entry.deadlineTick = Math.ceilDiv(deadlineMillis, tickMillis);
+        place(entry);
+    }
+
+    /**
+     * Removes a key from the wheel.
+     *
+     * @param key the key to cancel.
+     * @return {@code true} if the key was scheduled.
+     */
+    synchronized boolean cancel(K key) {
+        Entry<K> entry = entries.remove(key);
+        if (entry == null) return false;
+        entry.bucket.remove(entry);
+        return true;
+    }
+
+    /**
+     * Removes every key matching a condition.
+     * <p>
+     * Unlike the other operations this is O(n); it is meant for rare bulk changes.
+     * </p>
+     *
+     * @param condition the keys to remove.
+     * @return the number of removed keys.
+     */
+    synchronized int removeIf(Predicate<? super K> condition) {
+        int removed = 0;
+        var iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            Entry<K> entry = iterator.next();
+            if (condition.test(entry.key)) {
+                entry.bucket.remove(entry);
+                iterator.remove();
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Turns the wheel up to the given time and removes every entry that became due.
+     *
+     * @param nowMillis the current time in epoch milliseconds.
+     * @return the keys that are due, in the order of the ticks they fired in.
+     */
+    synchronized List<K> advance(long nowMillis) {
+        long targetTick = nowMillis / tickMillis;
+        List<K> due = new ArrayList<>();
+
+        if (entries.isEmpty()) {
+            currentTick = Math.max(currentTick, targetTick + 1);
+            return due;
+        }
+
+        while (currentTick <= targetTick) {
+            int slot = (int) (currentTick & MASK);
+            if (slot == 0) {
+                cascade(1);
+            }
+
+            Set<Entry<K>> bucket = levels.get(0).get(slot);
+            for (Entry<K> entry : bucket) {
+                entries.remove(entry.key);
+                due.add(entry.key);
+            }
+            bucket.clear();
+            currentTick++;
+
+            if (entries.isEmpty()) {
+                currentTick = Math.max(currentTick, targetTick + 1);
+            }
+        }
+        return due;
+    }
+
+    /**
+     * Returns the number of scheduled keys.
+     *
+     * @return the number of entries in the wheel.
+     */
+    synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Moves the entries of the slot that the current tick has reached on the given level one level down,
+     * continuing upwards whenever that slot is also the first of its level.
+     */
+    private void cascade(int level) {
+        for (; level < LEVELS; level++) {
+            int slot = (int) ((currentTick >>> (SLOT_BITS * level)) & MASK);
+            Set<Entry<K>> bucket = levels.get(level).get(slot);
+            if (!bucket.isEmpty()) {
+                List<Entry<K>> moved = new ArrayList<>(bucket);
+                bucket.clear();
+                moved.forEach(this::place);
+            }
+            if (slot != 0) return;
+        }
+    }
+
+    private void place(Entry<K> entry) {
+        long delta = entry.deadlineTick - currentTick;
+        if (delta < 0) {
+            entry.bucket = levels.get(0).get((int) (currentTick & MASK));
+            entry.bucket.add(entry);
+            return;
+        }
+
+        // Deadlines beyond the top level are parked in its furthest slot and re-placed on cascade.
+        long tick = delta > MAX_DELTA ? currentTick + MAX_DELTA : entry.deadlineTick;
+        long span = Math.min(delta, MAX_DELTA);
+
+        int level = 0;
+        while (level < LEVELS - 1 && span >= 1L << (SLOT_BITS * (level + 1))) {
+            level++;
+        }
+        entry.bucket = levels.get(level).get((int) ((tick >>> (SLOT_BITS * level)) & MASK));
+        entry.bucket.add(entry);
+    }
+
+    private static final class Entry<K> {
+        private final K key;
+        private long deadlineTick;
+        private Set<Entry<K>> bucket;
+
+        private Entry(K key) {
+            this.key = key;
+        }
+    }
+}
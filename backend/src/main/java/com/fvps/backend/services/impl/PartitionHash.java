@@ -0,0 +1,39 @@
+package com.fvps.backend.services.impl;
+
+import java.util.UUID;
+
+/**
+ * Maps work keys to partitions, identically in Java and in SQL.
+ * <p>
+ * The partition is the low 32 bits of the UUID (its last eight hex digits) modulo the partition count.
+ * Random UUIDs are uniform in those bits, and the same value can be computed by Postgres, so a node can load
+ * exactly the rows of its partitions with one query.
+ * </p>
+ */
+final class PartitionHash {
+
+    private PartitionHash() {
+    }
+
+    /**
+     * Returns the partition of a key.
+     *
+     * @param key        the work key.
+     * @param partitions the partition count.
+     * @return the partition number.
+     */
+    static int of(UUID key, int partitions) {
+        return (int) ((key.getLeastSignificantBits() & 0xFFFFFFFFL) % partitions);
+    }
+
+    /**
+     * Returns a SQL expression computing {@link #of(UUID, int)} for a uuid column.
+     *
+     * @param column     the uuid column (trusted, never user input).
+     * @param partitions the partition count.
+     * @return the SQL expression.
+     */
+    static String sql(String column, int partitions) {
+        return "mod(('x' || right(" + column + "::text, 8))::bit(32)::bigint, " + partitions + ")";
+    }
+}
@@ -0,0 +1,374 @@
+package com.fvps.backend.services.impl;
+
+import com.fvps.backend.domain.dto.training.UserTrainingDto;
+import com.fvps.backend.domain.dto.user.PassBatchRequest;
+import com.fvps.backend.domain.entities.User;
+import com.fvps.backend.domain.enums.PassBatchFormat;
+import com.fvps.backend.domain.enums.UserStatus;
+import com.fvps.backend.repositories.UserRepository;
+import com.fvps.backend.services.PassBatchService;
+import com.fvps.backend.services.PdfGeneratorService;
+import com.fvps.backend.services.TrainingProgressService;
+import com.fvps.backend.services.UserClearanceService;
+import com.lowagie.text.Document;
+import com.lowagie.text.DocumentException;
+import com.lowagie.text.PageSize;
+import com.lowagie.text.Paragraph;
+import com.lowagie.text.pdf.PdfCopy;
+import com.lowagie.text.pdf.PdfReader;
+import com.lowagie.text.pdf.PdfWriter;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+@Slf4j
+@Service
+public class PassBatchServiceImpl implements PassBatchService {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final UserRepository userRepository;
+    private final TrainingProgressService trainingProgressService;
+    private final UserClearanceService userClearanceService;
+    private final PdfGeneratorService pdfGeneratorService;
+    private final TransactionTemplate transaction;
+    private final Clock clock;
+    private final int renderThreads;
+    private final int window;
+    private final int maxSize;
+
+    private ExecutorService renderers;
+
+    public PassBatchServiceImpl(
+            JdbcTemplate jdbcTemplate,
+            UserRepository userRepository,
+            TrainingProgressService trainingProgressService,
+            UserClearanceService userClearanceService,
+            PdfGeneratorService pdfGeneratorService,
+            PlatformTransactionManager transactionManager,
+            Clock clock,
+            @Value("${app.pass.batch.threads:0}") int renderThreads,
+            @Value("${app.pass.batch.window:0}") int window,
+            @Value("${app.pass.batch.max-size:10000}") int maxSize
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.userRepository = userRepository;
+        this.trainingProgressService = trainingProgressService;
+        this.userClearanceService = userClearanceService;
+        this.pdfGeneratorService = pdfGeneratorService;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.clock = clock;
+        this.renderThreads = renderThreads > 0 ? renderThreads : Runtime.getRuntime().availableProcessors();
+        this.window = window > 0 ? window : 2 * this.renderThreads;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Starts the render pool, shared by all batches.
+     */
+    @PostConstruct
+    void start() {
+        renderers = Executors.newFixedThreadPool(renderThreads, Thread.ofPlatform().name("pass-render-", 1).daemon(true).factory());
+    }
+
+    @PreDestroy
+    void stop() {
+        renderers.shutdownNow();
+        try {
+            renderers.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * <b>Implementation Note:</b>
+     * Explicit IDs are returned whether or not the users are eligible, so the output lists why a pass is missing.
+     * A company selects only its active users. Either way the passes are ordered by company, surname and name.
+     * </p>
+     */
+    @Override
+    public List<UUID> resolveUsers(PassBatchRequest request) {
+        boolean hasUserIds = request.getUserIds() != null && !request.getUserIds().isEmpty();
+        boolean hasCompany = request.getCompanyName() != null && !request.getCompanyName().isBlank();
+        if (!hasUserIds && !hasCompany) {
+            throw new IllegalArgumentException("At least one user criterion (userIds, companyName) is required.");
+        }
+
+        StringBuilder sql = new StringBuilder("SELECT id FROM users WHERE true");
+        if (hasUserIds) sql.append(" AND id = ANY(?)");
+        if (hasCompany) sql.append(" AND company_name = ? AND status = 'ACTIVE'");
+        sql.append(" ORDER BY company_name, surname, name, id LIMIT ?");
+
+        List<UUID> userIds = jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(sql.toString());
+            int index = 1;
+            if (hasUserIds) ps.setArray(index++, con.createArrayOf("uuid", request.getUserIds().toArray()));
+            if (hasCompany) ps.setString(index++, request.getCompanyName());
+            ps.setInt(index, maxSize + 1);
+            return ps;
+        }, (rs, rowNum) -> rs.getObject(1, UUID.class));
+
+        if (userIds.size() > maxSize) {
+            throw new IllegalArgumentException("At most " + maxSize + " passes can be generated in one batch.");
+        }
+        return userIds;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * <b>Implementation Note:</b>
+     * <ul>
+     * <li><b>Parallel:</b> Loading and rendering run on a pool of {@code app.pass.batch.threads} threads (default:
+     * one per CPU) shared by all batches. The output is written on the calling thread, in order.</li>
+     * <li><b>Back-pressure:</b> At most {@code app.pass.batch.window} passes (default: twice the pool size) are
+     * rendered ahead of the writer. When the client reads slowly, writing blocks and no further passes are
+     * started, so memory use depends on the window, not on the size of the batch.</li>
+     * <li><b>Streaming:</b> ZIP entries are stored without recompression (PDFs are already compressed). The merged
+     * PDF copies the pages of each pass and releases its reader right away.</li>
+     * <li><b>Consistency:</b> All passes of a batch carry the same "generated on" stamp.</li>
+     * </ul>
+     * </p>
+     */
+    @Override
+    public int writePasses(List<UUID> userIds, PassBatchFormat format, OutputStream out) throws IOException {
+        LocalDateTime generatedOn = LocalDateTime.now(clock).truncatedTo(ChronoUnit.MINUTES);
+        PassSink sink = format == PassBatchFormat.ZIP ? new ZipSink(out) : new MergedPdfSink(out);
+
+        Deque<Future<RenderedPass>> inFlight = new ArrayDeque<>(window);
+        Iterator<UUID> pending = userIds.iterator();
+        List<RenderedPass> skipped = new ArrayList<>();
+        int written = 0;
+        try {
+            while (pending.hasNext() || !inFlight.isEmpty()) {
+                while (inFlight.size() < window && pending.hasNext()) {
+                    UUID userId = pending.next();
+                    inFlight.addLast(renderers.submit(() -> render(userId, generatedOn)));
+                }
+
+                RenderedPass pass = await(inFlight.removeFirst());
+                if (pass.pdf() == null) {
+                    skipped.add(pass);
+                } else {
+                    sink.add(pass);
+                    written++;
+                }
+            }
+            sink.finish(skipped);
+        } finally {
+            inFlight.forEach(future -> future.cancel(true));
+        }
+
+        log.info("Pass batch written as {}: {} passes, {} skipped.", format, written, skipped.size());
+        return written;
+    }
+
+    private RenderedPass render(UUID userId, LocalDateTime generatedOn) {
+        try {
+            PassData data = transaction.execute(status -> {
+                User user = userRepository.findById(userId).orElse(null);
+                if (user == null || user.getStatus() != UserStatus.ACTIVE) return null;
+
+                // Recalculates only if the stored level reached its next expiry
+                userClearanceService.getCurrentClearanceLevel(user);
+                return new PassData(user, trainingProgressService.getValidTrainingsForUser(userId));
+            });
+
+            if (data == null) {
+                return RenderedPass.skipped(userId, "user not found or not active");
+            }
+            if (data.validTrainings().isEmpty()) {
+                return RenderedPass.skipped(userId, "no valid, completed trainings");
+            }
+
+            byte[] pdf = pdfGeneratorService.generatePassPdf(data.user(), data.validTrainings(), generatedOn);
+            return new RenderedPass(userId, fileName(data.user()), pdf, null);
+        } catch (Exception e) {
+            log.warn("Rendering the pass of user {} failed.", userId, e);
+            return RenderedPass.skipped(userId, "rendering failed");
+        }
+    }
+
+    private static RenderedPass await(Future<RenderedPass> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Pass batch interrupted");
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Pass rendering failed", e.getCause());
+        }
+    }
+
+    private static String fileName(User user) {
+        String name = (user.getSurname() + "_" + user.getName()).replaceAll("[^\\p{L}\\p{N}._-]+", "_");
+        return name + "_" + user.getId() + ".pdf";
+    }
+
+    private static String skippedReport(List<RenderedPass> skipped) {
+        StringBuilder report = new StringBuilder();
+        for (RenderedPass pass : skipped) {
+            report.append(pass.userId()).append(": ").append(pass.skipReason()).append('\n');
+        }
+        return report.toString();
+    }
+
+    private record PassData(User user, List<UserTrainingDto> validTrainings) {
+    }
+
+    private record RenderedPass(UUID userId, String fileName, byte[] pdf, String skipReason) {
+
+        static RenderedPass skipped(UUID userId, String reason) {
+            return new RenderedPass(userId, null, null, reason);
+        }
+    }
+
+    /**
+     * Destination of the rendered passes of one batch.
+     */
+    private interface PassSink {
+
+        void add(RenderedPass pass) throws IOException;
+
+        void finish(List<RenderedPass> skipped) throws IOException;
+    }
+
+    /**
+     * Writes every pass as a stored (uncompressed) ZIP entry.
+     */
+    private static final class ZipSink implements PassSink {
+
+        private final ZipOutputStream zip;
+
+        private ZipSink(OutputStream out) {
+            this.zip = new ZipOutputStream(out);
+        }
+
+        @Override
+        public void add(RenderedPass pass) throws IOException {
+            writeStored(pass.fileName(), pass.pdf());
+        }
+
+        @Override
+        public void finish(List<RenderedPass> skipped) throws IOException {
+            if (!skipped.isEmpty()) {
+                writeStored("skipped.txt", skippedReport(skipped).getBytes(StandardCharsets.UTF_8));
+            }
+            zip.finish();
+            zip.flush();
+        }
+
+        private void writeStored(String name, byte[] content) throws IOException {
+            CRC32 crc = new CRC32();
+            crc.update(content);
+
+            ZipEntry entry = new ZipEntry(name);
+            entry.setMethod(ZipEntry.STORED);
+            entry.setSize(content.length);
+            entry.setCompressedSize(content.length);
+            entry.setCrc(crc.getValue());
+
+            zip.putNextEntry(entry);
+            zip.write(content);
+            zip.closeEntry();
+        }
+    }
+
+    /**
+     * Appends the pages of every pass to one PDF document.
+     */
+    private static final class MergedPdfSink implements PassSink {
+
+        private final OutputStream out;
+        private final Document document = new Document(PageSize.A4);
+        private final PdfCopy copy;
+
+        private MergedPdfSink(OutputStream out) throws IOException {
+            this.out = out;
+            try {
+                this.copy = new PdfCopy(document, out);
+            } catch (DocumentException e) {
+                throw new IOException("Could not start merged PDF", e);
+            }
+            copy.setCloseStream(false);
+            document.open();
+        }
+
+        @Override
+        public void add(RenderedPass pass) throws IOException {
+            append(pass.pdf());
+        }
+
+        @Override
+        public void finish(List<RenderedPass> skipped) throws IOException {
+            // A PDF needs at least one page; the summary page also covers a batch without any eligible user.
+            if (!skipped.isEmpty() || copy.getCurrentPageNumber() == 1) {
+                append(summaryPage(skipped));
+            }
+            document.close();
+            out.flush();
+        }
+
+        private void append(byte[] pdf) throws IOException {
+            PdfReader reader = new PdfReader(pdf);
+            try {
+                for (int page = 1; page <= reader.getNumberOfPages(); page++) {
+                    copy.addPage(copy.getImportedPage(reader, page));
+                }
+                copy.freeReader(reader);
+            } catch (DocumentException e) {
+                throw new IOException("Could not append pass to merged PDF", e);
+            } finally {
+                reader.close();
+            }
+        }
+
+        private static byte[] summaryPage(List<RenderedPass> skipped) throws IOException {
+            ByteArrayOutputStream summary = new ByteArrayOutputStream();
+            Document page = new Document(PageSize.A4);
+            try {
+                PdfWriter.getInstance(page, summary);
+                page.open();
+                page.add(new Paragraph(skipped.isEmpty()
+                        ? "No passes were generated."
+                        : "No pass was generated for the following users:"));
+                page.add(new Paragraph(skippedReport(skipped)));
+                page.close();
+            } catch (DocumentException e) {
+                throw new IOException("Could not render summary page", e);
+            }
+            return summary.toByteArray();
+        }
+    }
+}
@@ -0,0 +1,228 @@
+package com.fvps.backend.services.impl;
+
+import com.fvps.backend.domain.dto.training.UserTrainingDto;
+import com.fvps.backend.domain.dto.user.PassDocument;
+import com.fvps.backend.domain.entities.User;
+import com.fvps.backend.services.PassCacheService;
+import com.fvps.backend.services.PdfGeneratorService;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.stream.Stream;
+
+@Slf4j
+@Service
+public class PassCacheServiceImpl implements PassCacheService {
+
+    private static final String SUFFIX = ".pdf";
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final DateTimeFormatter DATE = DateTimeFormatter.ISO_LOCAL_DATE;
+
+    private final PdfGeneratorService pdfGeneratorService;
+    private final Locale defaultLocale;
+    private final Clock clock;
+    private final Path directory;
+    private final long maxBytes;
+    private final long stampResolutionMinutes;
+
+    /**
+     * Cached fingerprints with their file size, least recently used first. Guarded by {@code this}.
+     */
+    private final LinkedHashMap<String, Long> index = new LinkedHashMap<>(256, 0.75f, true);
+    private long totalBytes;
+
+    public PassCacheServiceImpl(
+            PdfGeneratorService pdfGeneratorService,
+            Locale defaultLocale,
+            Clock clock,
+            @Value("${app.pass.cache.dir:${java.io.tmpdir}/fvps-pass-cache}") String directory,
+            @Value("${app.pass.cache.max-bytes:268435456}") long maxBytes,
+            @Value("${app.pass.cache.stamp-resolution-minutes:60}") long stampResolutionMinutes
+    ) {
+        this.pdfGeneratorService = pdfGeneratorService;
+        this.defaultLocale = defaultLocale;
+        this.clock = clock;
+        this.directory = Paths.get(directory);
+        this.maxBytes = maxBytes;
+        this.stampResolutionMinutes = Math.max(1, stampResolutionMinutes);
+    }
+
+    /**
+     * Rebuilds the LRU index from the files left by a previous run, oldest first.
+     */
+    @PostConstruct
+    void init() throws IOException {
+        Files.createDirectories(directory);
+
+        List<Path> files = new ArrayList<>();
+        try (Stream<Path> stream = Files.list(directory)) {
+            stream.forEach(files::add);
+        }
+        files.sort(Comparator.comparing(PassCacheServiceImpl::lastModified));
+
+        synchronized (this) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                if (name.endsWith(SUFFIX)) {
+                    long size = Files.size(file);
+                    index.put(name.substring(0, name.length() - SUFFIX.length()), size);
+                    totalBytes += size;
+                } else if (name.endsWith(TEMP_SUFFIX)) {
+                    Files.deleteIfExists(file);
+                }
+            }
+            evict();
+        }
+        log.info("Pass cache at {} holds {} documents ({} bytes).", directory, index.size(), totalBytes);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * <b>Implementation Note:</b>
+     * <ul>
+     * <li><b>Fingerprint:</b> SHA-256 over the template version, locale, user id and version, clearance level,
+     * photo, the printed training rows and the "generated on" stamp. The stamp is truncated to
+     * {@code app.pass.cache.stamp-resolution-minutes}, so it is the only thing that ends a run of cache hits.</li>
+     * <li><b>Storage:</b> Documents are files named after their fingerprint, written atomically. The cache is bounded
+     * by {@code app.pass.cache.max-bytes}; the least recently served documents are evicted first.</li>
+     * <li><b>Consistency:</b> If two requests render the same pass concurrently, the first document stored wins and
+     * both callers get it, so one tag always maps to the same bytes while cached.</li>
+     * <li><b>Weak tag:</b> The tag identifies what is printed, not the bytes: another instance (or this one after
+     * an eviction) renders the same pass with a different creation date and document id. The tag is therefore sent
+     * as a weak validator ({@code W/"..."}), which is all that {@code If-None-Match} revalidation needs.</li>
+     * </ul>
+     * </p>
+     */
+    @Override
+    public PassDocument getPass(User user, List<UserTrainingDto> validTrainings) {
+        LocalDateTime generatedOn = stamp();
+        String key = fingerprint(user, validTrainings, generatedOn);
+
+        byte[] cached = read(key);
+        if (cached == null) {
+            cached = store(key, pdfGeneratorService.generatePassPdf(user, validTrainings, generatedOn));
+        }
+        return new PassDocument(cached, "W/\"" + key + "\"");
+    }
+
+    private LocalDateTime stamp() {
+        LocalDateTime now = LocalDateTime.now(clock).truncatedTo(ChronoUnit.MINUTES);
+        long minuteOfDay = now.getHour() * 60L + now.getMinute();
+        return now.minusMinutes(minuteOfDay % stampResolutionMinutes);
+    }
+
+    private String fingerprint(User user, List<UserTrainingDto> validTrainings, LocalDateTime generatedOn) {
+        StringBuilder state = new StringBuilder(256)
+                .append("template=").append(pdfGeneratorService.getTemplateVersion())
+                .append("|locale=").append(defaultLocale.toLanguageTag())
+                .append("|user=").append(user.getId()).append(':').append(user.getVersion())
+                .append("|level=").append(user.getClearanceLevel())
+                .append("|photo=").append(user.getPhotoUrl())
+                .append("|stamp=").append(generatedOn);
+        for (UserTrainingDto training : validTrainings) {
+            state.append("|training=").append(training.getTraining().getId())
+                    .append(':').append(training.getTraining().getTitle())
+                    .append(':').append(training.getValidUntil().format(DATE));
+        }
+
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(state.toString().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private byte[] read(String key) {
+        synchronized (this) {
+            if (index.get(key) == null) return null;
+        }
+        try {
+            return Files.readAllBytes(fileOf(key));
+        } catch (NoSuchFileException e) {
+            forget(key);
+            return null;
+        } catch (IOException e) {
+            log.warn("Could not read cached pass {}; rendering it again.", key, e);
+            forget(key);
+            return null;
+        }
+    }
+
+    private byte[] store(String key, byte[] pdf) {
+        // Another request may have stored the same pass while this one was rendering.
+        byte[] existing = read(key);
+        if (existing != null) return existing;
+
+        Path temp = directory.resolve(key + "." + UUID.randomUUID() + TEMP_SUFFIX);
+        try {
+            Files.write(temp, pdf);
+            Files.move(temp, fileOf(key), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            log.warn("Could not cache pass {}; serving it uncached.", key, e);
+            try {
+                Files.deleteIfExists(temp);
+            } catch (IOException ignored) {
+                // best effort
+            }
+            return pdf;
+        }
+
+        synchronized (this) {
+            Long previous = index.put(key, (long) pdf.length);
+            totalBytes += pdf.length - (previous != null ? previous : 0);
+            evict();
+        }
+        return pdf;
+    }
+
+    private synchronized void forget(String key) {
+        Long size = index.remove(key);
+        if (size != null) totalBytes -= size;
+    }
+
+    /**
+     * Removes the least recently used documents until the cache fits its budget. Called while holding {@code this}.
+     */
+    private void evict() {
+        Iterator<Map.Entry<String, Long>> eldest = index.entrySet().iterator();
+        while (totalBytes > maxBytes && eldest.hasNext()) {
+            Map.Entry<String, Long> entry = eldest.next();
+            try {
+                Files.deleteIfExists(fileOf(entry.getKey()));
+            } catch (IOException e) {
+                // Dropped from the index anyway; a file left behind is picked up again on the next start.
+                log.warn("Could not delete cached pass {}.", entry.getKey(), e);
+            }
+            totalBytes -= entry.getValue();
+            eldest.remove();
+        }
+    }
+
+    private Path fileOf(String key) {
+        return directory.resolve(key + SUFFIX);
+    }
+
+    private static FileTime lastModified(Path file) {
+        try {
+            return Files.readAttributes(file, BasicFileAttributes.class).lastModifiedTime();
+        } catch (IOException e) {
+            return FileTime.fromMillis(0);
+        }
+    }
+}
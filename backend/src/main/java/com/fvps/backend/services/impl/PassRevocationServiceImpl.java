@@ -0,0 +1,108 @@
+package com.fvps.backend.services.impl;
+
+import com.fvps.backend.domain.dto.verification.RevocationFeedDto;
+import com.fvps.backend.domain.entities.PassRevocation;
+import com.fvps.backend.repositories.PassRevocationRepository;
+import com.fvps.backend.services.PassRevocationService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@Slf4j
+@Service
+public class PassRevocationServiceImpl implements PassRevocationService {
+
+    private static final int MAX_FEED_LIMIT = 5000;
+
+    private final PassRevocationRepository revocationRepository;
+    private final Clock clock;
+    private final Duration settle;
+    private final int retentionDays;
+
+    public PassRevocationServiceImpl(
+            PassRevocationRepository revocationRepository,
+            Clock clock,
+            @Value("${app.pass.revocations.settle-ms:30000}") long settleMillis,
+            @Value("${app.pass.token.max-ttl-days:30}") int maxTtlDays
+    ) {
+        this.revocationRepository = revocationRepository;
+        this.clock = clock;
+        this.settle = Duration.ofMillis(settleMillis);
+        // Every token issued before this horizon has expired, so older revocations no longer matter.
+        this.retentionDays = maxTtlDays + 1;
+    }
+
+    @Override
+    @Transactional
+    public void revoke(UUID userId, String reason) {
+        revocationRepository.save(PassRevocation.builder()
+                .userId(userId)
+                .revokedAt(LocalDateTime.now(clock))
+                .reason(reason)
+                .build());
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * <b>Implementation Note:</b>
+     * <ul>
+     * <li><b>Settling:</b> Sequence numbers are assigned at insert, but rows become visible at commit, so a lower
+     * number can appear after a higher one was read. {@code nextSince} therefore only moves past entries older
+     * than {@code app.pass.revocations.settle-ms}; newer ones are returned again on the next poll.</li>
+     * <li><b>Retention:</b> Entries are kept one day longer than the maximum token lifetime
+     * ({@code app.pass.token.max-ttl-days}); older ones cannot affect any valid token.</li>
+     * </ul>
+     * </p>
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public RevocationFeedDto getFeed(long since, int limit) {
+        int size = Math.clamp(limit, 1, MAX_FEED_LIMIT);
+        List<PassRevocation> rows = revocationRepository.findBySequenceGreaterThanOrderBySequenceAsc(since, Limit.of(size));
+
+        LocalDateTime settledBefore = LocalDateTime.now(clock).minus(settle);
+        List<RevocationFeedDto.Entry> entries = new ArrayList<>(rows.size());
+        long nextSince = since;
+        boolean settled = true;
+        for (PassRevocation row : rows) {
+            entries.add(RevocationFeedDto.Entry.builder()
+                    .sequence(row.getSequence())
+                    .userId(row.getUserId())
+                    .revokedAt(row.getRevokedAt().atZone(clock.getZone()).toEpochSecond())
+                    .build());
+            settled &= row.getRevokedAt().isBefore(settledBefore);
+            if (settled) {
+                nextSince = row.getSequence();
+            }
+        }
+
+        return RevocationFeedDto.builder()
+                .revocations(entries)
+                .nextSince(nextSince)
+                .hasMore(rows.size() == size && settled)
+                .build();
+    }
+
+    /**
+     * Deletes revocations older than any token that can still be valid.
+     */
+    @Scheduled(cron = "${app.pass.revocations.purge-cron:0 45 3 * * *}")
+    @Transactional
+    public void purgeExpired() {
+        int deleted = revocationRepository.deleteRevokedBefore(LocalDateTime.now(clock).minusDays(retentionDays));
+        if (deleted > 0) {
+            log.info("Purged {} expired pass revocations.", deleted);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.fvps.backend.services.impl;
+
+import com.lowagie.text.Font;
+import com.lowagie.text.FontFactory;
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.springframework.context.MessageSource;
+
+import java.awt.Color;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+
+/**
+ * The user-independent part of the pass layout for one locale: fonts, colours, localized labels and formats.
+ * <p>
+ * Loaded once per locale and shared by every render, so a render only fills in the user's fields. Instances are
+ * never modified after loading and can be used by concurrent renders.
+ * </p>
+ * <p>
+ * OpenPDF elements (paragraphs, cells, tables) are mutable and bound to the document they are added to, so they
+ * are still created per render; only their immutable inputs live here.
+ * </p>
+ */
+@Getter
+final class PassTemplate {
+
+    static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    static final DateTimeFormatter DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
+    /**
+     * Relative widths of the photo and details columns.
+     */
+    static final float[] HEADER_WIDTHS = {1, 2};
+
+    private static final Color[] LEVEL_COLORS = {Color.BLACK, Color.GREEN, Color.YELLOW, Color.ORANGE, Color.RED};
+
+    private final Locale locale;
+
+    private final Font titleFont;
+    private final Font tableHeaderFont;
+    private final Font footerFont;
+    private final Font disclaimerFont;
+    @Getter(AccessLevel.NONE)
+    private final Font[] levelFonts;
+
+    private final String title;
+    private final String noPhoto;
+    private final String photoError;
+    private final String qrError;
+    private final String namePrefix;
+    private final String companyPrefix;
+    private final String phonePrefix;
+    private final String emailPrefix;
+    private final String internalEmployee;
+    private final String clearancePrefix;
+    private final String trainingColumn;
+    private final String validUntilColumn;
+    private final String footer;
+    private final String disclaimer;
+    private final String generatedOnPrefix;
+
+    private PassTemplate(MessageSource messageSource, Locale locale) {
+        this.locale = locale;
+
+        this.titleFont = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 18);
+        this.tableHeaderFont = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 12);
+        this.footerFont = FontFactory.getFont(FontFactory.HELVETICA, 10);
+        this.disclaimerFont = FontFactory.getFont(FontFactory.HELVETICA_OBLIQUE, 10, Color.GRAY);
+        this.levelFonts = new Font[LEVEL_COLORS.length];
+        for (int level = 0; level < LEVEL_COLORS.length; level++) {
+            levelFonts[level] = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 14, LEVEL_COLORS[level]);
+        }
+
+        this.title = message(messageSource, locale, "pdf.pass.title", "FACTORY VISITOR PASS");
+        this.noPhoto = message(messageSource, locale, "pdf.pass.no_photo", "[NO PHOTO]");
+        this.photoError = message(messageSource, locale, "pdf.pass.photo_error", "[PHOTO ERROR]");
+        this.qrError = message(messageSource, locale, "pdf.pass.qr_error", "[QR ERROR]");
+        this.namePrefix = message(messageSource, locale, "pdf.pass.label.name", "Name:") + " ";
+        this.companyPrefix = message(messageSource, locale, "pdf.pass.label.company", "Company:") + " ";
+        this.phonePrefix = message(messageSource, locale, "pdf.pass.label.phone", "Phone:") + " ";
+        this.emailPrefix = message(messageSource, locale, "pdf.pass.label.email", "Email:") + " ";
+        this.internalEmployee = message(messageSource, locale, "pdf.pass.label.internal_employee", "Internal Employee");
+        this.clearancePrefix = message(messageSource, locale, "pdf.pass.label.clearance_level", "SECURITY CLEARANCE: LEVEL") + " ";
+        this.trainingColumn = message(messageSource, locale, "pdf.pass.table.training", "Training Title");
+        this.validUntilColumn = message(messageSource, locale, "pdf.pass.table.valid_until", "Valid Until");
+        this.footer = message(messageSource, locale, "pdf.pass.footer.generated_by", "Document generated automatically by FVPS system.");
+        this.disclaimer = message(messageSource, locale, "pdf.pass.footer.disclaimer", "Disclaimer: Access rights are verified dynamically via QR Code.");
+        this.generatedOnPrefix = message(messageSource, locale, "pdf.pass.footer.generated_on", "Generated on:") + " ";
+    }
+
+    /**
+     * Loads the template of a locale.
+     *
+     * @param messageSource the source of the localized labels.
+     * @param locale        the locale of the labels.
+     * @return the loaded template.
+     */
+    static PassTemplate load(MessageSource messageSource, Locale locale) {
+        return new PassTemplate(messageSource, locale);
+    }
+
+    /**
+     * Returns the colour-coded font of a clearance level (Level 1=Green to Level 4=Red, black otherwise).
+     *
+     * @param level the clearance level.
+     * @return the font for the clearance line.
+     */
+    Font levelFont(int level) {
+        return level > 0 && level < levelFonts.length ? levelFonts[level] : levelFonts[0];
+    }
+
+    private static String message(MessageSource messageSource, Locale locale, String code, String defaultMessage) {
+        return messageSource.getMessage(code, null, defaultMessage, locale);
+    }
+}
@@ -0,0 +1,166 @@
+package com.fvps.backend.services.impl;
+
+import com.fvps.backend.domain.dto.training.UserTrainingDto;
+import com.fvps.backend.domain.dto.verification.PassTokenKeyDto;
+import com.fvps.backend.domain.entities.User;
+import com.fvps.backend.domain.enums.PassQrFormat;
+import com.fvps.backend.services.PassTokenService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.*;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+@Service
+public class PassTokenServiceImpl implements PassTokenService {
+
+    private static final String PREFIX = "FVPS1.";
+
+    private static final byte VERSION = 1;
+    private static final String ALGORITHM = "Ed25519";
+    private static final int SIGNATURE_LENGTH = 64;
+    private static final int MAX_KEY_ID_LENGTH = 32;
+
+    private final Clock clock;
+    private final PassQrFormat qrFormat;
+    private final byte[] keyId;
+    private final PrivateKey privateKey;
+    private final Duration maxTtl;
+    private final List<PassTokenKeyDto> verificationKeys;
+
+    public PassTokenServiceImpl(
+            Clock clock,
+            @Value("${app.pass.qr.format:UUID}") PassQrFormat qrFormat,
+            @Value("${app.pass.token.key-id:default}") String keyId,
+            @Value("${app.pass.token.private-key:}") String privateKey,
+            @Value("${app.pass.token.public-key:}") String publicKey,
+            @Value("${app.pass.token.retired-public-keys:}") List<String> retiredPublicKeys,
+            @Value("${app.pass.token.max-ttl-days:30}") int maxTtlDays
+    ) {
+        this.clock = clock;
+        this.qrFormat = qrFormat;
+        this.keyId = keyId.getBytes(StandardCharsets.UTF_8);
+        if (this.keyId.length == 0 || this.keyId.length > MAX_KEY_ID_LENGTH) {
+            throw new IllegalArgumentException("Pass token key ID must be 1 to " + MAX_KEY_ID_LENGTH + " bytes long.");
+        }
+        this.maxTtl = Duration.ofDays(maxTtlDays);
+
+        PublicKey currentPublicKey;
+        try {
+            KeyFactory keyFactory = KeyFactory.getInstance(ALGORITHM);
+            if (privateKey.isBlank() || publicKey.isBlank()) {
+                if (qrFormat == PassQrFormat.SIGNED_TOKEN) {
+                    throw new IllegalStateException("Signed pass tokens require a signing key "
+                            + "(app.pass.token.private-key and app.pass.token.public-key).");
+                }
+                // UUID passes carry no token, so a throwaway key is enough.
+                KeyPair pair = KeyPairGenerator.getInstance(ALGORITHM).generateKeyPair();
+                this.privateKey = pair.getPrivate();
+                currentPublicKey = pair.getPublic();
+            } else {
+                this.privateKey = keyFactory.generatePrivate(new PKCS8EncodedKeySpec(Base64.getDecoder().decode(privateKey.trim())));
+                currentPublicKey = keyFactory.generatePublic(new X509EncodedKeySpec(Base64.getDecoder().decode(publicKey.trim())));
+            }
+
+            List<PassTokenKeyDto> keys = new ArrayList<>();
+            keys.add(toDto(keyId, currentPublicKey, true));
+            for (String retired : retiredPublicKeys) {
+                if (retired.isBlank()) continue;
+                int separator = retired.indexOf(':');
+                if (separator <= 0) {
+                    throw new IllegalArgumentException("Retired pass token keys must be given as <keyId>:<base64 public key>.");
+                }
+                PublicKey retiredKey = keyFactory.generatePublic(
+                        new X509EncodedKeySpec(Base64.getDecoder().decode(retired.substring(separator + 1).trim())));
+                keys.add(toDto(retired.substring(0, separator).trim(), retiredKey, false));
+            }
+            this.verificationKeys = Collections.unmodifiableList(keys);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Invalid pass token key configuration.", e);
+        }
+    }
+
+    @Override
+    public PassQrFormat getQrFormat() {
+        return qrFormat;
+    }
+
+    @Override
+    public String getQrContent(User user, List<UserTrainingDto> validTrainings) {
+        if (qrFormat == PassQrFormat.UUID) {
+            return user.getId().toString();
+        }
+        LocalDateTime expiresAt = validTrainings.stream()
+                .map(UserTrainingDto::getValidUntil)
+                .filter(Objects::nonNull)
+                .min(LocalDateTime::compareTo)
+                .orElseGet(() -> LocalDateTime.now(clock));
+        return issueToken(user, expiresAt);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * <b>Implementation Note:</b>
+     * <ul>
+     * <li><b>Compact:</b> A binary layout (see {@link PassTokenService}) keeps a token under 150 characters,
+     * which still fits a low-density QR code that scans quickly from a printed pass.</li>
+     * <li><b>Verification cost:</b> A handset checks one Ed25519 signature and two integer comparisons, which takes
+     * microseconds and needs no network.</li>
+     * </ul>
+     * </p>
+     */
+    @Override
+    public String issueToken(User user, LocalDateTime expiresAt) {
+        long issuedAt = clock.instant().getEpochSecond();
+        long expires = Math.min(expiresAt.atZone(clock.getZone()).toEpochSecond(), issuedAt + maxTtl.toSeconds());
+
+        UUID userId = user.getId();
+        ByteBuffer token = ByteBuffer.allocate(1 + 16 + 1 + 4 + 4 + 1 + keyId.length + SIGNATURE_LENGTH);
+        token.put(VERSION)
+                .putLong(userId.getMostSignificantBits())
+                .putLong(userId.getLeastSignificantBits())
+                .put((byte) user.getClearanceLevel())
+                .putInt((int) issuedAt)
+                .putInt((int) expires)
+                .put((byte) keyId.length)
+                .put(keyId);
+
+        try {
+            Signature signature = Signature.getInstance(ALGORITHM);
+            signature.initSign(privateKey);
+            signature.update(token.array(), 0, token.position());
+            token.put(signature.sign());
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Could not sign pass token.", e);
+        }
+
+        return PREFIX + Base64.getUrlEncoder().withoutPadding().encodeToString(token.array());
+    }
+
+    @Override
+    public List<PassTokenKeyDto> getVerificationKeys() {
+        return verificationKeys;
+    }
+
+    private static PassTokenKeyDto toDto(String keyId, PublicKey publicKey, boolean current) {
+        return PassTokenKeyDto.builder()
+                .keyId(keyId)
+                .algorithm(ALGORITHM)
+                .publicKey(Base64.getEncoder().encodeToString(publicKey.getEncoded()))
+                .current(current)
+                .build();
+    }
+}
@@ -0,0 +1,69 @@
+package com.fvps.backend.services.impl;
+
+import com.fvps.backend.domain.entities.BulkJob;
+import com.fvps.backend.domain.entities.Training;
+import com.fvps.backend.domain.enums.BulkJobType;
+import com.fvps.backend.repositories.TrainingRepository;
+import com.fvps.backend.services.BulkClearanceService;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Recomputes the expiry date of every active completion of a training from its current validity period.
+ * <p>
+ * The period is read when each chunk runs, so a job that overlaps a second change of the period ends up
+ * applying the latest value.
+ * </p>
+ */
+@Component
+class RecalculateValidityJobHandler extends TrainingStatusJobHandler {
+
+    private static final String RECALCULATE_SQL =
+            "UPDATE user_training_status SET valid_until = completed_at + make_interval(days => ?) "
+                    + "WHERE status = 'COMPLETED' AND completed_at IS NOT NULL AND is_pass_revoked = false "
+                    + "AND id = ANY(?) RETURNING user_id";
+
+    private final TrainingRepository trainingRepository;
+    private final BulkClearanceService bulkClearanceService;
+
+    RecalculateValidityJobHandler(JdbcTemplate jdbcTemplate,
+                                  TrainingRepository trainingRepository,
+                                  BulkClearanceService bulkClearanceService) {
+        super(jdbcTemplate);
+        this.trainingRepository = trainingRepository;
+        this.bulkClearanceService = bulkClearanceService;
+    }
+
+    @Override
+    public BulkJobType getType() {
+        return BulkJobType.RECALCULATE_VALIDITY;
+    }
+
+    @Override
+    public String getAuditAction() {
+        return "TRAINING_VALIDITY_RECALCULATED";
+    }
+
+    @Override
+    protected UUID trainingIdOf(BulkJob job) {
+        return job.getTargetId();
+    }
+
+    @Override
+    public Chunk processChunk(BulkJob job, int chunkSize) {
+        Training training = trainingRepository.findById(job.getTargetId()).orElse(null);
+        if (training == null) return Chunk.EMPTY;
+
+        List<UUID> ids = nextIds(training.getId(), job, chunkSize);
+        if (ids.isEmpty()) return Chunk.EMPTY;
+
+        List<UUID> updatedUserIds = updateByIds(RECALCULATE_SQL, ids,
+                (rs, rowNum) -> rs.getObject(1, UUID.class), training.getValidityPeriodDays());
+
+        bulkClearanceService.recalculate(updatedUserIds);
+        return chunkOf(ids, updatedUserIds.size());
+    }
+}
@@ -0,0 +1,90 @@
+package com.fvps.backend.services.impl;
+
+import com.fvps.backend.domain.entities.BulkJob;
+import com.fvps.backend.domain.entities.TrainingModule;
+import com.fvps.backend.domain.enums.BulkJobType;
+import com.fvps.backend.repositories.TrainingModuleRepository;
+import com.fvps.backend.services.BulkClearanceService;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Sends users who completed a module (or moved past it) back to that module.
+ * <p>
+ * Users who have not reached the module yet are left untouched. Only users who had completed the whole
+ * training lose clearance; everybody who is moved back is notified.
+ * </p>
+ */
+@Component
+class ResetModuleProgressJobHandler extends TrainingStatusJobHandler {
+
+    private static final String RESET_FROM_MODULE_SQL =
+            "WITH target AS ("
+                    + " SELECT s.id, s.user_id, s.status = 'COMPLETED' AS was_completed"
+                    + " FROM user_training_status s LEFT JOIN training_modules m ON m.id = s.current_module_id"
+                    + " WHERE (s.status = 'COMPLETED' OR m.order_index > ?) AND s.id = ANY(?)"
+                    + " FOR UPDATE OF s) "
+                    + "UPDATE user_training_status s SET status = 'IN_PROGRESS', current_module_id = ?, quiz_score = NULL, "
+                    + "completed_at = NULL, valid_until = NULL "
+                    + "FROM target WHERE s.id = target.id RETURNING target.user_id, target.was_completed";
+
+    private final TrainingModuleRepository moduleRepository;
+    private final BulkClearanceService bulkClearanceService;
+
+    ResetModuleProgressJobHandler(JdbcTemplate jdbcTemplate,
+                                  TrainingModuleRepository moduleRepository,
+                                  BulkClearanceService bulkClearanceService) {
+        super(jdbcTemplate);
+        this.moduleRepository = moduleRepository;
+        this.bulkClearanceService = bulkClearanceService;
+    }
+
+    @Override
+    public BulkJobType getType() {
+        return BulkJobType.RESET_MODULE_PROGRESS;
+    }
+
+    @Override
+    public String getAuditAction() {
+        return "TRAINING_PROGRESS_REVOKED";
+    }
+
+    @Override
+    protected UUID trainingIdOf(BulkJob job) {
+        return moduleRepository.findById(job.getTargetId())
+                .map(module -> module.getTraining().getId())
+                .orElse(null);
+    }
+
+    @Override
+    public Chunk processChunk(BulkJob job, int chunkSize) {
+        TrainingModule module = moduleRepository.findById(job.getTargetId()).orElse(null);
+        if (module == null) return Chunk.EMPTY;
+
+        List<UUID> ids = nextIds(module.getTraining().getId(), job, chunkSize);
+        if (ids.isEmpty()) return Chunk.EMPTY;
+
+        List<UUID> movedBack = new ArrayList<>();
+        List<UUID> lostCompletion = new ArrayList<>();
+        jdbcTemplate.query(con -> {
+            var ps = con.prepareStatement(RESET_FROM_MODULE_SQL);
+            ps.setInt(1, module.getOrderIndex());
+            ps.setArray(2, con.createArrayOf("uuid", ids.toArray()));
+            ps.setObject(3, module.getId());
+            return ps;
+        }, rs -> {
+            UUID userId = rs.getObject(1, UUID.class);
+            movedBack.add(userId);
+            if (rs.getBoolean(2)) lostCompletion.add(userId);
+        });
+
+        bulkClearanceService.recalculate(lostCompletion);
+        bulkClearanceService.notifyUsers(movedBack,
+                "Content update in " + module.getTraining().getTitle() + ". Retake module: " + module.getTitle());
+        return chunkOf(ids, movedBack.size());
+    }
+}
@@ -0,0 +1,75 @@
+package com.fvps.backend.services.impl;
+
+import com.fvps.backend.domain.entities.BulkJob;
+import com.fvps.backend.domain.entities.Training;
+import com.fvps.backend.domain.entities.TrainingModule;
+import com.fvps.backend.domain.enums.BulkJobType;
+import com.fvps.backend.repositories.TrainingModuleRepository;
+import com.fvps.backend.repositories.TrainingRepository;
+import com.fvps.backend.services.BulkClearanceService;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Sends every user who completed a training back to its first module.
+ */
+@Component
+class ResetTrainingProgressJobHandler extends TrainingStatusJobHandler {
+
+    private static final String RESET_COMPLETED_SQL =
+            "UPDATE user_training_status SET status = 'IN_PROGRESS', current_module_id = ?, quiz_score = NULL, "
+                    + "completed_at = NULL, valid_until = NULL, is_pass_revoked = false "
+                    + "WHERE id = ANY(?) AND status = 'COMPLETED' RETURNING user_id";
+
+    private final TrainingRepository trainingRepository;
+    private final TrainingModuleRepository moduleRepository;
+    private final BulkClearanceService bulkClearanceService;
+
+    ResetTrainingProgressJobHandler(JdbcTemplate jdbcTemplate,
+                                    TrainingRepository trainingRepository,
+                                    TrainingModuleRepository moduleRepository,
+                                    BulkClearanceService bulkClearanceService) {
+        super(jdbcTemplate);
+        this.trainingRepository = trainingRepository;
+        this.moduleRepository = moduleRepository;
+        this.bulkClearanceService = bulkClearanceService;
+    }
+
+    @Override
+    public BulkJobType getType() {
+        return BulkJobType.RESET_TRAINING_PROGRESS;
+    }
+
+    @Override
+    public String getAuditAction() {
+        return "TRAINING_COMPLETION_RESET";
+    }
+
+    @Override
+    protected UUID trainingIdOf(BulkJob job) {
+        return job.getTargetId();
+    }
+
+    @Override
+    public Chunk processChunk(BulkJob job, int chunkSize) {
+        Training training = trainingRepository.findById(job.getTargetId()).orElse(null);
+        if (training == null) return Chunk.EMPTY;
+
+        TrainingModule firstModule = moduleRepository.findFirstByTrainingIdOrderByOrderIndexAsc(training.getId()).orElse(null);
+        if (firstModule == null) return Chunk.EMPTY;
+
+        List<UUID> ids = nextIds(training.getId(), job, chunkSize);
+        if (ids.isEmpty()) return Chunk.EMPTY;
+
+        List<UUID> resetUserIds = updateByIds(RESET_COMPLETED_SQL, ids,
+                (rs, rowNum) -> rs.getObject(1, UUID.class), firstModule.getId());
+
+        bulkClearanceService.recalculate(resetUserIds);
+        bulkClearanceService.notifyUsers(resetUserIds,
+                "Major update in training: " + training.getTitle() + ". Re-completion required.");
+        return chunkOf(ids, resetUserIds.size());
+    }
+}
@@ -0,0 +1,88 @@
+package com.fvps.backend.services.impl;
+
+import com.fvps.backend.domain.entities.Training;
+import com.fvps.backend.domain.model.SecurityLevelIndex;
+import com.fvps.backend.events.TrainingDefinitionChangedEvent;
+import com.fvps.backend.repositories.TrainingRepository;
+import com.fvps.backend.services.SecurityLevelIndexService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+@Service
+@RequiredArgsConstructor
+public class SecurityLevelIndexServiceImpl implements SecurityLevelIndexService {
+
+    private final TrainingRepository trainingRepository;
+
+    private final AtomicReference<SecurityLevelIndex> current = new AtomicReference<>();
+    private final AtomicLong versionCounter = new AtomicLong();
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * <b>Implementation Note:</b> Reads are a single volatile load. Only the very first call
+     * (or a call racing with it) pays for the database query.
+     * </p>
+     */
+    @Override
+    public SecurityLevelIndex getIndex() {
+        SecurityLevelIndex index = current.get();
+        return index != null ? index : rebuild();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * <b>Implementation Note:</b> Synchronised so that two concurrent rebuilds cannot publish
+     * their results out of order. The new index is swapped in atomically, so readers always see
+     * either the old or the new version, never a partial one. Deliberately not transactional: the lock must
+     * cover the whole rebuild, and {@code findAll} already runs in a read-only transaction of its own.
+     * </p>
+     */
+    @Override
+    public synchronized SecurityLevelIndex rebuild() {
+        Map<UUID, Integer> levels = new LinkedHashMap<>();
+        for (Training training : trainingRepository.findAll()) {
+            levels.put(training.getId(), training.getSecurityLevel());
+        }
+        SecurityLevelIndex index = new SecurityLevelIndex(versionCounter.incrementAndGet(), levels);
+        current.set(index);
+        return index;
+    }
+
+    /**
+     * Rebuilds the index once a training definition change has been committed.
+     * <p>
+     * Runs before other listeners of the same event, so that caches derived from the index
+     * (e.g. clearance snapshots) are rebuilt against the new version.
+     * </p>
+     *
+     * @param event the published change.
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTrainingDefinitionChanged(TrainingDefinitionChangedEvent event) {
+        rebuild();
+    }
+
+    /**
+     * Periodically rebuilds the index to pick up changes made by other application instances.
+     */
+    @Scheduled(fixedDelayString = "${app.clearance.index-refresh-ms:60000}")
+    public void refreshPeriodically() {
+        if (current.get() != null) {
+            rebuild();
+        }
+    }
+}
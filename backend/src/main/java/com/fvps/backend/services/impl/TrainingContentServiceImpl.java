@@ -5,17 +5,22 @@ import com.fvps.backend.domain.entities.QuizQuestion;
 import com.fvps.backend.domain.entities.Training;
 import com.fvps.backend.domain.entities.TrainingModule;
 import com.fvps.backend.domain.entities.UserTrainingStatus;
+import com.fvps.backend.domain.enums.BulkJobType;
 import com.fvps.backend.domain.enums.ModuleType;
 import com.fvps.backend.domain.enums.ProgressStatus;
+import com.fvps.backend.events.TrainingContentChangedEvent;
+import com.fvps.backend.events.TrainingDefinitionChangedEvent;
 import com.fvps.backend.repositories.QuizQuestionRepository;
 import com.fvps.backend.repositories.TrainingModuleRepository;
 import com.fvps.backend.repositories.TrainingRepository;
 import com.fvps.backend.repositories.UserTrainingStatusRepository;
 import com.fvps.backend.services.AuditLogService;
+import com.fvps.backend.services.BulkJobService;
 import com.fvps.backend.services.TrainingContentService;
 import com.fvps.backend.services.TrainingProgressService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -35,6 +40,8 @@ public class TrainingContentServiceImpl implements TrainingContentService {
 
     private final AuditLogService auditLogService;
     private final TrainingProgressService progressService;
+    private final BulkJobService bulkJobService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Value("${app.training.default-passing-threshold}")
     private double defaultPassingThreshold;
@@ -47,6 +54,7 @@ public class TrainingContentServiceImpl implements TrainingContentService {
     public TrainingResponseDto createTraining(CreateTrainingRequest request) {
         Training training = mapToEntity(request);
         Training saved = trainingRepository.save(training);
+        eventPublisher.publishEvent(new TrainingDefinitionChangedEvent(this, saved.getId()));
         auditLogService.logEvent("TRAINING_CREATED", "Training created: " + training.getTitle());
         return mapToDto(saved);
     }
@@ -74,25 +82,17 @@ public class TrainingContentServiceImpl implements TrainingContentService {
 
         Training saved = trainingRepository.save(training);
 
+        UUID jobId = null;
         if (request.isResetProgress()) {
-            progressService.resetProgressForTraining(saved);
+            jobId = progressService.resetProgressForTraining(saved);
         } else if (validityChanged) {
-            List<UserTrainingStatus> statuses = userTrainingStatusRepository.findAllByTrainingId(id);
-            int updatedCount = 0;
-            for (UserTrainingStatus status : statuses) {
-                if (status.getStatus() == ProgressStatus.COMPLETED && status.getCompletedAt() != null && !status.isPassRevoked()) {
-                    status.setValidUntil(status.getCompletedAt().plusDays(newValidityDays));
-                    updatedCount++;
-                }
-            }
-            if (updatedCount > 0) {
-                userTrainingStatusRepository.saveAll(statuses);
-                auditLogService.logEvent("TRAINING_VALIDITY_RECALCULATED", "Recalculated validity for " + updatedCount + " users.");
-            }
+            jobId = bulkJobService.submit(BulkJobType.RECALCULATE_VALIDITY, id,
+                    "Recalculate validity (" + oldValidityDays + " -> " + newValidityDays + " days) for training: " + saved.getTitle());
         }
 
+        eventPublisher.publishEvent(new TrainingDefinitionChangedEvent(this, id));
         auditLogService.logEvent("TRAINING_UPDATED", "Training updated: " + training.getTitle());
-        return mapToDto(saved);
+        return withJob(mapToDto(saved), jobId);
     }
 
     @Override
@@ -101,6 +101,7 @@ public class TrainingContentServiceImpl implements TrainingContentService {
         Training training = getTrainingById(id);
         userTrainingStatusRepository.deleteByTrainingId(id);
         trainingRepository.delete(training);
+        eventPublisher.publishEvent(new TrainingDefinitionChangedEvent(this, id));
         auditLogService.logEvent("TRAINING_DELETED", "Deleted training: " + training.getTitle());
     }
 
@@ -143,9 +144,7 @@ public class TrainingContentServiceImpl implements TrainingContentService {
         int targetIndex = module.getOrderIndex();
         TrainingModule newModule = saved.getModules().stream().filter(m -> m.getOrderIndex() == targetIndex).findFirst().orElse(saved.getModules().getLast());
 
-        if (request.isResetProgress()) {
-            progressService.resetProgressForModule(newModule);
-        }
+        UUID jobId = request.isResetProgress() ? progressService.resetProgressForModule(newModule) : null;
 
         if (saved.getModules().size() == 1) {
             List<UserTrainingStatus> statuses = userTrainingStatusRepository.findAllByTrainingId(trainingId);
@@ -157,8 +156,9 @@ public class TrainingContentServiceImpl implements TrainingContentService {
             }
         }
 
+        contentChanged(trainingId);
         auditLogService.logEvent("MODULE_ADDED", "Added module to: " + training.getTitle());
-        return mapToDto(saved);
+        return withJob(mapToDto(saved), jobId);
     }
 
     @Override
@@ -190,12 +190,11 @@ public class TrainingContentServiceImpl implements TrainingContentService {
             moduleRepository.save(module);
         }
 
-        if (request.isResetProgress()) {
-            progressService.resetProgressForModule(module);
-        }
+        UUID jobId = request.isResetProgress() ? progressService.resetProgressForModule(module) : null;
 
+        contentChanged(training.getId());
         auditLogService.logEvent("MODULE_UPDATED", "Module updated: " + module.getTitle());
-        return mapToDto(module.getTraining());
+        return withJob(mapToDto(module.getTraining()), jobId);
     }
 
     @Override
@@ -214,6 +213,7 @@ public class TrainingContentServiceImpl implements TrainingContentService {
         reindexModules(training.getModules());
         trainingRepository.save(training);
 
+        contentChanged(training.getId());
         auditLogService.logEvent("MODULE_DELETED", "Deleted module: " + moduleToDelete.getTitle());
         return mapToDto(training);
     }
@@ -239,12 +239,11 @@ public class TrainingContentServiceImpl implements TrainingContentService {
 
         moduleRepository.save(module);
 
-        if (request.isResetProgress()) {
-            progressService.resetProgressForModule(module);
-        }
+        UUID jobId = request.isResetProgress() ? progressService.resetProgressForModule(module) : null;
 
+        contentChanged(module.getTraining().getId());
         auditLogService.logEvent("QUESTION_ADDED", "Added question to: " + module.getTitle());
-        return mapToDto(module.getTraining());
+        return withJob(mapToDto(module.getTraining()), jobId);
     }
 
     @Override
@@ -261,12 +260,11 @@ public class TrainingContentServiceImpl implements TrainingContentService {
 
         questionRepository.save(question);
 
-        if (request.isResetProgress()) {
-            progressService.resetProgressForModule(question.getModule());
-        }
+        UUID jobId = request.isResetProgress() ? progressService.resetProgressForModule(question.getModule()) : null;
 
+        contentChanged(question.getModule().getTraining().getId());
         auditLogService.logEvent("QUESTION_UPDATED", "Updated question ID: " + questionId);
-        return mapToDto(question.getModule().getTraining());
+        return withJob(mapToDto(question.getModule().getTraining()), jobId);
     }
 
     @Override
@@ -276,6 +274,7 @@ public class TrainingContentServiceImpl implements TrainingContentService {
         TrainingModule module = question.getModule();
         module.getQuestions().remove(question);
         questionRepository.delete(question);
+        contentChanged(module.getTraining().getId());
         auditLogService.logEvent("QUESTION_DELETED", "Deleted question ID: " + questionId);
         return mapToDto(module.getTraining());
     }
@@ -324,6 +323,11 @@ public class TrainingContentServiceImpl implements TrainingContentService {
         return QuizQuestion.builder().questionText(req.getQuestionText()).options(req.getOptions()).correctOptionIndex(req.getCorrectOptionIndex()).build();
     }
 
+    private TrainingResponseDto withJob(TrainingResponseDto dto, UUID jobId) {
+        dto.setProgressJobId(jobId);
+        return dto;
+    }
+
     private TrainingResponseDto mapToDto(Training entity) {
         return TrainingResponseDto.builder()
                 .id(entity.getId())
@@ -372,6 +376,18 @@ public class TrainingContentServiceImpl implements TrainingContentService {
                 .build();
     }
 
+    /**
+     * Marks a change of the training's modules or questions.
+     * <p>
+     * The training's version is incremented, so other application instances notice the change the next time they
+     * compare it with their cached snapshot. The local snapshot is dropped after commit.
+     * </p>
+     */
+    private void contentChanged(UUID trainingId) {
+        trainingRepository.findWithVersionIncrementById(trainingId);
+        eventPublisher.publishEvent(new TrainingContentChangedEvent(this, trainingId));
+    }
+
     private void reindexModules(List<TrainingModule> modules) {
         for (int i = 0; i < modules.size(); i++) {
             modules.get(i).setOrderIndex(i);
@@ -2,16 +2,22 @@ package com.fvps.backend.services.impl;
 
 import com.fvps.backend.domain.dto.training.*;
 import com.fvps.backend.domain.entities.*;
+import com.fvps.backend.domain.enums.BulkJobType;
 import com.fvps.backend.domain.enums.ModuleType;
 import com.fvps.backend.domain.enums.ProgressStatus;
+import com.fvps.backend.domain.model.CompiledAnswerKey;
+import com.fvps.backend.domain.model.TrainingSnapshot;
+import com.fvps.backend.events.UserAccessChangedEvent;
 import com.fvps.backend.events.UserStatusChangedEvent;
 import com.fvps.backend.repositories.TrainingModuleRepository;
 import com.fvps.backend.repositories.TrainingRepository;
 import com.fvps.backend.repositories.UserRepository;
 import com.fvps.backend.repositories.UserTrainingStatusRepository;
 import com.fvps.backend.services.AuditLogService;
+import com.fvps.backend.services.BulkJobService;
 import com.fvps.backend.services.PassService;
 import com.fvps.backend.services.TrainingProgressService;
+import com.fvps.backend.services.TrainingSnapshotService;
 import com.fvps.backend.services.UserClearanceService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
@@ -23,9 +29,10 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Clock;
 import java.time.LocalDateTime;
-import java.util.Comparator;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -33,6 +40,12 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class TrainingProgressServiceImpl implements TrainingProgressService {
 
+    /**
+     * How many missed question IDs an audit entry lists. Details that still exceed the column (a long email or
+     * training title) are cut to {@link com.fvps.backend.domain.entities.AuditLog#DETAILS_LENGTH} by the audit writer.
+     */
+    private static final int MAX_LISTED_MISSED_QUESTIONS = 2;
+
     private final UserTrainingStatusRepository userTrainingStatusRepository;
     private final UserRepository userRepository;
     private final TrainingRepository trainingRepository;
@@ -42,6 +55,9 @@ public class TrainingProgressServiceImpl implements TrainingProgressService {
     private final PassService passService;
     private final UserClearanceService clearanceService;
     private final ApplicationEventPublisher eventPublisher;
+    private final BulkJobService bulkJobService;
+    private final UserIdCache userIdCache;
+    private final TrainingSnapshotService trainingSnapshotService;
     private final Clock clock;
 
     @Value("${app.training.default-passing-threshold}")
@@ -78,6 +94,8 @@ public class TrainingProgressServiceImpl implements TrainingProgressService {
                 .orElseThrow(() -> new RuntimeException("Training assignment not found."));
 
         userTrainingStatusRepository.delete(status);
+        clearanceService.recalculateUserClearance(userId);
+        eventPublisher.publishEvent(new UserAccessChangedEvent(this, userId));
         auditLogService.logEvent(userId, "TRAINING_UNASSIGNED", "Removed assignment for training ID: " + trainingId);
     }
 
@@ -124,29 +142,24 @@ public class TrainingProgressServiceImpl implements TrainingProgressService {
     @Transactional
     public void completeModule(String userEmail, UUID trainingId, UUID moduleId) {
         UserTrainingStatus status = getUserTrainingStatus(userEmail, trainingId);
+        TrainingSnapshot content = trainingSnapshotService.getSnapshot(status.getTraining());
+        startIfNotStarted(status, content);
 
-        if (status.getCurrentModule() == null && status.getStatus() == ProgressStatus.NOT_STARTED) {
-            var firstModule = moduleRepository.findFirstByTrainingIdOrderByOrderIndexAsc(trainingId).orElse(null);
-            if (firstModule != null) {
-                status.setCurrentModule(firstModule);
-                userTrainingStatusRepository.save(status);
-            }
-        }
-
-        if (status.getCurrentModule() == null) {
+        TrainingSnapshot.Module currentModule = content.module(currentModuleId(status));
+        if (currentModule == null) {
             if (status.getStatus() == ProgressStatus.COMPLETED) return;
             throw new IllegalArgumentException("Training progress error or already completed.");
         }
 
-        if (!status.getCurrentModule().getId().equals(moduleId)) {
-            throw new IllegalArgumentException("Cannot skip modules! Current: " + status.getCurrentModule().getTitle());
+        if (!currentModule.id().equals(moduleId)) {
+            throw new IllegalArgumentException("Cannot skip modules! Current: " + currentModule.title());
         }
 
-        if (status.getCurrentModule().getType() == ModuleType.QUIZ) {
+        if (currentModule.type() == ModuleType.QUIZ) {
             throw new IllegalArgumentException("Quiz must be solved, cannot be skipped.");
         }
 
-        advanceProgress(status);
+        advanceProgress(status, content);
         handleCourseCompletion(status);
 
         auditLogService.logEvent(status.getUser().getId(), "MODULE_COMPLETED", "Completed module (Video/PDF).");
@@ -157,7 +170,9 @@ public class TrainingProgressServiceImpl implements TrainingProgressService {
      * <p>
      * <b>Implementation Note:</b>
      * <ul>
-     * <li><b>Scoring:</b> Calculates the percentage of correct answers.</li>
+     * <li><b>Scoring:</b> Calculates the percentage of correct answers against the module's precompiled
+     * {@link CompiledAnswerKey} (binary search over primitive arrays, no entity loads).</li>
+     * <li><b>Analytics:</b> The questions answered incorrectly are recorded in the audit entry.</li>
      * <li><b>Pass/Fail:</b> Compares score to {@code training.passingThreshold}.
      * If >= threshold, advances progress. If < threshold, sets status to {@link ProgressStatus#FAILED}.</li>
      * <li><b>Completion:</b> If the quiz is passed, and it was the last module, this triggers certificate generation and clearance update.</li>
@@ -168,32 +183,29 @@ public class TrainingProgressServiceImpl implements TrainingProgressService {
     @Transactional
     public boolean submitQuiz(String userEmail, UUID trainingId, UUID moduleId, QuizSubmissionDto submission) {
         UserTrainingStatus status = getUserTrainingStatus(userEmail, trainingId);
-        Training training = status.getTraining();
+        TrainingSnapshot training = trainingSnapshotService.getSnapshot(status.getTraining());
+        startIfNotStarted(status, training);
 
-        if (status.getCurrentModule() == null && status.getStatus() == ProgressStatus.NOT_STARTED) {
-            var firstModule = moduleRepository.findFirstByTrainingIdOrderByOrderIndexAsc(trainingId).orElse(null);
-            if (firstModule != null) {
-                status.setCurrentModule(firstModule);
-                userTrainingStatusRepository.save(status);
-            }
-        }
-
-        double score = getScore(moduleId, submission, status);
+        TrainingSnapshot.Module quiz = getCurrentQuizModule(moduleId, status, training);
+        CompiledAnswerKey.Result result = getScore(quiz, submission);
+        double score = result.score();
         status.setQuizScore(score);
 
         double requiredThreshold = training.getPassingThreshold() != null ? training.getPassingThreshold() : defaultPassingThreshold;
 
         if (score >= requiredThreshold) {
-            advanceProgress(status);
+            advanceProgress(status, training);
             handleCourseCompletion(status);
             auditLogService.logEvent(status.getUser().getId(), "COURSE_COMPLETED",
-                    "User " + userEmail + " completed: " + training.getTitle() + ", score: " + (score * 100) + "%");
+                    "User " + userEmail + " completed: " + training.getTitle() + ", score: " + formatScore(score)
+                            + ", missed questions: " + describeMissedQuestions(quiz, result));
             return true;
         } else {
             status.setStatus(ProgressStatus.FAILED);
             userTrainingStatusRepository.save(status);
             auditLogService.logEvent(status.getUser().getId(), "QUIZ_FAILED",
-                    "Quiz failed: " + training.getTitle() + ". Score: " + (score * 100) + "%");
+                    "Quiz failed: " + training.getTitle() + ". Score: " + formatScore(score)
+                            + ", missed questions: " + describeMissedQuestions(quiz, result));
             return false;
         }
     }
@@ -229,6 +241,7 @@ public class TrainingProgressServiceImpl implements TrainingProgressService {
 
         userTrainingStatusRepository.save(status);
         clearanceService.recalculateUserClearance(userId);
+        eventPublisher.publishEvent(new UserAccessChangedEvent(this, userId));
 
         eventPublisher.publishEvent(new UserStatusChangedEvent(this, status.getUser(),
                 "Admin manually revoked completion: " + status.getTraining().getTitle()));
@@ -241,38 +254,21 @@ public class TrainingProgressServiceImpl implements TrainingProgressService {
      * <p>
      * <b>Implementation Note:</b>
      * Forces all completed users back to {@code IN_PROGRESS} at the start of the training.
-     * This is used when content changes are critical. Triggers security clearance recalculation.
+     * This is used when content changes are critical.
+     * <ul>
+     * <li><b>Background job:</b> The reset is submitted to the {@link BulkJobService} in the caller's transaction
+     * and applied in chunks afterwards, so a large cohort never holds the admin's request or a single long
+     * transaction.</li>
+     * <li><b>Follow-up:</b> Clearance recalculation and notifications are done by the job, in the same
+     * transaction as the chunk that reset the users.</li>
+     * </ul>
      * </p>
      */
     @Override
     @Transactional
-    public void resetProgressForTraining(Training training) {
-        TrainingModule firstModule = moduleRepository.findFirstByTrainingIdOrderByOrderIndexAsc(training.getId()).orElse(null);
-        if (firstModule == null) return;
-
-        List<UserTrainingStatus> statuses = userTrainingStatusRepository.findAllByTrainingId(training.getId());
-        int updatedCount = 0;
-
-        for (UserTrainingStatus status : statuses) {
-            if (status.getStatus() == ProgressStatus.COMPLETED) {
-                status.setStatus(ProgressStatus.IN_PROGRESS);
-                status.setCurrentModule(firstModule);
-                status.setQuizScore(null);
-                status.setCompletedAt(null);
-                status.setValidUntil(null);
-                status.setPassRevoked(false);
-
-                updatedCount++;
-                clearanceService.recalculateUserClearance(status.getUser().getId());
-
-                eventPublisher.publishEvent(new UserStatusChangedEvent(this, status.getUser(),
-                        "Major update in training: " + training.getTitle() + ". Re-completion required."));
-            }
-        }
-        if (updatedCount > 0) {
-            userTrainingStatusRepository.saveAll(statuses);
-            auditLogService.logEvent("TRAINING_COMPLETION_RESET", "Reset for " + updatedCount + " users in: " + training.getTitle());
-        }
+    public UUID resetProgressForTraining(Training training) {
+        return bulkJobService.submit(BulkJobType.RESET_TRAINING_PROGRESS, training.getId(),
+                "Reset progress for training: " + training.getTitle());
     }
 
     /**
@@ -281,39 +277,14 @@ public class TrainingProgressServiceImpl implements TrainingProgressService {
      * <b>Implementation Note:</b>
      * Only resets users who have already passed the specific module
      * being updated (or are past it). Users who haven't reached this module yet are unaffected.
+     * Like {@link #resetProgressForTraining(Training)}, the reset is applied in chunks by a background job.
      * </p>
      */
     @Override
     @Transactional
-    public void resetProgressForModule(TrainingModule module) {
-        UUID trainingId = module.getTraining().getId();
-        List<UserTrainingStatus> statuses = userTrainingStatusRepository.findAllByTrainingId(trainingId);
-        int updatedCount = 0;
-
-        for (UserTrainingStatus status : statuses) {
-            boolean isCompleted = status.getStatus() == ProgressStatus.COMPLETED;
-            boolean isAhead = status.getCurrentModule() != null && status.getCurrentModule().getOrderIndex() > module.getOrderIndex();
-
-            if (isCompleted || isAhead) {
-                status.setStatus(ProgressStatus.IN_PROGRESS);
-                status.setCurrentModule(module);
-                status.setQuizScore(null);
-                status.setCompletedAt(null);
-                status.setValidUntil(null);
-                updatedCount++;
-
-                if (isCompleted) {
-                    clearanceService.recalculateUserClearance(status.getUser().getId());
-                }
-
-                eventPublisher.publishEvent(new UserStatusChangedEvent(this, status.getUser(),
-                        "Content update in " + module.getTraining().getTitle() + ". Retake module: " + module.getTitle()));
-            }
-        }
-        if (updatedCount > 0) {
-            userTrainingStatusRepository.saveAll(statuses);
-            auditLogService.logEvent("TRAINING_PROGRESS_REVOKED", "Reset for " + updatedCount + " users due to module: " + module.getTitle());
-        }
+    public UUID resetProgressForModule(TrainingModule module) {
+        return bulkJobService.submit(BulkJobType.RESET_MODULE_PROGRESS, module.getId(),
+                "Reset progress from module: " + module.getTitle() + " (" + module.getTraining().getTitle() + ")");
     }
 
     @Override
@@ -374,61 +345,49 @@ public class TrainingProgressServiceImpl implements TrainingProgressService {
      * for all quiz questions to prevent users from inspecting the network traffic for answers.</li>
      * <li><b>Progress Flag:</b> Modules are marked as {@code completed} if their sequence order
      * is strictly lower than the user's current progress index.</li>
+     * <li><b>Content:</b> Modules and questions come from the cached {@link TrainingSnapshot}; the only
+     * query is the lookup of the progress record.</li>
      * </ul>
      * </p>
      */
     @Override
     @Transactional(readOnly = true)
     public TrainingResponseDto getTrainingDetailsForUser(UUID trainingId, String userEmail) {
-        User user = userRepository.findByEmail(userEmail).orElseThrow(() -> new RuntimeException("User not found"));
-        UserTrainingStatus status = userTrainingStatusRepository.findByUserIdAndTrainingId(user.getId(), trainingId)
-                .orElseThrow(() -> new RuntimeException("Training not assigned or access denied"));
-
-        Training training = status.getTraining();
+        UserTrainingStatus status = getUserTrainingStatus(userEmail, trainingId);
+        TrainingSnapshot training = trainingSnapshotService.getSnapshot(status.getTraining());
+        TrainingSnapshot.Module currentModule = training.module(currentModuleId(status));
 
         UUID currentModuleId = null;
         if (status.getStatus() == ProgressStatus.COMPLETED) {
-            if (!training.getModules().isEmpty()) {
-                currentModuleId = training.getModules().getFirst().getId();
-            }
-        } else if (status.getCurrentModule() != null) {
-            currentModuleId = status.getCurrentModule().getId();
-        } else {
-            var firstModule = moduleRepository.findFirstByTrainingIdOrderByOrderIndexAsc(trainingId).orElse(null);
-            if (firstModule != null) {
-                currentModuleId = firstModule.getId();
+            if (training.firstModule() != null) {
+                currentModuleId = training.firstModule().id();
             }
+        } else if (currentModule != null) {
+            currentModuleId = currentModule.id();
+        } else if (training.firstModule() != null) {
+            currentModuleId = training.firstModule().id();
         }
 
         final int currentProgressIndex;
 
         if (status.getStatus() == ProgressStatus.COMPLETED) {
             currentProgressIndex = Integer.MAX_VALUE;
-        } else if (status.getCurrentModule() != null) {
-            currentProgressIndex = status.getCurrentModule().getOrderIndex();
+        } else if (currentModule != null) {
+            currentProgressIndex = currentModule.orderIndex();
         } else {
             currentProgressIndex = -1;
         }
 
         List<ModuleDto> modules = training.getModules().stream()
-                .sorted(Comparator.comparingInt(TrainingModule::getOrderIndex))
-                .map(module -> {
-                    boolean isCompleted = module.getOrderIndex() < currentProgressIndex;
-
-                    if (status.getStatus() == ProgressStatus.COMPLETED) {
-                        isCompleted = true;
-                    }
-
-                    return ModuleDto.builder()
-                            .id(module.getId())
-                            .title(module.getTitle())
-                            .type(module.getType())
-                            .contentUrl(module.getContentUrl())
-                            .orderIndex(module.getOrderIndex())
-                            .completed(isCompleted)
-                            .questions(module.getType() == ModuleType.QUIZ ? mapQuestionsForUser(module) : null)
-                            .build();
-                })
+                .map(module -> ModuleDto.builder()
+                        .id(module.id())
+                        .title(module.title())
+                        .type(module.type())
+                        .contentUrl(module.contentUrl())
+                        .orderIndex(module.orderIndex())
+                        .completed(module.orderIndex() < currentProgressIndex)
+                        .questions(module.type() == ModuleType.QUIZ ? mapQuestionsForUser(module) : null)
+                        .build())
                 .collect(Collectors.toList());
 
         return TrainingResponseDto.builder()
@@ -443,24 +402,30 @@ public class TrainingProgressServiceImpl implements TrainingProgressService {
                 .currentModuleId(currentModuleId)
                 .build();
     }
-
+    /**
+     * Resolves the caller's progress record in one query, fetching the training with it. Module and question
+     * content comes from the {@link TrainingSnapshotService}; once the email-to-id mapping is cached, the
+     * users table is not touched at all.
+     */
     private UserTrainingStatus getUserTrainingStatus(String email, UUID trainingId) {
-        User user = userRepository.findByEmail(email).orElseThrow();
-        return userTrainingStatusRepository.findByUserId(user.getId()).stream()
-                .filter(s -> s.getTraining().getId().equals(trainingId))
-                .findFirst().orElseThrow(() -> new IllegalArgumentException("You are not assigned to this training."));
+        UUID userId = userIdCache.get(email);
+        Optional<UserTrainingStatus> status = userId != null
+                ? userTrainingStatusRepository.findProgressByUserIdAndTrainingId(userId, trainingId)
+                : userTrainingStatusRepository.findProgressByUserEmailAndTrainingId(email, trainingId);
+
+        status.ifPresent(s -> userIdCache.put(email, s.getUser().getId()));
+        return status.orElseThrow(() -> new IllegalArgumentException("You are not assigned to this training."));
     }
 
-    private void advanceProgress(UserTrainingStatus status) {
+    private void advanceProgress(UserTrainingStatus status, TrainingSnapshot content) {
         if (status.getCurrentModule() == null) {
             finishTraining(status);
             return;
         }
-        var nextModule = moduleRepository.findFirstByTrainingIdAndOrderIndexGreaterThanOrderByOrderIndexAsc(
-                status.getTraining().getId(), status.getCurrentModule().getOrderIndex());
+        TrainingSnapshot.Module nextModule = content.nextModule(currentModuleId(status));
 
-        if (nextModule.isPresent()) {
-            status.setCurrentModule(nextModule.get());
+        if (nextModule != null) {
+            status.setCurrentModule(moduleRepository.getReferenceById(nextModule.id()));
             status.setStatus(ProgressStatus.IN_PROGRESS);
         } else {
             finishTraining(status);
@@ -468,6 +433,23 @@ public class TrainingProgressServiceImpl implements TrainingProgressService {
         userTrainingStatusRepository.save(status);
     }
 
+    /**
+     * Points a not yet started record at the first module of the training.
+     */
+    private void startIfNotStarted(UserTrainingStatus status, TrainingSnapshot content) {
+        if (status.getCurrentModule() == null && status.getStatus() == ProgressStatus.NOT_STARTED && content.firstModule() != null) {
+            status.setCurrentModule(moduleRepository.getReferenceById(content.firstModule().id()));
+            userTrainingStatusRepository.save(status);
+        }
+    }
+
+    /**
+     * Reads the current module id without initialising the module proxy.
+     */
+    private static UUID currentModuleId(UserTrainingStatus status) {
+        return status.getCurrentModule() != null ? status.getCurrentModule().getId() : null;
+    }
+
     private void finishTraining(UserTrainingStatus status) {
         status.setStatus(ProgressStatus.COMPLETED);
         status.setCurrentModule(null);
@@ -478,6 +460,7 @@ public class TrainingProgressServiceImpl implements TrainingProgressService {
 
     private void handleCourseCompletion(UserTrainingStatus status) {
         if (status.getStatus() == ProgressStatus.COMPLETED) {
+            eventPublisher.publishEvent(new UserAccessChangedEvent(this, status.getUser().getId()));
             try {
                 clearanceService.recalculateUserClearance(status.getUser().getId());
                 passService.sendPassCompletionNotification(status.getUser());
@@ -499,11 +482,10 @@ public class TrainingProgressServiceImpl implements TrainingProgressService {
     private UserTrainingDto mapToUserTrainingDto(UserTrainingStatus status) {
         int calculatedIndex = 0;
         if (status.getStatus() == ProgressStatus.COMPLETED) {
-            if (status.getTraining().getModules() != null) {
-                calculatedIndex = status.getTraining().getModules().size();
-            }
+            calculatedIndex = trainingSnapshotService.getSnapshot(status.getTraining()).getModules().size();
         } else if (status.getCurrentModule() != null) {
-            calculatedIndex = status.getCurrentModule().getOrderIndex();
+            TrainingSnapshot.Module currentModule = trainingSnapshotService.getSnapshot(status.getTraining()).module(currentModuleId(status));
+            calculatedIndex = currentModule != null ? currentModule.orderIndex() : status.getCurrentModule().getOrderIndex();
         }
 
         return UserTrainingDto.builder()
@@ -530,50 +512,57 @@ public class TrainingProgressServiceImpl implements TrainingProgressService {
                 .build();
     }
 
-    private double getScore(UUID moduleId, QuizSubmissionDto submission, UserTrainingStatus status) {
-        List<QuizQuestion> questions = getQuizQuestions(moduleId, status);
-        Map<UUID, Integer> userAnswers = submission.getAnswers();
+    // Package-private for QuizScoringBenchmark (src/jmh/java).
+    CompiledAnswerKey.Result getScore(TrainingSnapshot.Module quiz, QuizSubmissionDto submission) {
+        return quiz.answerKey().score(submission.getAnswers());
+    }
 
-        if (userAnswers == null || userAnswers.size() != questions.size()) {
-            throw new IllegalArgumentException("Number of answers does not match number of questions.");
-        }
+    private static String formatScore(double score) {
+        return String.format(Locale.ROOT, "%.1f%%", score * 100);
+    }
 
-        int correctCount = 0;
-        for (QuizQuestion question : questions) {
-            Integer givenAnswerIndex = userAnswers.get(question.getId());
-            if (givenAnswerIndex == null)
-                throw new IllegalArgumentException("Missing answer for Q: " + question.getId());
-            if (givenAnswerIndex == question.getCorrectOptionIndex()) correctCount++;
+    /**
+     * Describes the missed questions as their count followed by the first few IDs, e.g. {@code 7 (id1,id2,...)}.
+     * Audit details are a {@code varchar(255)}, so the full list of a long quiz would not fit.
+     */
+    private static String describeMissedQuestions(TrainingSnapshot.Module quiz, CompiledAnswerKey.Result result) {
+        int missedCount = result.questionCount() - result.correctCount();
+        if (missedCount == 0) return "none";
+        StringBuilder missed = new StringBuilder().append(missedCount).append(" (");
+        int listed = 0;
+        for (int i = result.correctAnswers().nextClearBit(0);
+             i < result.questionCount() && listed < MAX_LISTED_MISSED_QUESTIONS;
+             i = result.correctAnswers().nextClearBit(i + 1), listed++) {
+            if (listed > 0) missed.append(',');
+            missed.append(quiz.answerKey().questionId(i));
         }
-
-        return (double) correctCount / questions.size();
+        if (missedCount > listed) missed.append(",...");
+        return missed.append(')').toString();
     }
 
-    private List<QuizQuestion> getQuizQuestions(UUID moduleId, UserTrainingStatus status) {
-        if (status.getCurrentModule() == null) {
+    private TrainingSnapshot.Module getCurrentQuizModule(UUID moduleId, UserTrainingStatus status, TrainingSnapshot content) {
+        TrainingSnapshot.Module currentModule = content.module(currentModuleId(status));
+        if (currentModule == null) {
             throw new IllegalArgumentException("Training already completed or no active module.");
         }
 
-        if (!status.getCurrentModule().getId().equals(moduleId)) {
+        if (!currentModule.id().equals(moduleId)) {
             throw new IllegalArgumentException("Attempt to solve quiz from another module.");
         }
 
-        TrainingModule currentModule = status.getCurrentModule();
-        if (currentModule.getType() != ModuleType.QUIZ) {
+        if (currentModule.type() != ModuleType.QUIZ) {
             throw new IllegalArgumentException("Invalid module type.");
         }
 
-        return currentModule.getQuestions();
+        return currentModule;
     }
 
-    private List<QuestionDto> mapQuestionsForUser(TrainingModule module) {
-        if (module.getQuestions() == null) return List.of();
-
-        return module.getQuestions().stream()
+    private List<QuestionDto> mapQuestionsForUser(TrainingSnapshot.Module module) {
+        return module.questions().stream()
                 .map(q -> QuestionDto.builder()
-                        .id(q.getId())
-                        .questionText(q.getQuestionText())
-                        .options(q.getOptions())
+                        .id(q.id())
+                        .questionText(q.questionText())
+                        .options(q.options())
                         .correctOptionIndex(null)
                         .build())
                 .collect(Collectors.toList());
@@ -0,0 +1,128 @@
+package com.fvps.backend.services.impl;
+
+import com.fvps.backend.domain.entities.Training;
+import com.fvps.backend.domain.model.TrainingSnapshot;
+import com.fvps.backend.events.TrainingContentChangedEvent;
+import com.fvps.backend.events.TrainingDefinitionChangedEvent;
+import com.fvps.backend.repositories.TrainingRepository;
+import com.fvps.backend.services.TrainingSnapshotService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Service
+public class TrainingSnapshotServiceImpl implements TrainingSnapshotService {
+
+    private final TrainingRepository trainingRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final long ttlNanos;
+
+    private final Map<UUID, Entry> snapshots = new ConcurrentHashMap<>();
+
+    /**
+     * Incremented on every eviction. A load that started before an eviction must not publish its
+     * (possibly stale) result, so it compares the generation before and after reading the database.
+     */
+    private final AtomicLong generation = new AtomicLong();
+
+    public TrainingSnapshotServiceImpl(
+            TrainingRepository trainingRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.training.content-cache.ttl-seconds:600}") long ttlSeconds
+    ) {
+        this.trainingRepository = trainingRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * <b>Implementation Note:</b>
+     * <ul>
+     * <li><b>Lock-free reads:</b> A cached snapshot is returned straight from a {@link ConcurrentHashMap}.</li>
+     * <li><b>Invalidation:</b> Snapshots are dropped after commit of every admin change to the training
+     * ({@link TrainingDefinitionChangedEvent}) or its modules and questions ({@link TrainingContentChangedEvent}).</li>
+     * <li><b>Other instances:</b> Every content change also increments the training's version, so
+     * {@link #getSnapshot(Training)} rebuilds a snapshot as soon as it sees an entity newer than the snapshot,
+     * whichever instance made the change.</li>
+     * <li><b>Safety TTL:</b> Snapshots are also rebuilt after {@code app.training.content-cache.ttl-seconds}, as a
+     * backstop for lookups by ID alone, which cannot compare versions.</li>
+     * </ul>
+     * </p>
+     */
+    @Override
+    public TrainingSnapshot getSnapshot(UUID trainingId) {
+        Entry cached = snapshots.get(trainingId);
+        if (cached != null && !cached.isExpired(System.nanoTime())) {
+            return cached.snapshot();
+        }
+        return load(trainingId);
+    }
+
+    @Override
+    public TrainingSnapshot getSnapshot(Training training) {
+        Entry cached = snapshots.get(training.getId());
+        if (cached != null && Objects.equals(cached.snapshot().getVersion(), training.getVersion())
+                && !cached.isExpired(System.nanoTime())) {
+            return cached.snapshot();
+        }
+        return load(training.getId());
+    }
+
+    @Override
+    public void evict(UUID trainingId) {
+        generation.incrementAndGet();
+        snapshots.remove(trainingId);
+    }
+
+    /**
+     * Drops the snapshot once a change of the training definition has been committed.
+     *
+     * @param event the published change.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTrainingDefinitionChanged(TrainingDefinitionChangedEvent event) {
+        evict(event.getTrainingId());
+    }
+
+    /**
+     * Drops the snapshot once a change of the training content has been committed.
+     *
+     * @param event the published change.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTrainingContentChanged(TrainingContentChangedEvent event) {
+        evict(event.getTrainingId());
+    }
+
+    private TrainingSnapshot load(UUID trainingId) {
+        long observedGeneration = generation.get();
+        TrainingSnapshot snapshot = readOnlyTransaction.execute(status -> trainingRepository.findById(trainingId)
+                .map(TrainingSnapshot::of)
+                .orElseThrow(() -> new RuntimeException("Training not found")));
+
+        if (generation.get() == observedGeneration) {
+            snapshots.put(trainingId, new Entry(snapshot, System.nanoTime() + ttlNanos));
+        }
+        return snapshot;
+    }
+
+    private record Entry(TrainingSnapshot snapshot, long expiresAtNanos) {
+
+        boolean isExpired(long now) {
+            return now - expiresAtNanos >= 0;
+        }
+    }
+}
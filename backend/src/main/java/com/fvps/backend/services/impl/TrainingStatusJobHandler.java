@@ -0,0 +1,75 @@
+package com.fvps.backend.services.impl;
+
+import com.fvps.backend.domain.entities.BulkJob;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Base class for jobs that walk the progress records of one training.
+ * <p>
+ * Records are visited in primary key order with keyset pagination ({@code id > checkpoint}), backed by the
+ * {@code (training_id, id)} index, so every chunk costs the same regardless of how far the job has got and
+ * records assigned while the job runs are either visited once or not at all.
+ * </p>
+ */
+@RequiredArgsConstructor
+abstract class TrainingStatusJobHandler implements BulkJobHandler {
+
+    private static final String COUNT_SQL = "SELECT count(*) FROM user_training_status WHERE training_id = ?";
+
+    private static final String NEXT_IDS_SQL =
+            "SELECT id FROM user_training_status WHERE training_id = ? AND id > ? ORDER BY id LIMIT ?";
+
+    private static final UUID MIN_ID = new UUID(0L, 0L);
+
+    protected final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Resolves the training whose progress records the job walks.
+     *
+     * @param job the job being processed.
+     * @return the UUID of the training, or null if the target no longer exists.
+     */
+    protected abstract UUID trainingIdOf(BulkJob job);
+
+    @Override
+    public long countItems(BulkJob job) {
+        UUID trainingId = trainingIdOf(job);
+        if (trainingId == null) return 0;
+        Long count = jdbcTemplate.queryForObject(COUNT_SQL, Long.class, trainingId);
+        return count != null ? count : 0;
+    }
+
+    /**
+     * Lists the ids of the next progress records after the job's checkpoint.
+     */
+    protected List<UUID> nextIds(UUID trainingId, BulkJob job, int chunkSize) {
+        UUID after = job.getCheckpoint() != null ? job.getCheckpoint() : MIN_ID;
+        return jdbcTemplate.queryForList(NEXT_IDS_SQL, UUID.class, trainingId, after, chunkSize);
+    }
+
+    /**
+     * Runs an update restricted to the given progress record ids.
+     * <p>
+     * The ids are bound as a single {@code uuid[]} parameter, which must be the last placeholder of {@code sql}.
+     * </p>
+     */
+    protected <T> List<T> updateByIds(String sql, List<UUID> ids, RowMapper<T> rowMapper, Object... leadingArgs) {
+        return jdbcTemplate.query(con -> {
+            var ps = con.prepareStatement(sql);
+            for (int i = 0; i < leadingArgs.length; i++) {
+                ps.setObject(i + 1, leadingArgs[i]);
+            }
+            ps.setArray(leadingArgs.length + 1, con.createArrayOf("uuid", ids.toArray()));
+            return ps;
+        }, rowMapper);
+    }
+
+    protected static Chunk chunkOf(List<UUID> ids, int affected) {
+        return ids.isEmpty() ? Chunk.EMPTY : new Chunk(ids.getLast(), ids.size(), affected);
+    }
+}
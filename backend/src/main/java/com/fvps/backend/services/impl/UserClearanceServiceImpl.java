@@ -1,21 +1,26 @@
 package com.fvps.backend.services.impl;
 
-import com.fvps.backend.domain.entities.Training;
+import com.fvps.backend.domain.dto.verification.ClearanceEvaluation;
 import com.fvps.backend.domain.entities.User;
 import com.fvps.backend.domain.entities.UserTrainingStatus;
 import com.fvps.backend.domain.enums.ProgressStatus;
-import com.fvps.backend.repositories.TrainingRepository;
+import com.fvps.backend.domain.model.SecurityLevelIndex;
+import com.fvps.backend.events.UserAccessChangedEvent;
 import com.fvps.backend.repositories.UserRepository;
 import com.fvps.backend.repositories.UserTrainingStatusRepository;
 import com.fvps.backend.services.AuditLogService;
+import com.fvps.backend.services.PassRevocationService;
+import com.fvps.backend.services.SecurityLevelIndexService;
 import com.fvps.backend.services.UserClearanceService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Clock;
 import java.time.LocalDateTime;
-import java.util.List;
+import java.util.BitSet;
+import java.util.Objects;
 import java.util.UUID;
 
 @Service
@@ -24,8 +29,10 @@ public class UserClearanceServiceImpl implements UserClearanceService {
 
     private final UserRepository userRepository;
     private final UserTrainingStatusRepository userTrainingStatusRepository;
-    private final TrainingRepository trainingRepository;
+    private final SecurityLevelIndexService securityLevelIndexService;
     private final AuditLogService auditLogService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PassRevocationService passRevocationService;
     private final Clock clock;
 
     /**
@@ -45,8 +52,10 @@ public class UserClearanceServiceImpl implements UserClearanceService {
      * </li>
      * <li><b>Empty Levels:</b> If a specific security level has no assigned trainings in the system,
      * it is considered "automatically passed" (pass-through).</li>
-     * <li><b>Optimisation:</b> Database update and audit log occur only if the calculated level
-     * is different from the current one.</li>
+     * <li><b>Optimisation:</b> The row is written only if the level, its next expiry or the level layout
+     * it was calculated against changed. The audit log and {@link UserAccessChangedEvent} follow level changes only.</li>
+     * <li><b>Evaluation:</b> The ladder itself is computed by {@link #evaluateClearance(UUID)}, which is
+     * also used by read-only callers such as the cached verification path.</li>
      * </ul>
      * </p>
      */
@@ -55,50 +64,123 @@ public class UserClearanceServiceImpl implements UserClearanceService {
     public void recalculateUserClearance(UUID userId) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new RuntimeException("User not found"));
+        store(user, evaluateClearance(userId));
+    }
 
-        int newClearance = 0;
-
-        // Fetch all user statuses at once to avoid N+1 queries inside the loop
-        List<UserTrainingStatus> userStatuses = userTrainingStatusRepository.findByUserId(userId);
-
-        for (int level = 1; level <= 4; level++) {
-            List<Training> requiredTrainings = trainingRepository.findAllBySecurityLevel(level);
-
-            // Edge case: No trainings defined for this level -> Auto Pass
-            if (requiredTrainings.isEmpty()) {
-                newClearance = level;
-                continue;
-            }
-
-            boolean levelPassed = true;
-            for (Training reqTraining : requiredTrainings) {
-                boolean completed = userStatuses.stream().anyMatch(status ->
-                        status.getTraining().getId().equals(reqTraining.getId()) &&
-                                status.getStatus() == ProgressStatus.COMPLETED &&
-                                (status.getValidUntil() == null || status.getValidUntil().isAfter(LocalDateTime.now(clock))) &&
-                                !status.isPassRevoked()
-                );
-
-                if (!completed) {
-                    levelPassed = false;
-                    break;
-                }
-            }
-
-            if (levelPassed) {
-                newClearance = level;
-            } else {
-                // Break the ladder: if you fail Level X, you cannot achieve Level X+1
-                break;
-            }
+    /**
+     * {@inheritDoc}
+     * <p>
+     * <b>Implementation Note:</b>
+     * <ul>
+     * <li><b>Fast path:</b> A current level costs no query at all; the ladder runs only once per expiry
+     * or layout change, not on every read.</li>
+     * <li><b>Detached callers:</b> The recalculation works on a freshly loaded entity and copies the result
+     * onto the given instance, so callers outside a transaction see the same values as the database.</li>
+     * </ul>
+     * </p>
+     */
+    @Override
+    @Transactional
+    public int getCurrentClearanceLevel(User user) {
+        if (isClearanceCurrent(user)) {
+            return user.getClearanceLevel();
         }
 
-        if (user.getClearanceLevel() != newClearance) {
-            int oldLevel = user.getClearanceLevel();
-            user.setClearanceLevel(newClearance);
-            userRepository.save(user);
+        User managed = userRepository.findById(user.getId())
+                .orElseThrow(() -> new RuntimeException("User not found"));
+        if (managed != user && isClearanceCurrent(managed)) {
+            copyClearance(managed, user);
+            return managed.getClearanceLevel();
+        }
+
+        store(managed, evaluateClearance(managed.getId()));
+        copyClearance(managed, user);
+        return managed.getClearanceLevel();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isClearanceCurrent(User user) {
+        Long fingerprint = user.getClearanceIndexFingerprint();
+        if (fingerprint == null || fingerprint != securityLevelIndexService.getIndex().getFingerprint()) {
+            return false;
+        }
+        LocalDateTime nextExpiry = user.getClearanceNextExpiry();
+        return nextExpiry == null || LocalDateTime.now(clock).isBefore(nextExpiry);
+    }
+
+    private void store(User user, ClearanceEvaluation evaluation) {
+        int oldLevel = user.getClearanceLevel();
+        int newLevel = evaluation.getLevel();
+        boolean levelChanged = oldLevel != newLevel;
+
+        if (!levelChanged
+                && Objects.equals(user.getClearanceNextExpiry(), evaluation.getNextExpiry())
+                && Objects.equals(user.getClearanceIndexFingerprint(), evaluation.getIndexFingerprint())) {
+            return;
+        }
+
+        user.setClearanceLevel(newLevel);
+        user.setClearanceNextExpiry(evaluation.getNextExpiry());
+        user.setClearanceIndexFingerprint(evaluation.getIndexFingerprint());
+        userRepository.save(user);
+
+        if (levelChanged) {
             auditLogService.logEvent(user.getId(), "CLEARANCE_CHANGED",
-                    "Security clearance changed from Level " + oldLevel + " to Level " + newClearance);
+                    "Security clearance changed from Level " + oldLevel + " to Level " + newLevel);
+            eventPublisher.publishEvent(new UserAccessChangedEvent(this, user.getId()));
+        }
+        if (newLevel < oldLevel) {
+            // Offline tokens state the old level; handsets must stop accepting them.
+            passRevocationService.revoke(user.getId(), "CLEARANCE_DOWNGRADED");
+        }
+    }
+
+    private static void copyClearance(User from, User to) {
+        to.setClearanceLevel(from.getClearanceLevel());
+        to.setClearanceNextExpiry(from.getClearanceNextExpiry());
+        to.setClearanceIndexFingerprint(from.getClearanceIndexFingerprint());
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * <b>Implementation Note (Performance):</b>
+     * <ul>
+     * <li><b>Single query:</b> Level requirements come from the in-memory {@link SecurityLevelIndex}, so the only
+     * database access is loading the user's statuses.</li>
+     * <li><b>Bitset ladder:</b> The user's valid trainings are folded into a {@link BitSet} and each level is
+     * checked with a set containment test.</li>
+     * <li><b>Next expiry:</b> Only trainings belonging to levels that were actually passed contribute to
+     * {@code nextExpiry}. A training on the level that broke the ladder cannot lower the result any further.</li>
+     * </ul>
+     * </p>
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public ClearanceEvaluation evaluateClearance(UUID userId) {
+        SecurityLevelIndex index = securityLevelIndexService.getIndex();
+        LocalDateTime now = LocalDateTime.now(clock);
+
+        BitSet validTrainings = new BitSet(index.size());
+        LocalDateTime[] expiryByBit = new LocalDateTime[index.size()];
+
+        for (UserTrainingStatus status : userTrainingStatusRepository.findByUserId(userId)) {
+            boolean valid = status.getStatus() == ProgressStatus.COMPLETED &&
+                    (status.getValidUntil() == null || status.getValidUntil().isAfter(now)) &&
+                    !status.isPassRevoked();
+            if (!valid) continue;
+
+            int bit = index.bitOf(status.getTraining().getId());
+            if (bit < 0) continue;
+
+            validTrainings.set(bit);
+            expiryByBit[bit] = status.getValidUntil();
         }
+
+        int newClearance = index.highestSatisfiedLevel(validTrainings);
+        return new ClearanceEvaluation(newClearance, index.earliestExpiryUpTo(newClearance, expiryByBit), index.getFingerprint());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,62 @@
+package com.fvps.backend.services.impl;
+
+import com.fvps.backend.events.UserCredentialsChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache of the email-to-id mapping of users.
+ * <p>
+ * Authenticated requests only carry the user's email (the JWT subject), while progress records are keyed by
+ * user id. Users are never deleted and their email never changes, so a mapping never goes stale; entries are
+ * still dropped on {@link UserCredentialsChangedEvent} as a precaution. The cache is bounded by
+ * {@code app.progress.user-id-cache.max-entries}; when full, new mappings are simply not cached.
+ * </p>
+ */
+@Component
+class UserIdCache {
+
+    private final Map<String, UUID> ids = new ConcurrentHashMap<>();
+
+    private final int maxEntries;
+
+    UserIdCache(@Value("${app.progress.user-id-cache.max-entries:50000}") int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * @param email the email of the user.
+     * @return the cached id, or {@code null}.
+     */
+    UUID get(String email) {
+        return ids.get(email);
+    }
+
+    /**
+     * Caches the id of a user.
+     *
+     * @param email  the email of the user.
+     * @param userId the id of the user.
+     */
+    void put(String email, UUID userId) {
+        if (ids.size() < maxEntries) {
+            ids.put(email, userId);
+        }
+    }
+
+    /**
+     * Drops the mapping of a user once the change has been committed.
+     *
+     * @param event the event naming the affected user.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserCredentialsChanged(UserCredentialsChangedEvent event) {
+        ids.remove(event.getEmail());
+    }
+}
@@ -1,15 +1,19 @@
 package com.fvps.backend.services.impl;
 
 import com.fvps.backend.domain.dto.auth.ChangePasswordRequest;
+import com.fvps.backend.domain.dto.user.PassDocument;
 import com.fvps.backend.domain.dto.user.UpdateUserRequest;
 import com.fvps.backend.domain.dto.user.UserPassDto;
 import com.fvps.backend.domain.dto.user.UserSummaryDto;
 import com.fvps.backend.domain.entities.User;
 import com.fvps.backend.domain.enums.UserStatus;
+import com.fvps.backend.events.UserAccessChangedEvent;
+import com.fvps.backend.events.UserCredentialsChangedEvent;
 import com.fvps.backend.repositories.UserRepository;
 import com.fvps.backend.services.*;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.MessageSource;
 import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
@@ -33,11 +37,14 @@ public class UserServiceImpl implements UserService {
     private final AuditLogService auditLogService;
     private final PasswordEncoder passwordEncoder;
     private final FileStorageService fileStorageService;
-    private final PdfGeneratorService pdfGeneratorService;
+    private final PassCacheService passCacheService;
+    private final PassTokenService passTokenService;
+    private final PassRevocationService passRevocationService;
     private final TrainingProgressService trainingProgressService;
     private final UserClearanceService userClearanceService;
     private final EmailService emailService;
     private final MessageSource messageSource;
+    private final ApplicationEventPublisher eventPublisher;
     private final Locale defaultLocale;
     private final Clock clock;
 
@@ -90,6 +97,11 @@ public class UserServiceImpl implements UserService {
         }
 
         userRepository.save(user);
+        if (oldStatus == UserStatus.ACTIVE) {
+            passRevocationService.revoke(userId, "STATUS_" + newStatus);
+        }
+        eventPublisher.publishEvent(new UserAccessChangedEvent(this, userId));
+        eventPublisher.publishEvent(new UserCredentialsChangedEvent(this, user.getEmail()));
 
         auditLogService.logEvent(userId, "USER_STATUS_CHANGE",
                 "Status changed from " + oldStatus + " to " + newStatus);
@@ -170,6 +182,7 @@ public class UserServiceImpl implements UserService {
 
         if (dataChanged) {
             userRepository.save(user);
+            eventPublisher.publishEvent(new UserAccessChangedEvent(this, user.getId()));
             auditLogService.logEvent(user.getId(), "PROFILE_UPDATE", "Updated profile details.");
         }
     }
@@ -187,6 +200,7 @@ public class UserServiceImpl implements UserService {
 
         user.setPassword(passwordEncoder.encode(request.getNewPassword()));
         userRepository.save(user);
+        eventPublisher.publishEvent(new UserCredentialsChangedEvent(this, user.getEmail()));
 
         auditLogService.logEvent(user.getId(), "PASSWORD_CHANGED", "User changed their password.");
     }
@@ -211,6 +225,7 @@ public class UserServiceImpl implements UserService {
 
         if (newAttempts >= maxFailedAttempts) {
             user.setLockoutTime(LocalDateTime.now(clock).plusMinutes(lockTimeMinutes));
+            eventPublisher.publishEvent(new UserCredentialsChangedEvent(this, user.getEmail()));
             auditLogService.logEvent(user.getId(), "ACCOUNT_LOCKED",
                     "Account locked after " + maxFailedAttempts + " failed attempts.");
         } else {
@@ -227,6 +242,7 @@ public class UserServiceImpl implements UserService {
         user.setFailedLoginAttempts(0);
         user.setLockoutTime(null);
         userRepository.save(user);
+        eventPublisher.publishEvent(new UserCredentialsChangedEvent(this, user.getEmail()));
         auditLogService.logEvent(user.getId(), "LOCKOUT_EXPIRED", "Temporary lockout expired. Counters reset.");
     }
 
@@ -234,12 +250,13 @@ public class UserServiceImpl implements UserService {
      * {@inheritDoc}
      * <p>
      * <b>Implementation Note:</b>
-     * Forces a fresh recalculation of user clearance via {@link UserClearanceService} before generating the PDF.
-     * This ensures that if a training expired 1 second ago, the generated pass will correctly reflect the downgraded status.
+     * Reads the clearance through {@link UserClearanceService#getCurrentClearanceLevel(User)}. The stored level is
+     * trusted until its next expiry, so if a training expired 1 second ago it is recalculated and the generated pass
+     * correctly reflects the downgraded status.
      * </p>
      */
     @Override
-    public byte[] generateMyPassPdf(String userEmail) {
+    public PassDocument generateMyPassPdf(String userEmail) {
         User user = userRepository.findByEmail(userEmail)
                 .orElseThrow(() -> new RuntimeException("User not found"));
 
@@ -247,12 +264,8 @@ public class UserServiceImpl implements UserService {
             throw new IllegalStateException("Cannot generate pass. Your account is not active.");
         }
 
-        // Force recalculation to ensure fresh data
-        userClearanceService.recalculateUserClearance(user.getId());
-
-        // Reload user to get updated clearance level
-        user = userRepository.findById(user.getId())
-                .orElseThrow(() -> new IllegalArgumentException("User not found."));
+        // Recalculates only if the stored level reached its next expiry
+        userClearanceService.getCurrentClearanceLevel(user);
 
         var validTrainings = trainingProgressService.getValidTrainingsForUser(user.getId());
 
@@ -260,7 +273,7 @@ public class UserServiceImpl implements UserService {
             throw new IllegalStateException("You have no valid, completed trainings. Please complete required trainings first.");
         }
 
-        byte[] pdf = pdfGeneratorService.generatePassPdf(user, validTrainings);
+        PassDocument pdf = passCacheService.getPass(user, validTrainings);
 
         auditLogService.logEvent(user.getId(), "PASS_DOWNLOADED", "User downloaded their own pass.");
         return pdf;
@@ -276,9 +289,7 @@ public class UserServiceImpl implements UserService {
             throw new IllegalStateException("Account is not active.");
         }
 
-        userClearanceService.recalculateUserClearance(user.getId());
-
-        user = getById(user.getId());
+        userClearanceService.getCurrentClearanceLevel(user);
 
         var validTrainings = trainingProgressService.getValidTrainingsForUser(user.getId());
 
@@ -290,7 +301,7 @@ public class UserServiceImpl implements UserService {
                 .email(user.getEmail())
                 .phoneNumber(user.getPhoneNumber())
                 .clearanceLevel(user.getClearanceLevel())
-                .qrCodeContent(user.getId().toString())
+                .qrCodeContent(passTokenService.getQrContent(user, validTrainings))
                 .validTrainings(validTrainings)
                 .build();
     }
@@ -1,47 +1,143 @@
 package com.fvps.backend.services.impl;
 
+import com.fvps.backend.domain.dto.verification.ClearanceSnapshot;
 import com.fvps.backend.domain.dto.verification.VerificationResponse;
 import com.fvps.backend.domain.entities.User;
 import com.fvps.backend.domain.enums.AppMessage;
 import com.fvps.backend.domain.enums.UserStatus;
+import com.fvps.backend.domain.enums.VerificationMode;
 import com.fvps.backend.repositories.UserRepository;
 import com.fvps.backend.services.AuditLogService;
+import com.fvps.backend.services.ClearanceSnapshotService;
 import com.fvps.backend.services.UserClearanceService;
 import com.fvps.backend.services.VerificationService;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.UUID;
 
 @Service
-@RequiredArgsConstructor
 public class VerificationServiceImpl implements VerificationService {
 
     private final UserRepository userRepository;
     private final UserClearanceService userClearanceService;
     private final AuditLogService auditLogService;
+    private final ClearanceSnapshotService clearanceSnapshotService;
+    private final TransactionTemplate readOnlyTransaction;
+    private final VerificationMode verificationMode;
+
+    public VerificationServiceImpl(
+            UserRepository userRepository,
+            UserClearanceService userClearanceService,
+            AuditLogService auditLogService,
+            ClearanceSnapshotService clearanceSnapshotService,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.verification.mode:CACHED}") VerificationMode verificationMode
+    ) {
+        this.userRepository = userRepository;
+        this.userClearanceService = userClearanceService;
+        this.auditLogService = auditLogService;
+        this.clearanceSnapshotService = clearanceSnapshotService;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.verificationMode = verificationMode;
+    }
 
     /**
      * {@inheritDoc}
      * <p>
+     * <b>Implementation Note:</b> Dispatches to one of two strategies depending on
+     * {@code app.verification.mode} (see {@link VerificationMode}). Both strategies apply the same
+     * decision rules and record the same audit events.
+     * </p>
+     */
+    @Override
+    public VerificationResponse verifyUserAccess(UUID userId, int requiredLevel) {
+        if (verificationMode == VerificationMode.CACHED) {
+            return verifyFromSnapshot(userId, requiredLevel);
+        }
+        return verifyFromDatabase(userId, requiredLevel);
+    }
+
+    /**
+     * Verifies access using an in-memory {@link ClearanceSnapshot}.
+     * <p>
+     * <b>Implementation Note (Performance):</b>
+     * <ul>
+     * <li><b>No writes:</b> The scan never updates the {@code users} row. The snapshot is rebuilt read-only
+     * only when it is missing, was invalidated by a progress change, or reached its expiry instant.</li>
+     * <li><b>Exact expiry:</b> Each snapshot carries the earliest {@code validUntil} that would lower the
+     * clearance, so a training that expired a second ago is still denied.</li>
+     * </ul>
+     * </p>
+     *
+     * @param userId        the UUID extracted from the user's QR code.
+     * @param requiredLevel the minimum security clearance required for the zone.
+     * @return the verification decision.
+     */
+    private VerificationResponse verifyFromSnapshot(UUID userId, int requiredLevel) {
+        ClearanceSnapshot snapshot = clearanceSnapshotService.getSnapshot(userId).orElse(null);
+
+        if (snapshot == null) {
+            return VerificationResponse.builder()
+                    .accessGranted(false)
+                    .message(AppMessage.ACCESS_DENIED_USER_NOT_FOUND.name())
+                    .build();
+        }
+
+        if (snapshot.getStatus() != UserStatus.ACTIVE) {
+            auditLogService.logEvent(userId, "ACCESS_DENIED", "Access denied: Account inactive.");
+            return VerificationResponse.builder()
+                    .accessGranted(false)
+                    .message(AppMessage.ACCESS_DENIED_BLOCKED.name())
+                    .fullName(snapshot.getFullName())
+                    .photoUrl(snapshot.getPhotoUrl())
+                    .build();
+        }
+
+        boolean granted = snapshot.getClearanceLevel() >= requiredLevel;
+        if (granted) {
+            auditLogService.logEvent(userId, "ACCESS_GRANTED",
+                    "Access granted. Required: " + requiredLevel + ", Has: " + snapshot.getClearanceLevel());
+        } else {
+            auditLogService.logEvent(userId, "ACCESS_DENIED",
+                    "Insufficient clearance. Required: " + requiredLevel + ", Has: " + snapshot.getClearanceLevel());
+        }
+
+        return VerificationResponse.builder()
+                .accessGranted(granted)
+                .message(granted ? AppMessage.ACCESS_GRANTED.name() : AppMessage.ACCESS_DENIED_LOW_LEVEL.name())
+                .fullName(snapshot.getFullName())
+                .photoUrl(snapshot.getPhotoUrl())
+                .build();
+    }
+
+    /**
+     * Verifies access against the clearance stored on the user row.
+     * <p>
      * <b>Implementation Note (Security):</b>
      * <ul>
-     * <li><b>Just-In-Time Recalculation:</b> Before making a decision, this method calls
-     * {@link UserClearanceService#recalculateUserClearance(UUID)}. This forces a fresh check
-     * of all expiration dates. Even if the background scheduler hasn't run yet, an expired
-     * training will be detected <i>at the moment of scan</i>, preventing unauthorised access.</li>
+     * <li><b>Read-only:</b> The user is loaded in a read-only transaction, as a scan must not write to the
+     * {@code users} row.</li>
+     * <li><b>Maintained Clearance:</b> The stored level is kept up to date by progress changes and trusted only
+     * until its stored next expiry, so a training that expired a second ago is still detected <i>at the moment
+     * of scan</i>. Only in that case is the level recalculated through
+     * {@link UserClearanceService#getCurrentClearanceLevel(User)}, in its own write transaction.</li>
      * <li><b>Audit Trail:</b> Every scan attempt (successful or failed) is logged.
      * This creates a movement history for the user within the facility.</li>
      * <li><b>Visual Verification:</b> Returns the user's name and photo URL even if access is denied
      * (unless the user is not found), allowing the guard to verify if the person holding the pass is the owner.</li>
      * </ul>
      * </p>
+     *
+     * @param userId        the UUID extracted from the user's QR code.
+     * @param requiredLevel the minimum security clearance required for the zone.
+     * @return the verification decision.
      */
-    @Override
-    @Transactional
-    public VerificationResponse verifyUserAccess(UUID userId, int requiredLevel) {
-        User user = userRepository.findById(userId).orElse(null);
+    private VerificationResponse verifyFromDatabase(UUID userId, int requiredLevel) {
+        User user = readOnlyTransaction.execute(status -> userRepository.findById(userId).orElse(null));
 
         // Scenario 1: QR Code is invalid or user deleted
         if (user == null) {
@@ -62,16 +158,15 @@ public class VerificationServiceImpl implements VerificationService {
                     .build();
         }
 
-        // Force fresh calculation to ensure no stale data is used
-        userClearanceService.recalculateUserClearance(userId);
-
-        // Reload the user to get the calculated level
-        user = userRepository.findById(userId).orElseThrow();
+        // Stored level, recalculated only once it reached its next expiry
+        int clearanceLevel = userClearanceService.isClearanceCurrent(user)
+                ? user.getClearanceLevel()
+                : userClearanceService.getCurrentClearanceLevel(user);
 
         // Scenario 3: Check levels
-        if (user.getClearanceLevel() >= requiredLevel) {
+        if (clearanceLevel >= requiredLevel) {
             auditLogService.logEvent(user.getId(), "ACCESS_GRANTED",
-                    "Access granted. Required: " + requiredLevel + ", Has: " + user.getClearanceLevel());
+                    "Access granted. Required: " + requiredLevel + ", Has: " + clearanceLevel);
 
             return VerificationResponse.builder()
                     .accessGranted(true)
@@ -81,7 +176,7 @@ public class VerificationServiceImpl implements VerificationService {
                     .build();
         } else {
             auditLogService.logEvent(user.getId(), "ACCESS_DENIED",
-                    "Insufficient clearance. Required: " + requiredLevel + ", Has: " + user.getClearanceLevel());
+                    "Insufficient clearance. Required: " + requiredLevel + ", Has: " + clearanceLevel);
 
             return VerificationResponse.builder()
                     .accessGranted(false)
@@ -0,0 +1,24 @@
+package com.fvps.backend;
+
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Bean;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * Provides a PostgreSQL container as the data source of a test context.
+ * <p>
+ * For tests of hand-written SQL and queries whose semantics (locking, {@code ON CONFLICT},
+ * {@code clock_timestamp()}, commit visibility) no in-memory stand-in reproduces. Requires Docker.
+ * </p>
+ */
+@TestConfiguration(proxyBeanMethods = false)
+public class PostgresTestConfiguration {
+
+    @Bean
+    @ServiceConnection
+    PostgreSQLContainer<?> postgres() {
+        return new PostgreSQLContainer<>(DockerImageName.parse("postgres:17-alpine"));
+    }
+}
@@ -0,0 +1,97 @@
+package com.fvps.backend.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CompiledAnswerKeyTest {
+
+    // Sign bits differ, so signed ordering matters for the binary search.
+    private static final UUID Q1 = UUID.fromString("00000000-0000-0001-0000-000000000001");
+    private static final UUID Q2 = UUID.fromString("00000000-0000-0001-8000-000000000000");
+    private static final UUID Q3 = UUID.fromString("80000000-0000-0000-0000-000000000000");
+    private static final UUID Q4 = UUID.fromString("7fffffff-ffff-ffff-ffff-ffffffffffff");
+
+    private final CompiledAnswerKey key = CompiledAnswerKey.compile(Map.of(Q1, 0, Q2, 1, Q3, 2, Q4, 3));
+
+    @Test
+    void scoresAllCorrectAnswers() {
+        CompiledAnswerKey.Result result = key.score(Map.of(Q1, 0, Q2, 1, Q3, 2, Q4, 3));
+
+        assertThat(result.correctCount()).isEqualTo(4);
+        assertThat(result.questionCount()).isEqualTo(4);
+        assertThat(result.score()).isEqualTo(1.0);
+        assertThat(result.correctAnswers().cardinality()).isEqualTo(4);
+    }
+
+    @Test
+    void marksWrongAnswersByKeyPosition() {
+        CompiledAnswerKey.Result result = key.score(Map.of(Q1, 0, Q2, 0, Q3, 2, Q4, 0));
+
+        assertThat(result.correctCount()).isEqualTo(2);
+        assertThat(result.score()).isEqualTo(0.5);
+
+        Map<UUID, Boolean> correctByQuestion = new HashMap<>();
+        for (int i = 0; i < key.size(); i++) {
+            correctByQuestion.put(key.questionId(i), result.correctAnswers().get(i));
+        }
+        assertThat(correctByQuestion).containsExactlyInAnyOrderEntriesOf(Map.of(Q1, true, Q2, false, Q3, true, Q4, false));
+    }
+
+    @Test
+    void ordersQuestionsBySignedBits() {
+        assertThat(key.size()).isEqualTo(4);
+        assertThat(key.questionId(0)).isEqualTo(Q3);
+        assertThat(key.questionId(1)).isEqualTo(Q2);
+        assertThat(key.questionId(2)).isEqualTo(Q1);
+        assertThat(key.questionId(3)).isEqualTo(Q4);
+    }
+
+    @Test
+    void rejectsIncompleteSubmissions() {
+        assertThatThrownBy(() -> key.score(Map.of(Q1, 0, Q2, 1, Q3, 2)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> key.score(null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void rejectsAnswersToUnknownQuestions() {
+        assertThatThrownBy(() -> key.score(Map.of(Q1, 0, Q2, 1, Q3, 2, UUID.randomUUID(), 3)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("unknown question");
+    }
+
+    @Test
+    void rejectsMissingAnswerValues() {
+        Map<UUID, Integer> answers = new LinkedHashMap<>();
+        answers.put(Q1, 0);
+        answers.put(Q2, 1);
+        answers.put(Q3, 2);
+        answers.put(Q4, null);
+
+        assertThatThrownBy(() -> key.score(answers))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Missing answer");
+    }
+
+    @Test
+    void rejectsOptionIndexesThatDoNotFitAByte() {
+        assertThatThrownBy(() -> CompiledAnswerKey.compile(Map.of(Q1, 128)))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> CompiledAnswerKey.compile(Map.of(Q1, -1)))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void compilesAnEmptyModuleToTheSharedEmptyKey() {
+        assertThat(CompiledAnswerKey.compile(Map.of())).isSameAs(CompiledAnswerKey.EMPTY);
+        assertThat(CompiledAnswerKey.EMPTY.size()).isZero();
+    }
+}
@@ -0,0 +1,150 @@
+package com.fvps.backend.services.impl;
+
+import com.fvps.backend.PostgresTestConfiguration;
+import com.fvps.backend.domain.dto.audit.AuditLogCursorPage;
+import com.fvps.backend.domain.dto.audit.AuditLogFilter;
+import com.fvps.backend.domain.entities.AuditLog;
+import com.fvps.backend.repositories.AuditLogRepository;
+import com.fvps.backend.services.AuditLogWriter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Runs the keyset pagination of {@link AuditLogServiceImpl#getLogs} against PostgreSQL.
+ */
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=create-drop")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(PostgresTestConfiguration.class)
+class AuditLogServiceImplTest {
+
+    /**
+     * PostgreSQL compares UUIDs as unsigned bytes, which is the order of their hex strings, not of
+     * {@link UUID#compareTo}.
+     */
+    private static final Comparator<AuditLog> NEWEST_FIRST = Comparator.comparing(AuditLog::getTimestamp)
+            .thenComparing((AuditLog entry) -> entry.getId().toString()).reversed();
+
+    @Autowired
+    private AuditLogRepository repository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<AuditLog> table = new ArrayList<>();
+
+    private AuditLogServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        service = new AuditLogServiceImpl(repository, mock(AuditLogWriter.class), jdbcTemplate, Clock.systemUTC());
+    }
+
+    @Test
+    void pagesThroughEqualTimestampsWithoutGapsOrDuplicates() {
+        LocalDateTime base = LocalDateTime.of(2026, 3, 1, 8, 0, 0, 123_456_000);
+        for (int second = 0; second < 5; second++) {
+            for (int i = 0; i < 5; i++) {
+                entry(base.plusSeconds(second), "SCAN");
+            }
+        }
+        store();
+
+        List<UUID> seen = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            AuditLogCursorPage page = service.getLogs(null, cursor, 4);
+            page.getItems().forEach(item -> seen.add(item.getId()));
+            assertThat(page.isHasMore()).isEqualTo(page.getNextCursor() != null);
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertThat(pages).isEqualTo(7);
+        assertThat(seen).doesNotHaveDuplicates().containsExactlyElementsOf(newestFirst());
+    }
+
+    @Test
+    void cursorContinuesRightAfterTheLastEntryReturned() {
+        LocalDateTime timestamp = LocalDateTime.of(2026, 3, 1, 8, 0, 0, 1_000);
+        for (int i = 0; i < 6; i++) {
+            entry(timestamp, "SCAN");
+        }
+        store();
+        List<UUID> expected = newestFirst();
+
+        AuditLogCursorPage first = service.getLogs(null, null, 3);
+        AuditLogCursorPage second = service.getLogs(null, first.getNextCursor(), 3);
+
+        assertThat(first.getItems()).extracting(AuditLog::getId).containsExactlyElementsOf(expected.subList(0, 3));
+        assertThat(first.isHasMore()).isTrue();
+        assertThat(second.getItems()).extracting(AuditLog::getId).containsExactlyElementsOf(expected.subList(3, 6));
+        assertThat(second.isHasMore()).isFalse();
+        assertThat(second.getNextCursor()).isNull();
+    }
+
+    @Test
+    void appliesFiltersTogetherWithTheCursor() {
+        LocalDateTime base = LocalDateTime.of(2026, 3, 1, 8, 0);
+        for (int i = 0; i < 10; i++) {
+            entry(base.plusMinutes(i / 2), i % 2 == 0 ? "ACCESS_GRANTED" : "ACCESS_DENIED");
+        }
+        store();
+        AuditLogFilter filter = AuditLogFilter.builder().action("ACCESS_DENIED").build();
+
+        AuditLogCursorPage first = service.getLogs(filter, null, 3);
+        AuditLogCursorPage second = service.getLogs(filter, first.getNextCursor(), 3);
+
+        assertThat(first.getItems()).hasSize(3).allMatch(item -> item.getAction().equals("ACCESS_DENIED"));
+        assertThat(second.getItems()).hasSize(2).allMatch(item -> item.getAction().equals("ACCESS_DENIED"));
+        assertThat(second.isHasMore()).isFalse();
+    }
+
+    @Test
+    void rejectsMalformedCursors() {
+        assertThatThrownBy(() -> service.getLogs(null, "not a cursor!", 10))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> service.getLogs(null, "bm8tc2VwYXJhdG9y", 10))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private void entry(LocalDateTime timestamp, String action) {
+        table.add(AuditLog.builder()
+                .action(action)
+                .details("-")
+                .timestamp(timestamp)
+                .build());
+    }
+
+    /**
+     * Inserts the entries and detaches them, so pages are read back from the database.
+     */
+    private void store() {
+        repository.saveAllAndFlush(table);
+        entityManager.clear();
+    }
+
+    private List<UUID> newestFirst() {
+        return table.stream().sorted(NEWEST_FIRST).map(AuditLog::getId).toList();
+    }
+}
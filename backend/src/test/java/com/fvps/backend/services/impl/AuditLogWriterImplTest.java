@@ -0,0 +1,80 @@
+package com.fvps.backend.services.impl;
+
+import com.fvps.backend.domain.entities.AuditLog;
+import com.fvps.backend.domain.enums.AuditDurability;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AuditLogWriterImplTest {
+
+    @TempDir
+    Path spoolDir;
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+
+    @Test
+    void throwsWhenTheSynchronousFallbackCannotWrite() {
+        when(jdbcTemplate.batchUpdate(anyString(), any(List.class), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenThrow(new DataAccessResourceFailureException("Connection refused"));
+
+        for (AuditDurability durability : AuditDurability.values()) {
+            // Never started, so every entry takes the synchronous path.
+            AuditLogWriterImpl writer = writer(durability);
+
+            assertThatThrownBy(() -> writer.write(entry("Blocked user")))
+                    .as(durability.name())
+                    .isInstanceOf(DataAccessResourceFailureException.class);
+        }
+    }
+
+    @Test
+    void truncatesDetailsToTheColumnLength() {
+        String details = "x".repeat(AuditLog.DETAILS_LENGTH + 40);
+
+        String truncated = AuditLogWriterImpl.truncateDetails(details);
+
+        assertThat(truncated).hasSize(AuditLog.DETAILS_LENGTH).endsWith("...");
+        assertThat(AuditLogWriterImpl.truncateDetails("Blocked user")).isEqualTo("Blocked user");
+        assertThat(AuditLogWriterImpl.truncateDetails(details.substring(0, AuditLog.DETAILS_LENGTH)))
+                .isEqualTo(details.substring(0, AuditLog.DETAILS_LENGTH));
+    }
+
+    @Test
+    void doesNotSplitASurrogatePairWhenTruncating() {
+        int cut = AuditLog.DETAILS_LENGTH - 3;
+        String details = "x".repeat(cut - 1) + "\uD83D\uDE00" + "x".repeat(40);
+
+        String truncated = AuditLogWriterImpl.truncateDetails(details);
+
+        assertThat(truncated).isEqualTo("x".repeat(cut - 1) + "...");
+    }
+
+    private AuditLogWriterImpl writer(AuditDurability durability) {
+        return new AuditLogWriterImpl(jdbcTemplate, mock(PlatformTransactionManager.class), durability,
+                10, 10, 200, 1000, 1000, false, spoolDir.toString(), 64 * 1024);
+    }
+
+    private static AuditLog entry(String details) {
+        return AuditLog.builder()
+                .action("USER_BLOCKED")
+                .details(details)
+                .timestamp(LocalDateTime.of(2026, 3, 1, 8, 0))
+                .build();
+    }
+}
@@ -0,0 +1,209 @@
+package com.fvps.backend.services.impl;
+
+import com.fvps.backend.domain.entities.AuditLog;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuditSpoolTest {
+
+    private static final int SEGMENT_SIZE = 64 * 1024;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void readsEntriesBackInOrder() throws IOException {
+        try (AuditSpool spool = new AuditSpool(directory, SEGMENT_SIZE)) {
+            List<AuditLog> written = appendEntries(spool, 5);
+
+            AuditSpool.Batch batch = spool.readBatch(10);
+
+            assertThat(ids(batch.entries())).containsExactlyElementsOf(ids(written));
+            assertThat(batch.entries().getFirst().getDetails()).isEqualTo(written.getFirst().getDetails());
+            assertThat(batch.entries().getFirst().getTimestamp()).isEqualTo(written.getFirst().getTimestamp());
+        }
+    }
+
+    @Test
+    void readingDoesNotConsumeUntilAcknowledged() throws IOException {
+        try (AuditSpool spool = new AuditSpool(directory, SEGMENT_SIZE)) {
+            List<AuditLog> written = appendEntries(spool, 3);
+
+            assertThat(ids(spool.readBatch(10).entries())).containsExactlyElementsOf(ids(written));
+            AuditSpool.Batch again = spool.readBatch(10);
+            assertThat(ids(again.entries())).containsExactlyElementsOf(ids(written));
+
+            spool.acknowledge(again);
+            assertThat(spool.readBatch(10).entries()).isEmpty();
+        }
+    }
+
+    @Test
+    void rollsOverToNewSegmentsAndDeletesThemOnceAcknowledged() throws IOException {
+        int recordSize = 8 + AuditSpool.encode(entry(0)).length;
+        try (AuditSpool spool = new AuditSpool(directory, recordSize * 3)) {
+            List<AuditLog> written = appendEntries(spool, 10);
+            assertThat(segmentFiles()).hasSize(4);
+
+            List<AuditLog> read = new ArrayList<>();
+            AuditSpool.Batch batch;
+            while (!(batch = spool.readBatch(4)).entries().isEmpty()) {
+                read.addAll(batch.entries());
+                spool.acknowledge(batch);
+            }
+
+            assertThat(ids(read)).containsExactlyElementsOf(ids(written));
+            // Only the active segment is left.
+            assertThat(segmentFiles()).hasSize(1);
+        }
+    }
+
+    @Test
+    void replaysUnacknowledgedEntriesAfterRestart() throws IOException {
+        List<AuditLog> written;
+        try (AuditSpool spool = new AuditSpool(directory, SEGMENT_SIZE)) {
+            written = appendEntries(spool, 4);
+        }
+
+        try (AuditSpool reopened = new AuditSpool(directory, SEGMENT_SIZE)) {
+            assertThat(ids(reopened.readBatch(10).entries())).containsExactlyElementsOf(ids(written));
+        }
+    }
+
+    @Test
+    void doesNotReplayAcknowledgedEntriesAfterRestart() throws IOException {
+        List<AuditLog> written;
+        try (AuditSpool spool = new AuditSpool(directory, SEGMENT_SIZE)) {
+            written = appendEntries(spool, 5);
+            spool.acknowledge(spool.readBatch(3));
+        }
+
+        List<AuditLog> replayed;
+        List<AuditLog> appendedLater;
+        try (AuditSpool reopened = new AuditSpool(directory, SEGMENT_SIZE)) {
+            AuditSpool.Batch batch = reopened.readBatch(10);
+            replayed = batch.entries();
+            reopened.acknowledge(batch);
+            appendedLater = appendEntries(reopened, 1);
+        }
+        assertThat(ids(replayed)).containsExactlyElementsOf(ids(written.subList(3, 5)));
+
+        try (AuditSpool reopened = new AuditSpool(directory, SEGMENT_SIZE)) {
+            assertThat(ids(reopened.readBatch(10).entries())).containsExactlyElementsOf(ids(appendedLater));
+        }
+    }
+
+    @Test
+    void deletesFullyAcknowledgedSegmentsOnRestart() throws IOException {
+        try (AuditSpool spool = new AuditSpool(directory, SEGMENT_SIZE)) {
+            appendEntries(spool, 3);
+            spool.acknowledge(spool.readBatch(10));
+        }
+
+        try (AuditSpool reopened = new AuditSpool(directory, SEGMENT_SIZE)) {
+            assertThat(reopened.readBatch(10).entries()).isEmpty();
+            assertThat(segmentFiles()).hasSize(1);
+        }
+    }
+
+    @Test
+    void ignoresACorruptCheckpoint() throws IOException {
+        List<AuditLog> written;
+        try (AuditSpool spool = new AuditSpool(directory, SEGMENT_SIZE)) {
+            written = appendEntries(spool, 3);
+            spool.acknowledge(spool.readBatch(2));
+        }
+        Files.write(directory.resolve("audit.ack"), new byte[16]);
+
+        try (AuditSpool reopened = new AuditSpool(directory, SEGMENT_SIZE)) {
+            assertThat(ids(reopened.readBatch(10).entries())).containsExactlyElementsOf(ids(written));
+        }
+    }
+
+    @Test
+    void skipsOnlyARecordWhoseChecksumDoesNotMatch() throws IOException {
+        int recordSize = 8 + AuditSpool.encode(entry(0)).length;
+        try (AuditSpool spool = new AuditSpool(directory, SEGMENT_SIZE)) {
+            List<AuditLog> written = appendEntries(spool, 3);
+            corrupt(segmentFiles().getFirst(), recordSize + 8 + 20);
+
+            assertThat(ids(spool.readBatch(10).entries())).containsExactly(written.get(0).getId(), written.get(2).getId());
+
+            // Reading again from the same position gives the same result; later appends are still found.
+            List<AuditLog> appended = appendEntries(spool, 1);
+            assertThat(ids(spool.readBatch(10).entries()))
+                    .containsExactly(written.get(0).getId(), written.get(2).getId(), appended.getFirst().getId());
+        }
+    }
+
+    @Test
+    void continuesInANewSegmentAfterACorruptRecordLength() throws IOException {
+        int recordSize = 8 + AuditSpool.encode(entry(0)).length;
+        try (AuditSpool spool = new AuditSpool(directory, SEGMENT_SIZE)) {
+            List<AuditLog> written = appendEntries(spool, 3);
+            corrupt(segmentFiles().getFirst(), recordSize);
+
+            AuditSpool.Batch batch = spool.readBatch(10);
+            assertThat(ids(batch.entries())).containsExactly(written.getFirst().getId());
+
+            List<AuditLog> appended = appendEntries(spool, 2);
+            assertThat(segmentFiles()).hasSize(2);
+            assertThat(ids(spool.readBatch(10).entries()))
+                    .containsExactly(written.getFirst().getId(), appended.get(0).getId(), appended.get(1).getId());
+        }
+    }
+
+    private static void corrupt(Path file, int position) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer current = ByteBuffer.allocate(1);
+            channel.read(current, position);
+            channel.write(ByteBuffer.wrap(new byte[]{(byte) ~current.get(0)}), position);
+        }
+    }
+
+    private static List<AuditLog> appendEntries(AuditSpool spool, int count) throws IOException {
+        List<AuditLog> entries = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            AuditLog entry = entry(i);
+            spool.append(entry, false);
+            entries.add(entry);
+        }
+        return entries;
+    }
+
+    private static AuditLog entry(int index) {
+        return AuditLog.builder()
+                .id(UUID.randomUUID())
+                .userId(UUID.randomUUID())
+                .actor("admin@fvps.local")
+                .action("TEST_EVENT")
+                .details("Entry " + index)
+                .timestamp(LocalDateTime.of(2026, 1, 1, 12, 0).plusSeconds(index).plusNanos(123_000))
+                .ipAddress("127.0.0.1")
+                .build();
+    }
+
+    private static List<UUID> ids(List<AuditLog> entries) {
+        return entries.stream().map(AuditLog::getId).toList();
+    }
+
+    private List<Path> segmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(".seg")).toList();
+        }
+    }
+}
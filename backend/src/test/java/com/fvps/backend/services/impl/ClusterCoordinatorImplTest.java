@@ -0,0 +1,173 @@
+package com.fvps.backend.services.impl;
+
+import com.fvps.backend.PostgresTestConfiguration;
+import com.fvps.backend.events.PartitionOwnershipChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Runs {@link ClusterCoordinatorImpl} nodes against a PostgreSQL {@code cluster_leases} table. Every statement
+ * commits on its own, as in production; lapsed leases are simulated by moving {@code expires_at} into the past.
+ */
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=create-drop")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(PostgresTestConfiguration.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ClusterCoordinatorImplTest {
+
+    private static final int PARTITIONS = 2;
+    private static final long TTL = 10_000;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private final List<PartitionOwnershipChangedEvent> events = new ArrayList<>();
+
+    private long now = 1_700_000_000_000L;
+    private boolean databaseDown;
+
+    private JdbcTemplate jdbcTemplate;
+    private Clock clock;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(new DelegatingDataSource(dataSource) {
+            @Override
+            public Connection getConnection() throws SQLException {
+                if (databaseDown) {
+                    throw new SQLException("Connection refused");
+                }
+                return super.getConnection();
+            }
+        });
+        jdbcTemplate.update("DELETE FROM cluster_leases");
+
+        // Only drives the local lease deadline; the leases themselves follow the database clock.
+        clock = mock(Clock.class);
+        when(clock.millis()).thenAnswer(invocation -> now);
+    }
+
+    @Test
+    void aSingleNodeAcquiresEveryPartitionWithTheFirstToken() {
+        ClusterCoordinatorImpl node = node();
+
+        node.heartbeat();
+
+        assertThat(node.getOwnedPartitions()).isEqualTo(Map.of(0, 1L, 1, 1L));
+        assertThat(node.getFencingToken(0)).isEqualTo(OptionalLong.of(1));
+        assertThat(events).singleElement().satisfies(event -> {
+            assertThat(event.getAcquired()).containsExactlyInAnyOrder(0, 1);
+            assertThat(event.getReleased()).isEmpty();
+        });
+    }
+
+    @Test
+    void aJoiningNodeTakesOverItsShareWithANewToken() {
+        ClusterCoordinatorImpl first = node();
+        ClusterCoordinatorImpl second = node();
+        first.heartbeat();
+
+        second.heartbeat();
+        assertThat(second.getOwnedPartitions()).isEmpty();
+
+        first.heartbeat();
+        second.heartbeat();
+
+        assertThat(first.getOwnedPartitions()).isEqualTo(Map.of(0, 1L));
+        assertThat(second.getOwnedPartitions()).isEqualTo(Map.of(1, 2L));
+    }
+
+    @Test
+    void aLeaseTakenOverByAnotherNodeIsNotRegained() {
+        ClusterCoordinatorImpl stalled = node();
+        ClusterCoordinatorImpl other = node();
+        stalled.heartbeat();
+
+        lapseLeasesOf(stalled);
+        other.heartbeat();
+        assertThat(other.getOwnedPartitions()).isEqualTo(Map.of(0, 2L, 1, 2L));
+
+        // The stalled node comes back; its renewals carry the old token and must fail.
+        events.clear();
+        stalled.heartbeat();
+
+        assertThat(stalled.getOwnedPartitions()).isEmpty();
+        assertThat(stalled.getFencingToken(0)).isEmpty();
+        assertThat(ownerOf("partition:0")).isEqualTo(other.getNodeId());
+        assertThat(events).singleElement()
+                .satisfies(event -> assertThat(event.getReleased()).containsExactlyInAnyOrder(0, 1));
+
+        // Once the other node hands one back, the returning node gets it under a newer token.
+        other.heartbeat();
+        stalled.heartbeat();
+        assertThat(other.getOwnedPartitions()).isEqualTo(Map.of(0, 2L));
+        assertThat(stalled.getOwnedPartitions()).isEqualTo(Map.of(1, 3L));
+    }
+
+    @Test
+    void stopsTrustingItsLeasesBeforeTheyCanLapseWhenTheDatabaseIsUnreachable() {
+        ClusterCoordinatorImpl node = node();
+        node.heartbeat();
+        long renewedAt = now;
+
+        databaseDown = true;
+        now = renewedAt + TTL - 1;
+        node.heartbeat();
+        assertThat(node.getFencingToken(0)).isEqualTo(OptionalLong.of(1));
+
+        now = renewedAt + TTL;
+        assertThat(node.getFencingToken(0)).isEmpty();
+        assertThat(node.getOwnedPartitions()).isEmpty();
+    }
+
+    @Test
+    void handsItsPartitionsBackOnShutdown() {
+        ClusterCoordinatorImpl leaving = node();
+        ClusterCoordinatorImpl staying = node();
+        leaving.heartbeat();
+
+        leaving.stop();
+        staying.heartbeat();
+
+        assertThat(leaving.getOwnedPartitions()).isEmpty();
+        assertThat(staying.getOwnedPartitions()).isEqualTo(Map.of(0, 2L, 1, 2L));
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM cluster_leases WHERE name = ?", Long.class,
+                "node:" + leaving.getNodeId())).isZero();
+    }
+
+    private ClusterCoordinatorImpl node() {
+        ApplicationEventPublisher publisher = event -> events.add((PartitionOwnershipChangedEvent) event);
+        return new ClusterCoordinatorImpl(jdbcTemplate, publisher, clock, PARTITIONS, TTL, 2000);
+    }
+
+    private void lapseLeasesOf(ClusterCoordinatorImpl node) {
+        jdbcTemplate.update("UPDATE cluster_leases SET expires_at = clock_timestamp() - interval '1 second' WHERE owner = ?",
+                node.getNodeId());
+    }
+
+    private String ownerOf(String lease) {
+        return jdbcTemplate.queryForObject("SELECT owner FROM cluster_leases WHERE name = ?", String.class, lease);
+    }
+}
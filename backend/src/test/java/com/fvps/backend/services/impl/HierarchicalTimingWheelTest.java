@@ -0,0 +1,100 @@
+package com.fvps.backend.services.impl;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HierarchicalTimingWheelTest {
+
+    private static final long TICK = 1000;
+    private static final long START = 1_700_000_000_000L;
+
+    private final HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(TICK, START);
+
+    @Test
+    void firesInTheFirstTickAfterTheDeadline() {
+        wheel.schedule("a", START + 2500);
+
+        assertThat(wheel.advance(START + 2999)).isEmpty();
+        assertThat(wheel.advance(START + 3000)).containsExactly("a");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void firesAPastDeadlineOnTheNextAdvance() {
+        wheel.schedule("late", START - 60_000);
+
+        assertThat(wheel.advance(START)).containsExactly("late");
+    }
+
+    @Test
+    void cascadesEntriesFromHigherLevelsToTheirExactTick() {
+        long[] deadlineTicks = {63, 64, 65, 4095, 4096, 4097, 262_145, 300_001};
+        for (long ticks : deadlineTicks) {
+            wheel.schedule("t" + ticks, START + ticks * TICK);
+        }
+
+        for (long ticks : deadlineTicks) {
+            assertThat(wheel.advance(START + (ticks - 1) * TICK)).as("before %d", ticks).isEmpty();
+            assertThat(wheel.advance(START + ticks * TICK)).as("at %d", ticks).containsExactly("t" + ticks);
+        }
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void returnsEverythingDueInOneLargeStepInDeadlineOrder() {
+        wheel.schedule("c", START + 5000 * TICK);
+        wheel.schedule("a", START + 10 * TICK);
+        wheel.schedule("b", START + 70 * TICK);
+        wheel.schedule("later", START + 5001 * TICK);
+
+        assertThat(wheel.advance(START + 5000 * TICK)).containsExactly("a", "b", "c");
+        assertThat(wheel.size()).isEqualTo(1);
+    }
+
+    @Test
+    void reschedulingMovesTheKey() {
+        wheel.schedule("k", START + 10 * TICK);
+        wheel.schedule("k", START + 200 * TICK);
+
+        assertThat(wheel.size()).isEqualTo(1);
+        assertThat(wheel.advance(START + 199 * TICK)).isEmpty();
+        assertThat(wheel.advance(START + 200 * TICK)).containsExactly("k");
+    }
+
+    @Test
+    void cancelledKeysDoNotFire() {
+        wheel.schedule("keep", START + 5 * TICK);
+        wheel.schedule("drop", START + 5 * TICK);
+
+        assertThat(wheel.cancel("drop")).isTrue();
+        assertThat(wheel.cancel("drop")).isFalse();
+        assertThat(wheel.advance(START + 5 * TICK)).containsExactly("keep");
+    }
+
+    @Test
+    void removesMatchingKeys() {
+        for (int i = 0; i < 10; i++) {
+            wheel.schedule("k" + i, START + (i + 1) * 100 * TICK);
+        }
+
+        assertThat(wheel.removeIf(key -> Integer.parseInt(key.substring(1)) % 2 == 0)).isEqualTo(5);
+
+        List<String> fired = new ArrayList<>(wheel.advance(START + 1000 * TICK));
+        assertThat(fired).containsExactly("k1", "k3", "k5", "k7", "k9");
+    }
+
+    @Test
+    void entriesScheduledAfterAnIdleStretchStillFireOnTime() {
+        // An empty wheel skips ahead instead of turning through every tick.
+        assertThat(wheel.advance(START + 1_000_000 * TICK)).isEmpty();
+
+        long now = START + 1_000_000 * TICK;
+        wheel.schedule("x", now + 100 * TICK);
+        assertThat(wheel.advance(now + 99 * TICK)).isEmpty();
+        assertThat(wheel.advance(now + 100 * TICK)).containsExactly("x");
+    }
+}
@@ -0,0 +1,193 @@
+package com.fvps.backend.services.impl;
+
+import com.fvps.backend.PostgresTestConfiguration;
+import com.fvps.backend.domain.dto.verification.RevocationFeedDto;
+import com.fvps.backend.repositories.PassRevocationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Reads the revocation feed from PostgreSQL. Every insert commits on its own, so the visibility of rows
+ * is the database's, including sequence numbers that become visible out of order.
+ */
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=create-drop")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(PostgresTestConfiguration.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PassRevocationServiceImplTest {
+
+    private static final long SETTLE_MS = 30_000;
+    private static final String INSERT_SQL =
+            "INSERT INTO pass_revocations (user_id, revoked_at, reason) VALUES (?, ?, 'CLEARANCE_DOWNGRADED')";
+
+    @Autowired
+    private PassRevocationRepository repository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private Instant now = Instant.parse("2026-03-01T08:00:00Z");
+    private PassRevocationServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("TRUNCATE pass_revocations RESTART IDENTITY");
+
+        Clock clock = mock(Clock.class);
+        when(clock.instant()).thenAnswer(invocation -> now);
+        when(clock.getZone()).thenReturn(ZoneOffset.UTC);
+        service = new PassRevocationServiceImpl(repository, clock, SETTLE_MS, 30);
+    }
+
+    @Test
+    void nextSinceStopsBeforeTheFirstUnsettledEntry() {
+        revocation(Duration.ofMinutes(5));
+        revocation(Duration.ofSeconds(31));
+        revocation(Duration.ofSeconds(10));
+        // Older than the one before it: a transaction that committed late. Still must not be skipped.
+        revocation(Duration.ofMinutes(5));
+
+        RevocationFeedDto feed = service.getFeed(0, 100);
+
+        assertThat(feed.getRevocations()).extracting(RevocationFeedDto.Entry::getSequence).containsExactly(1L, 2L, 3L, 4L);
+        assertThat(feed.getNextSince()).isEqualTo(2);
+        assertThat(feed.isHasMore()).isFalse();
+    }
+
+    @Test
+    void unsettledEntriesAreReturnedAgainUntilTheySettle() {
+        revocation(Duration.ofMinutes(5));
+        revocation(Duration.ofSeconds(10));
+
+        RevocationFeedDto first = service.getFeed(0, 100);
+        RevocationFeedDto again = service.getFeed(first.getNextSince(), 100);
+        assertThat(first.getNextSince()).isEqualTo(1);
+        assertThat(again.getRevocations()).extracting(RevocationFeedDto.Entry::getSequence).containsExactly(2L);
+        assertThat(again.getNextSince()).isEqualTo(1);
+
+        now = now.plusMillis(SETTLE_MS);
+        assertThat(service.getFeed(again.getNextSince(), 100).getNextSince()).isEqualTo(2);
+    }
+
+    @Test
+    void deliversALowerSequenceThatCommitsAfterAHigherOne() throws SQLException {
+        try (Connection slow = dataSource.getConnection()) {
+            slow.setAutoCommit(false);
+            try (PreparedStatement insert = slow.prepareStatement(INSERT_SQL)) {
+                insert.setObject(1, UUID.randomUUID());
+                insert.setObject(2, revokedAt(Duration.ZERO));
+                insert.executeUpdate();
+            }
+            revocation(Duration.ZERO);
+
+            RevocationFeedDto before = service.getFeed(0, 100);
+            assertThat(before.getRevocations()).extracting(RevocationFeedDto.Entry::getSequence).containsExactly(2L);
+            assertThat(before.getNextSince()).isZero();
+
+            slow.commit();
+        }
+
+        RevocationFeedDto after = service.getFeed(0, 100);
+        assertThat(after.getRevocations()).extracting(RevocationFeedDto.Entry::getSequence).containsExactly(1L, 2L);
+
+        now = now.plusMillis(SETTLE_MS + 1);
+        assertThat(service.getFeed(0, 100).getNextSince()).isEqualTo(2);
+    }
+
+    @Test
+    void anEntryExactlyAtTheSettleBoundaryIsNotYetSettled() {
+        revocation(Duration.ofMillis(SETTLE_MS));
+
+        assertThat(service.getFeed(0, 100).getNextSince()).isZero();
+    }
+
+    @Test
+    void reportsMoreOnlyForAFullPageOfSettledEntries() {
+        for (int i = 0; i < 5; i++) {
+            revocation(Duration.ofMinutes(1));
+        }
+
+        RevocationFeedDto page = service.getFeed(0, 2);
+        assertThat(page.getNextSince()).isEqualTo(2);
+        assertThat(page.isHasMore()).isTrue();
+
+        revocation(Duration.ZERO);
+        revocation(Duration.ZERO);
+        RevocationFeedDto tail = service.getFeed(4, 3);
+        assertThat(tail.getRevocations()).hasSize(3);
+        assertThat(tail.getNextSince()).isEqualTo(5);
+        // The client must wait for entry 6 to settle rather than poll again right away.
+        assertThat(tail.isHasMore()).isFalse();
+    }
+
+    @Test
+    void keepsThePositionWhenNothingIsNew() {
+        revocation(Duration.ofMinutes(1));
+
+        RevocationFeedDto feed = service.getFeed(7, 100);
+
+        assertThat(feed.getRevocations()).isEmpty();
+        assertThat(feed.getNextSince()).isEqualTo(7);
+        assertThat(feed.isHasMore()).isFalse();
+    }
+
+    @Test
+    void clampsTheRequestedLimit() {
+        jdbcTemplate.update("INSERT INTO pass_revocations (user_id, revoked_at, reason) "
+                + "SELECT gen_random_uuid(), ?, 'CLEARANCE_DOWNGRADED' FROM generate_series(1, 5001)",
+                revokedAt(Duration.ofMinutes(1)));
+
+        assertThat(service.getFeed(0, 0).getRevocations()).hasSize(1);
+        RevocationFeedDto capped = service.getFeed(0, 1_000_000);
+        assertThat(capped.getRevocations()).hasSize(5000);
+        assertThat(capped.isHasMore()).isTrue();
+    }
+
+    @Test
+    void reportsRevocationTimesInEpochSeconds() {
+        UUID userId = revocation(Duration.ofMinutes(1));
+
+        RevocationFeedDto.Entry entry = service.getFeed(0, 100).getRevocations().getFirst();
+
+        assertThat(entry.getUserId()).isEqualTo(userId);
+        assertThat(entry.getRevokedAt()).isEqualTo(now.minus(Duration.ofMinutes(1)).getEpochSecond());
+    }
+
+    /**
+     * Inserts and commits a revocation of the given age; the database assigns the next sequence number.
+     */
+    private UUID revocation(Duration age) {
+        UUID userId = UUID.randomUUID();
+        jdbcTemplate.update(INSERT_SQL, userId, revokedAt(age));
+        return userId;
+    }
+
+    private LocalDateTime revokedAt(Duration age) {
+        return LocalDateTime.ofInstant(now.minus(age), ZoneOffset.UTC);
+    }
+}
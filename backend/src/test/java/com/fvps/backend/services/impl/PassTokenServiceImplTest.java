@@ -0,0 +1,162 @@
+package com.fvps.backend.services.impl;
+
+import com.fvps.backend.domain.dto.training.UserTrainingDto;
+import com.fvps.backend.domain.dto.verification.PassTokenKeyDto;
+import com.fvps.backend.domain.entities.User;
+import com.fvps.backend.domain.enums.PassQrFormat;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.Signature;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PassTokenServiceImplTest {
+
+    private static final Instant NOW = Instant.parse("2026-03-01T08:00:00Z");
+    private static final Clock CLOCK = Clock.fixed(NOW, ZoneOffset.UTC);
+    private static final int MAX_TTL_DAYS = 30;
+
+    private final KeyPair keys = generateKeyPair();
+    private final User user = User.builder().id(UUID.randomUUID()).clearanceLevel(3).build();
+
+    @Test
+    void encodesTheDocumentedLayout() {
+        LocalDateTime expiresAt = LocalDateTime.ofInstant(NOW.plus(Duration.ofDays(5)), ZoneOffset.UTC);
+
+        String token = service(PassQrFormat.SIGNED_TOKEN, "2026-01").issueToken(user, expiresAt);
+
+        ByteBuffer decoded = decode(token);
+        assertThat(decoded.remaining()).isEqualTo(1 + 16 + 1 + 4 + 4 + 1 + 7 + 64);
+        assertThat(decoded.get()).isEqualTo((byte) 1);
+        assertThat(new UUID(decoded.getLong(), decoded.getLong())).isEqualTo(user.getId());
+        assertThat(decoded.get()).isEqualTo((byte) 3);
+        assertThat(Integer.toUnsignedLong(decoded.getInt())).isEqualTo(NOW.getEpochSecond());
+        assertThat(Integer.toUnsignedLong(decoded.getInt())).isEqualTo(NOW.plus(Duration.ofDays(5)).getEpochSecond());
+        byte[] keyId = new byte[decoded.get()];
+        decoded.get(keyId);
+        assertThat(new String(keyId, StandardCharsets.UTF_8)).isEqualTo("2026-01");
+        assertThat(decoded.remaining()).isEqualTo(64);
+    }
+
+    @Test
+    void signatureVerifiesWithThePublishedKey() throws GeneralSecurityException {
+        PassTokenServiceImpl service = service(PassQrFormat.SIGNED_TOKEN, "2026-01");
+        byte[] token = decode(service.issueToken(user, LocalDateTime.ofInstant(NOW, ZoneOffset.UTC).plusDays(1))).array();
+
+        PassTokenKeyDto published = service.getVerificationKeys().getFirst();
+        assertThat(published.getKeyId()).isEqualTo("2026-01");
+        assertThat(published.isCurrent()).isTrue();
+
+        Signature signature = Signature.getInstance("Ed25519");
+        signature.initVerify(KeyFactory.getInstance("Ed25519")
+                .generatePublic(new X509EncodedKeySpec(Base64.getDecoder().decode(published.getPublicKey()))));
+        signature.update(token, 0, token.length - 64);
+        assertThat(signature.verify(token, token.length - 64, 64)).isTrue();
+
+        // A single flipped bit (here: the clearance level) must break it.
+        token[17] ^= 1;
+        signature.update(token, 0, token.length - 64);
+        assertThat(signature.verify(token, token.length - 64, 64)).isFalse();
+    }
+
+    @Test
+    void capsTheExpiryAtTheMaximumLifetime() {
+        LocalDateTime farAway = LocalDateTime.ofInstant(NOW, ZoneOffset.UTC).plusYears(2);
+
+        ByteBuffer decoded = decode(service(PassQrFormat.SIGNED_TOKEN, "k").issueToken(user, farAway));
+
+        int issuedAt = decoded.getInt(18);
+        int expires = decoded.getInt(22);
+        assertThat(expires - issuedAt).isEqualTo(Duration.ofDays(MAX_TTL_DAYS).toSeconds());
+    }
+
+    @Test
+    void signedQrContentExpiresWithTheEarliestTraining() {
+        LocalDateTime today = LocalDateTime.ofInstant(NOW, ZoneOffset.UTC);
+        List<UserTrainingDto> trainings = List.of(
+                UserTrainingDto.builder().validUntil(today.plusDays(20)).build(),
+                UserTrainingDto.builder().validUntil(today.plusDays(3)).build(),
+                UserTrainingDto.builder().build());
+
+        ByteBuffer decoded = decode(service(PassQrFormat.SIGNED_TOKEN, "k").getQrContent(user, trainings));
+
+        assertThat(Integer.toUnsignedLong(decoded.getInt(22))).isEqualTo(NOW.plus(Duration.ofDays(3)).getEpochSecond());
+    }
+
+    @Test
+    void uuidQrContentIsTheUserId() {
+        PassTokenServiceImpl service = new PassTokenServiceImpl(CLOCK, PassQrFormat.UUID, "default", "", "", List.of(), MAX_TTL_DAYS);
+
+        assertThat(service.getQrContent(user, List.of())).isEqualTo(user.getId().toString());
+    }
+
+    @Test
+    void refusesSignedTokensWithoutAConfiguredKey() {
+        String publicKey = encode(keys.getPublic().getEncoded());
+
+        assertThatThrownBy(() -> new PassTokenServiceImpl(CLOCK, PassQrFormat.SIGNED_TOKEN, "k", "", "", List.of(), MAX_TTL_DAYS))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("app.pass.token.private-key");
+        assertThatThrownBy(() -> new PassTokenServiceImpl(CLOCK, PassQrFormat.SIGNED_TOKEN, "k", " ", publicKey, List.of(), MAX_TTL_DAYS))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void publishesRetiredKeysAfterTheCurrentOne() {
+        String retired = encode(generateKeyPair().getPublic().getEncoded());
+
+        List<PassTokenKeyDto> published = new PassTokenServiceImpl(CLOCK, PassQrFormat.SIGNED_TOKEN, "2026-02",
+                encode(keys.getPrivate().getEncoded()), encode(keys.getPublic().getEncoded()),
+                List.of("2026-01:" + retired, " "), MAX_TTL_DAYS).getVerificationKeys();
+
+        assertThat(published).extracting(PassTokenKeyDto::getKeyId).containsExactly("2026-02", "2026-01");
+        assertThat(published.get(1).isCurrent()).isFalse();
+        assertThat(published.get(1).getPublicKey()).isEqualTo(retired);
+    }
+
+    @Test
+    void rejectsInvalidKeyIds() {
+        assertThatThrownBy(() -> service(PassQrFormat.SIGNED_TOKEN, ""))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> service(PassQrFormat.SIGNED_TOKEN, "x".repeat(33)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private PassTokenServiceImpl service(PassQrFormat format, String keyId) {
+        return new PassTokenServiceImpl(CLOCK, format, keyId,
+                encode(keys.getPrivate().getEncoded()), encode(keys.getPublic().getEncoded()), List.of(), MAX_TTL_DAYS);
+    }
+
+    private static ByteBuffer decode(String token) {
+        assertThat(token).startsWith("FVPS1.");
+        return ByteBuffer.wrap(Base64.getUrlDecoder().decode(token.substring("FVPS1.".length())));
+    }
+
+    private static String encode(byte[] key) {
+        return Base64.getEncoder().encodeToString(key);
+    }
+
+    private static KeyPair generateKeyPair() {
+        try {
+            return KeyPairGenerator.getInstance("Ed25519").generateKeyPair();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}